@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.back"
@@ -55,8 +56,25 @@ dependencies {
 
     // https://mvnrepository.com/artifact/org.springdoc/springdoc-openapi-starter-webmvc-ui
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
+
+    // 로컬 캐시 (Caffeine) + 캐시 적중률 등 메트릭 (Micrometer)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 마이크로 벤치마크 (src/jmh/java): ./gradlew jmh -> build/results/jmh/results.json
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    timeUnit.set("us")
+    benchmarkMode.set(listOf("avgt"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // 특정 벤치마크만 실행: ./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark
+    project.findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+}
@@ -0,0 +1,149 @@
+// 주요 사용자 흐름 부하 테스트 (k6)
+//
+// 1) 데이터 생성 + 서버 실행:  ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+// 2) 부하 테스트 실행:         k6 run loadtest/main-flows.js
+//    옵션: -e BASE_URL=http://localhost:8080 -e VUS=50 -e DURATION=2m -e USERS=10000 -e PRODUCTS=1000000
+//
+// 엔드포인트(name 태그)별 처리량(req/s)과 p50/p99 지연 시간을 요약 표로 출력합니다.
+// 요약은 build/loadtest/summary.json에도 저장됩니다.
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERS = Number(__ENV.USERS || 10000);         // loadtest.data.users
+const PRODUCTS = Number(__ENV.PRODUCTS || 1000000); // loadtest.data.products
+const PASSWORD = __ENV.PASSWORD || 'loadtest1234';  // loadtest.data.password
+const LOGIN_USERS = Number(__ENV.LOGIN_USERS || 50); // setup에서 로그인해 나눠 쓸 사용자 수
+
+const ENDPOINTS = ['browse', 'search', 'product_detail', 'add_to_cart', 'checkout', 'admin_daily_sales', 'admin_product_stats'];
+
+export const options = {
+    scenarios: {
+        shoppers: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.VUS || 50),
+            duration: __ENV.DURATION || '2m',
+            exec: 'shopper',
+        },
+        admins: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.ADMIN_VUS || 2),
+            duration: __ENV.DURATION || '2m',
+            exec: 'admin',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+    // 태그별 서브 메트릭이 요약에 나오도록 엔드포인트마다 임계값을 둡니다.
+    thresholds: Object.fromEntries(ENDPOINTS.flatMap((name) => [
+        [`http_req_duration{name:${name}}`, ['p(99)<2000']],
+        [`http_reqs{name:${name}}`, ['count>=0']],
+    ]).concat([['http_req_failed', ['rate<0.01']]])),
+};
+
+function randomInt(min, max) {
+    return Math.floor(Math.random() * (max - min + 1)) + min;
+}
+
+function login(email) {
+    const res = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({ email, password: PASSWORD }), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'login' },
+    });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return res.headers['Authorization'];
+}
+
+function authHeaders(token) {
+    return { headers: { Authorization: token, 'Content-Type': 'application/json' } };
+}
+
+export function setup() {
+    const users = [];
+    for (let i = 0; i < LOGIN_USERS; i++) {
+        const id = randomInt(2, USERS);
+        users.push({ id, token: login(`user${id}@loadtest.com`) });
+    }
+    return { users, adminToken: login('admin@loadtest.com') };
+}
+
+// 일반 사용자: 목록 -> 검색 -> 상세 -> 장바구니 담기 -> 주문
+export function shopper(data) {
+    const user = data.users[(__VU - 1) % data.users.length];
+    const params = authHeaders(user.token);
+
+    const browse = http.get(`${BASE_URL}/api/v1/products/cursor?size=20`, { tags: { name: 'browse' } });
+    check(browse, { 'browse 200': (r) => r.status === 200 });
+
+    const keyword = encodeURIComponent(`상품 ${randomInt(1, 999)}`);
+    const search = http.get(`${BASE_URL}/api/v1/products/search/cursor?name=${keyword}&size=20`, { tags: { name: 'search' } });
+    check(search, { 'search 200': (r) => r.status === 200 });
+
+    const productId = randomInt(1, PRODUCTS);
+    const detail = http.get(`${BASE_URL}/api/v1/products/${productId}`, { tags: { name: 'product_detail' } });
+    if (!check(detail, { 'product_detail 200': (r) => r.status === 200 })) {
+        return;
+    }
+    const price = detail.json('price');
+
+    const addToCart = http.post(`${BASE_URL}/api/v1/carts/items?userId=${user.id}`,
+        JSON.stringify({ productId, quantity: 1 }),
+        Object.assign({ tags: { name: 'add_to_cart' } }, params));
+    check(addToCart, { 'add_to_cart 2xx': (r) => r.status >= 200 && r.status < 300 });
+
+    const checkout = http.post(`${BASE_URL}/api/v1/orders`,
+        JSON.stringify({
+            userId: user.id,
+            deliveryId: randomInt(1, 1000),
+            address: '서울시 부하구',
+            items: [{ productId, quantity: 1, unitPrice: price }],
+        }),
+        Object.assign({ tags: { name: 'checkout' } }, params));
+    check(checkout, { 'checkout 201': (r) => r.status === 201 });
+
+    sleep(1);
+}
+
+// 관리자: 일별 매출 / 상품별 판매 통계
+export function admin(data) {
+    const params = authHeaders(data.adminToken);
+    const end = new Date();
+    const start = new Date(end.getTime() - 30 * 24 * 60 * 60 * 1000);
+    const range = `startDate=${start.toISOString().slice(0, 10)}&endDate=${end.toISOString().slice(0, 10)}`;
+
+    const dailySales = http.get(`${BASE_URL}/api/v1/admin/statistics/daily-sales?${range}`,
+        Object.assign({ tags: { name: 'admin_daily_sales' } }, params));
+    check(dailySales, { 'admin_daily_sales 200': (r) => r.status === 200 });
+
+    const productStats = http.get(`${BASE_URL}/api/v1/admin/statistics/products?${range}&top=20`,
+        Object.assign({ tags: { name: 'admin_product_stats' } }, params));
+    check(productStats, { 'admin_product_stats 200': (r) => r.status === 200 });
+
+    sleep(5);
+}
+
+export function handleSummary(data) {
+    const durationSeconds = data.state.testRunDurationMs / 1000;
+    const rows = ENDPOINTS.map((name) => {
+        const reqs = data.metrics[`http_reqs{name:${name}}`];
+        const latency = data.metrics[`http_req_duration{name:${name}}`];
+        const count = reqs ? reqs.values.count : 0;
+        const values = latency ? latency.values : {};
+        return {
+            name,
+            count,
+            throughput: (count / durationSeconds).toFixed(1),
+            p50: (values['p(50)'] || 0).toFixed(1),
+            p99: (values['p(99)'] || 0).toFixed(1),
+        };
+    });
+
+    const header = 'endpoint'.padEnd(22) + 'requests'.padStart(10) + 'req/s'.padStart(10) + 'p50(ms)'.padStart(10) + 'p99(ms)'.padStart(10);
+    const lines = rows.map((row) => row.name.padEnd(22) + String(row.count).padStart(10)
+        + row.throughput.padStart(10) + row.p50.padStart(10) + row.p99.padStart(10));
+
+    return {
+        stdout: ['', header, ...lines, ''].join('\n'),
+        'build/loadtest/summary.json': JSON.stringify({ durationSeconds, endpoints: rows, metrics: data.metrics }, null, 2),
+    };
+}
@@ -0,0 +1,143 @@
+// 플랫폼 스레드 vs 가상 스레드 처리량 비교 (k6) - 주문/장바구니 엔드포인트, 높은 동시성
+//
+// 같은 데이터로 서버를 두 번 띄워 각각 측정한 뒤 요약을 비교합니다.
+// 스레드 방식만 달라지도록 두 실행 모두 Hikari 풀 크기/대기 시간을 같은 값으로 지정합니다.
+// (loadtest 프로파일은 풀 30, virtual-threads 프로파일은 풀 20 + 대기 3초라서 그대로 띄우면 풀 설정도 함께 바뀜)
+// 1) 플랫폼 스레드: ./gradlew bootRun --args='--spring.profiles.active=loadtest
+//                     --spring.datasource.hikari.maximum-pool-size=20 --spring.datasource.hikari.connection-timeout=3000'
+//    k6 run -e MODE=platform loadtest/virtual-threads.js
+// 2) 가상 스레드:   ./gradlew bootRun --args='--spring.profiles.active=loadtest,virtual-threads
+//                     --spring.datasource.hikari.maximum-pool-size=20 --spring.datasource.hikari.connection-timeout=3000'
+//    (두 번째부터는 LOADTEST_SCHEMA_INIT=never, loadtest.data.enabled=false로 기존 데이터 재사용)
+//    k6 run -e MODE=virtual loadtest/virtual-threads.js
+//    옵션: -e BASE_URL=http://localhost:8080 -e MAX_VUS=1000 -e STAGE=1m -e USERS=10000 -e PRODUCTS=1000000
+//          -e POOL_SIZE=20 (시작 전에 관리자 계정으로 서버의 hikaricp.connections.max를 확인하고, 다르면 측정하지 않음)
+//
+// 요약은 build/loadtest/virtual-threads-{MODE}.json에 저장되며, 엔드포인트별 req/s, p50/p99, 실패율을 출력합니다.
+// 서버의 executor/hikari 메트릭(/actuator/metrics/hikaricp.connections.pending 등)을 함께 확인하세요.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const USERS = Number(__ENV.USERS || 10000);
+const PRODUCTS = Number(__ENV.PRODUCTS || 1000000);
+const PASSWORD = __ENV.PASSWORD || 'loadtest1234';
+const LOGIN_USERS = Number(__ENV.LOGIN_USERS || 200);
+const MAX_VUS = Number(__ENV.MAX_VUS || 1000); // Tomcat 기본 스레드 수(200)보다 충분히 큰 동시성
+const STAGE = __ENV.STAGE || '1m';
+const POOL_SIZE = Number(__ENV.POOL_SIZE || 20);
+
+const ENDPOINTS = ['my_orders', 'order_detail', 'get_cart', 'add_to_cart'];
+
+export const options = {
+    scenarios: {
+        concurrency: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: STAGE, target: Math.floor(MAX_VUS / 4) },
+                { duration: STAGE, target: Math.floor(MAX_VUS / 2) },
+                { duration: STAGE, target: MAX_VUS },
+                { duration: STAGE, target: MAX_VUS },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+    thresholds: Object.fromEntries(ENDPOINTS.flatMap((name) => [
+        [`http_req_duration{name:${name}}`, ['p(99)>=0']],
+        [`http_reqs{name:${name}}`, ['count>=0']],
+        [`http_req_failed{name:${name}}`, ['rate>=0']],
+    ])),
+};
+
+function randomInt(min, max) {
+    return Math.floor(Math.random() * (max - min + 1)) + min;
+}
+
+function login(email) {
+    const res = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({ email, password: PASSWORD }), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'login' },
+    });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return res.headers['Authorization'];
+}
+
+// 두 실행의 풀 크기가 다르면 스레드 방식이 아니라 풀 설정 차이를 비교하게 되므로 측정 전에 확인합니다.
+function verifyPoolSize() {
+    const token = login('admin@loadtest.com');
+    const res = http.get(`${BASE_URL}/actuator/metrics/hikaricp.connections.max`, {
+        headers: { Authorization: token },
+        tags: { name: 'pool_check' },
+    });
+    const max = res.status === 200 ? res.json().measurements[0].value : NaN;
+    if (max !== POOL_SIZE) {
+        throw new Error(`Hikari 풀 크기가 ${max}입니다. 두 실행 모두 ${POOL_SIZE}로 띄우세요. (-e POOL_SIZE로 변경)`);
+    }
+}
+
+export function setup() {
+    verifyPoolSize();
+    const users = [];
+    for (let i = 0; i < LOGIN_USERS; i++) {
+        const id = randomInt(2, USERS);
+        users.push({ id, token: login(`user${id}@loadtest.com`) });
+    }
+    return { users };
+}
+
+// 쉬는 시간 없이 반복: 서버가 처리할 수 있는 최대 처리량을 측정합니다.
+export default function (data) {
+    const user = data.users[(__VU - 1) % data.users.length];
+    const params = { headers: { Authorization: user.token, 'Content-Type': 'application/json' } };
+
+    const orders = http.get(`${BASE_URL}/api/v1/orders`, Object.assign({ tags: { name: 'my_orders' } }, params));
+    check(orders, { 'my_orders 200': (r) => r.status === 200 });
+
+    const list = orders.status === 200 ? orders.json() : [];
+    if (Array.isArray(list) && list.length > 0) {
+        const orderId = list[randomInt(0, list.length - 1)].orderId;
+        const detail = http.get(`${BASE_URL}/api/v1/orders/${orderId}`, Object.assign({ tags: { name: 'order_detail' } }, params));
+        check(detail, { 'order_detail 200': (r) => r.status === 200 });
+    }
+
+    const cart = http.get(`${BASE_URL}/api/v1/carts?userId=${user.id}`, Object.assign({ tags: { name: 'get_cart' } }, params));
+    check(cart, { 'get_cart 200': (r) => r.status === 200 });
+
+    const addToCart = http.post(`${BASE_URL}/api/v1/carts/items?userId=${user.id}`,
+        JSON.stringify({ productId: randomInt(1, PRODUCTS), quantity: 1 }),
+        Object.assign({ tags: { name: 'add_to_cart' } }, params));
+    check(addToCart, { 'add_to_cart 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function handleSummary(data) {
+    const durationSeconds = data.state.testRunDurationMs / 1000;
+    const rows = ENDPOINTS.map((name) => {
+        const reqs = data.metrics[`http_reqs{name:${name}}`];
+        const latency = data.metrics[`http_req_duration{name:${name}}`];
+        const failed = data.metrics[`http_req_failed{name:${name}}`];
+        const count = reqs ? reqs.values.count : 0;
+        const values = latency ? latency.values : {};
+        return {
+            name,
+            count,
+            throughput: (count / durationSeconds).toFixed(1),
+            p50: (values['p(50)'] || 0).toFixed(1),
+            p99: (values['p(99)'] || 0).toFixed(1),
+            failedRate: ((failed ? failed.values.rate : 0) * 100).toFixed(2),
+        };
+    });
+
+    const header = `[${MODE}] max VUs ${MAX_VUS}\n` + 'endpoint'.padEnd(16) + 'requests'.padStart(10)
+        + 'req/s'.padStart(10) + 'p50(ms)'.padStart(10) + 'p99(ms)'.padStart(10) + 'fail(%)'.padStart(10);
+    const lines = rows.map((row) => row.name.padEnd(16) + String(row.count).padStart(10) + row.throughput.padStart(10)
+        + row.p50.padStart(10) + row.p99.padStart(10) + row.failedRate.padStart(10));
+
+    return {
+        stdout: ['', header, ...lines, ''].join('\n'),
+        [`build/loadtest/virtual-threads-${MODE}.json`]: JSON.stringify({ mode: MODE, maxVus: MAX_VUS, durationSeconds, endpoints: rows }, null, 2),
+    };
+}
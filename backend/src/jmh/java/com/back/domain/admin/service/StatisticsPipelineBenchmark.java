@@ -0,0 +1,91 @@
+package com.back.domain.admin.service;
+
+import com.back.domain.admin.dto.OrderStatisticsResponseDto;
+import com.back.domain.admin.dto.PageResponseDto;
+import com.back.domain.order.entity.DailySalesRollup;
+import com.back.domain.order.entity.DailySalesRollupId;
+import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.order.repository.DailySalesRollupRepository;
+import com.back.domain.order.repository.OrderItemRepository;
+import com.back.domain.order.service.DailySalesRollupService;
+import com.back.domain.user.dto.UserResponse;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.back.support.RepositoryStubs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 관리자 통계/목록 서비스의 메모리 내 변환 파이프라인 비용 (리포지토리는 고정 데이터 스텁).
+ * - AdminService.getAllUsers: 사용자 페이지 -> UserResponse (Collectors.toList)
+ * - OrderService.getOrderStatistics: 일별 집계 행 -> OrderStatisticsResponseDto (DailySalesRollupService에 위임)
+ */
+@State(Scope.Benchmark)
+public class StatisticsPipelineBenchmark {
+
+    private static final int USER_PAGE_SIZE = 100;
+    private static final int STATISTICS_DAYS = 90;
+
+    private AdminService adminService;
+    private DailySalesRollupService dailySalesRollupService;
+    private Pageable userPageable;
+    private LocalDate startDate;
+    private LocalDate endDate;
+
+    @Setup
+    public void setUp() {
+        List<User> users = new ArrayList<>(USER_PAGE_SIZE);
+        for (int i = 1; i <= USER_PAGE_SIZE; i++) {
+            users.add(User.builder()
+                    .id(i)
+                    .name("유저" + i)
+                    .email("user" + i + "@test.com")
+                    .address("서울시 랜덤구" + i)
+                    .phone("010-" + (1000 + i) + "-" + (2000 + i))
+                    .build());
+        }
+        userPageable = PageRequest.of(0, USER_PAGE_SIZE);
+        Page<User> userPage = new PageImpl<>(users, userPageable, 10_000);
+
+        endDate = LocalDate.of(2025, 6, 30);
+        startDate = endDate.minusDays(STATISTICS_DAYS - 1);
+        List<DailySalesRollup> rollups = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            for (OrderStatus status : OrderStatus.values()) {
+                rollups.add(new DailySalesRollup(new DailySalesRollupId(date, status), 120L, 3_600_000L));
+            }
+        }
+
+        UserRepository userRepository = RepositoryStubs.stub(UserRepository.class, "findAll", args -> userPage);
+        DailySalesRollupRepository rollupRepository =
+                RepositoryStubs.stub(DailySalesRollupRepository.class, "findByDateRange", args -> rollups);
+
+        dailySalesRollupService = new DailySalesRollupService(rollupRepository);
+        adminService = new AdminService(
+                userRepository,
+                RepositoryStubs.stub(OrderItemRepository.class, "none", args -> null),
+                dailySalesRollupService,
+                event -> { } // 사용자 수정 이벤트는 벤치마크 대상 아님
+        );
+    }
+
+    @Benchmark
+    public PageResponseDto<UserResponse> adminGetAllUsers() {
+        return adminService.getAllUsers(userPageable, null);
+    }
+
+    @Benchmark
+    public List<OrderStatisticsResponseDto> orderStatistics() {
+        return dailySalesRollupService.getOrderStatistics(startDate, endDate);
+    }
+}
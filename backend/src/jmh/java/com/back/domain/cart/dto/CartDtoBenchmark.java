@@ -0,0 +1,44 @@
+package com.back.domain.cart.dto;
+
+import com.back.domain.cart.entity.Cart;
+import com.back.domain.cart.entity.CartItem;
+import com.back.domain.product.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// 장바구니 응답 변환 + 총 수량/금액 계산 비용
+@State(Scope.Benchmark)
+public class CartDtoBenchmark {
+
+    @Param({"10", "100"})
+    private int itemCount;
+
+    private Cart cart;
+
+    @Setup
+    public void setUp() {
+        cart = Cart.builder().id(1).build();
+        for (int i = 1; i <= itemCount; i++) {
+            Product product = Product.builder()
+                    .id(i)
+                    .name("상품 " + i)
+                    .price(10000 + i)
+                    .stock(100)
+                    .build();
+            cart.getCartItems().add(CartItem.builder()
+                    .id(i)
+                    .cart(cart)
+                    .product(product)
+                    .quantity(1 + i % 5)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public CartDto cartDtoFrom() {
+        return CartDto.from(cart);
+    }
+}
@@ -0,0 +1,72 @@
+package com.back.domain.product.dto;
+
+import com.back.domain.product.dto.category.CategoryResponseDto;
+import com.back.domain.product.dto.product.ProductResponseDto;
+import com.back.domain.product.entity.Category;
+import com.back.domain.product.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 상품 목록/카테고리 트리 응답 매핑 비용
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int productCount;
+
+    private List<Product> products;
+    private List<Category> rootCategories;
+
+    @Setup
+    public void setUp() {
+        rootCategories = new ArrayList<>();
+        List<Category> leafCategories = new ArrayList<>();
+        int categoryId = 1;
+        for (int i = 0; i < 10; i++) {
+            Category root = Category.builder().id(categoryId++).name("상위 카테고리 " + i).build();
+            for (int j = 0; j < 10; j++) {
+                Category child = Category.builder().id(categoryId++).name("하위 카테고리 " + i + "-" + j).parent(root).build();
+                root.getChildren().add(child);
+                leafCategories.add(child);
+            }
+            rootCategories.add(root);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        products = new ArrayList<>(productCount);
+        for (int i = 1; i <= productCount; i++) {
+            products.add(Product.builder()
+                    .id(i)
+                    .name("상품 " + i)
+                    .imageUrl("https://dummyimg.com/" + i + ".jpg")
+                    .price(10000 + i)
+                    .stock(i % 100)
+                    .description("상품 설명 " + i)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .category(leafCategories.get(i % leafCategories.size()))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> productResponseDtoFrom() {
+        return products.stream()
+                .map(ProductResponseDto::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<CategoryResponseDto> categoryResponseDtoFrom() {
+        return rootCategories.stream()
+                .map(CategoryResponseDto::from)
+                .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.back.domain.product.repository;
+
+import com.back.domain.product.service.InventoryService.LockMode;
+import com.back.global.retry.OptimisticLockRetry;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 주문 재고 차감 1건 비용을 잠금 방식별로 비교합니다. (인메모리 H2, 8스레드 동시 실행)
+ * - PESSIMISTIC: SELECT ... FOR UPDATE 후 조건부 UPDATE (OrderService 기본 모드)
+ * - OPTIMISTIC: 잠금 없이 읽고 버전 조건 UPDATE, 충돌하면 OptimisticLockRetry로 재시도
+ * hotProducts가 1이면 모든 스레드가 한 상품에 몰리는 경합 상황, 클수록 경합이 줄어듭니다.
+ * 실제 DB(MySQL)의 잠금 비용과는 다르므로 두 방식의 상대 비교용으로만 봅니다.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class StockLockModeBenchmark {
+
+    private static final String SELECT_FOR_UPDATE_SQL = "SELECT stock FROM product WHERE id = ? FOR UPDATE";
+    private static final String SELECT_VERSION_SQL = "SELECT version FROM product WHERE id = ?";
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC"})
+    private LockMode lockMode;
+
+    @Param({"1", "16"})
+    private int hotProducts;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ProductStockRepository productStockRepository;
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:stock-lock-benchmark;MODE=MySQL;LOCK_TIMEOUT=10000");
+        dataSource.setMaximumPoolSize(16);
+        dataSource.setAutoCommit(false);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        productStockRepository = new ProductStockRepository(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate));
+        // 경합이 심해도 측정 중 재시도 한도에 걸리지 않도록 한도를 넉넉히 둡니다.
+        optimisticLockRetry = new OptimisticLockRetry(transactionManager, new SimpleMeterRegistry(),
+                100, Duration.ofMillis(1), Duration.ofMillis(20));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS product");
+            jdbcTemplate.execute("CREATE TABLE product (id INT PRIMARY KEY, stock INT NOT NULL, "
+                    + "version BIGINT NOT NULL DEFAULT 0)");
+            for (int id = 1; id <= hotProducts; id++) {
+                jdbcTemplate.update("INSERT INTO product (id, stock) VALUES (?, ?)", id, Integer.MAX_VALUE);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int decreaseStock() {
+        int productId = 1 + ThreadLocalRandom.current().nextInt(hotProducts);
+        SortedMap<Integer, Integer> quantities = new TreeMap<>(Map.of(productId, 1));
+
+        if (lockMode == LockMode.PESSIMISTIC) {
+            return transactionTemplate.execute(status -> {
+                jdbcTemplate.queryForObject(SELECT_FOR_UPDATE_SQL, Integer.class, productId);
+                return productStockRepository.decreaseStocks(quantities)[0];
+            });
+        }
+        return optimisticLockRetry.execute("benchmark", () -> {
+            Long version = jdbcTemplate.queryForObject(SELECT_VERSION_SQL, Long.class, productId);
+            int updated = productStockRepository.decreaseStocksIfUnchanged(quantities, Map.of(productId, version))[0];
+            if (updated == 0) {
+                throw new OptimisticLockingFailureException("product " + productId);
+            }
+            return updated;
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package com.back.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+
+// 요청마다 JWT 필터에서 실행되는 토큰 파싱/인증 객체 생성 비용
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationCache jwtAuthenticationCache;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+                "3f1e2a0e-8e8f-4c0a-9d3f-b3fae09e6d5a",
+                Duration.ofMinutes(15),
+                Duration.ofDays(7)
+        );
+        jwtAuthenticationCache = new JwtAuthenticationCache(10_000, Duration.ofSeconds(30), Clock.systemUTC());
+        accessToken = jwtTokenProvider.generateAccessToken(2, "유저1", "user1@test.com", "USER");
+    }
+
+    // parseClaims (private)와 같은 경로
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtTokenProvider.getAllClaims(accessToken);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    // 이전 필터 경로: validateToken + getAuthentication (파싱/서명 검증 2회)
+    @Benchmark
+    public Authentication validateThenGetAuthentication() {
+        jwtTokenProvider.validateToken(accessToken);
+        return jwtTokenProvider.getAuthentication(accessToken);
+    }
+
+    // 캐시 미스 시 필터 경로 (파싱/서명 검증 1회)
+    @Benchmark
+    public Authentication authenticate() {
+        return jwtTokenProvider.authenticate(accessToken).authentication();
+    }
+
+    // 캐시 적중 시 필터 경로 (SHA-256 해시 + 조회)
+    @Benchmark
+    public Authentication cachedAuthenticate() {
+        return jwtAuthenticationCache.get(accessToken, jwtTokenProvider::authenticate).authentication();
+    }
+}
@@ -0,0 +1,29 @@
+package com.back.support;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 리포지토리 스텁.
+ * 지정한 이름의 메서드만 고정 데이터로 응답하고, 나머지 호출은 예외로 알려 측정 대상 밖의 의존성을 드러냅니다.
+ */
+public final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T stub(Class<T> type, String methodName, Function<Object[], Object> answer) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals(methodName)) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "toString" -> type.getSimpleName() + "Stub";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            };
+        });
+    }
+}
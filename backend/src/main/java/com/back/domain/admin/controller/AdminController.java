@@ -1,9 +1,12 @@
 package com.back.domain.admin.controller;
 
 import com.back.domain.admin.dto.PageResponseDto;
+import com.back.domain.admin.dto.ProductSalesStatisticsResponseDto;
+import com.back.domain.admin.dto.SalesStatisticsResponseDto;
 import com.back.domain.admin.service.AdminService;
 import com.back.domain.user.dto.UpdateUserRequest;
 import com.back.domain.user.dto.UserResponse;
+import com.back.global.metrics.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -11,11 +14,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
@@ -69,6 +75,63 @@ public class AdminController {
         return ResponseEntity.ok(updatedUser);
     }
 
+    /**
+     * 관리자 - 기간 내 일별 매출 합계를 조회합니다. (일별 집계 테이블 기반)
+     *
+     * @param startDate 조회 시작일
+     * @param endDate 조회 종료일
+     * @return 일별 매출 통계 목록
+     */
+    @GetMapping("/statistics/daily-sales")
+    @Operation(summary = "관리자 - 일별 매출 통계",
+            description = "지정된 기간의 일별 매출 합계를 조회합니다. 주문 대신 일별 집계 테이블을 읽습니다.")
+    @QueryBudget(1)
+    public ResponseEntity<List<SalesStatisticsResponseDto>> getDailySalesStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(adminService.getDailySalesStatistics(startDate, endDate));
+    }
+
+    /**
+     * 관리자 - 기간 내 일별 집계를 주문 테이블 기준으로 다시 계산합니다.
+     *
+     * @param startDate 재계산 시작일
+     * @param endDate 재계산 종료일
+     * @return 생성된 집계 행 수
+     */
+    @PostMapping("/statistics/daily-sales/rebuild")
+    @Operation(summary = "관리자 - 일별 집계 재계산 (백필)",
+            description = "지정된 기간의 일별 주문 집계를 주문 테이블에서 다시 계산합니다. 집계 도입 이전 데이터 백필이나 보정에 사용합니다.")
+    public ResponseEntity<Map<String, Integer>> rebuildDailySalesRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        int rows = adminService.rebuildDailySalesRollup(startDate, endDate);
+        return ResponseEntity.ok(Map.of("rebuiltRows", rows));
+    }
+
+    /**
+     * 관리자 - 상품별 판매량/판매액 통계를 조회합니다.
+     *
+     * @param startDate 주문일 시작 (선택)
+     * @param endDate 주문일 종료 (선택)
+     * @param categoryId 카테고리 ID (선택, 하위 카테고리 포함)
+     * @param top 상위 N개 (선택)
+     * @param pageable 페이지네이션 정보
+     * @return 상품별 판매 통계와 페이지 정보를 담은 응답
+     */
+    @GetMapping("/statistics/products")
+    @Operation(summary = "관리자 - 상품별 판매 통계",
+            description = "상품별 총 판매량과 판매액을 판매액 내림차순으로 조회합니다. 기간, 카테고리, 상위 N개 조건을 지정할 수 있습니다.")
+    @QueryBudget(2)
+    public ResponseEntity<PageResponseDto<ProductSalesStatisticsResponseDto>> getProductSalesStatistics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer categoryId,
+            @RequestParam(required = false) Integer top,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(adminService.getProductSalesStatistics(startDate, endDate, categoryId, top, pageable));
+    }
+
     /**
      * NoSuchElementException (예: 리소스를 찾을 수 없을 때) 예외를 처리합니다.
      * HTTP Status 404 Not Found를 반환합니다.
@@ -1,26 +1,37 @@
 package com.back.domain.admin.controller;
 
+import com.back.domain.admin.dto.BulkResultDto;
 import com.back.domain.admin.dto.OrderStatisticsResponseDto;
 import com.back.domain.admin.dto.PageResponseDto;
+import com.back.domain.order.dto.export.OrderExportFormat;
 import com.back.domain.order.dto.order.OrderDetailDTO;
 import com.back.domain.order.dto.order.OrderListDTO;
+import com.back.domain.order.dto.order.OrderStatusBulkUpdateDTO;
 import com.back.domain.order.dto.order.OrderStatusUpdateDTO;
 import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.order.service.OrderExportService;
 import com.back.domain.order.service.OrderService;
+import com.back.global.config.AsyncTimeoutConfig;
+import com.back.global.metrics.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -31,10 +42,12 @@ import java.util.List;
 public class AdminOrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
 
     @GetMapping
     @Operation(summary = "관리자 - 모든 주문 조회 (페이징)",
             description = "모든 사용자의 주문 목록을 조회합니다. 페이지네이션, 검색, 필터링이 가능합니다.")
+    @QueryBudget(2)
     public ResponseEntity<PageResponseDto<OrderListDTO>> getAllOrders(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
@@ -50,6 +63,7 @@ public class AdminOrderController {
     @GetMapping("/all")
     @Operation(summary = "관리자 - 모든 주문 조회 (전체)",
             description = "모든 사용자의 주문 목록을 페이징 없이 전체 조회합니다.")
+    @QueryBudget(1)
     public ResponseEntity<List<OrderListDTO>> getAllOrdersWithoutPaging(
             @Parameter(description = "주문 상태 필터") @RequestParam(required = false) OrderStatus status
     ) {
@@ -62,9 +76,40 @@ public class AdminOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "관리자 - 주문 내보내기 (스트리밍)",
+            description = "조건에 맞는 주문과 주문 항목을 CSV(항목당 1행) 또는 NDJSON(주문당 1줄)으로 스트리밍 다운로드합니다.")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @Parameter(description = "형식 (csv, ndjson)") @RequestParam(defaultValue = "csv") String format,
+            @Parameter(description = "주문 상태 필터") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletRequest request
+    ) {
+        OrderExportFormat exportFormat = OrderExportFormat.from(format);
+        LocalDateTime from = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime to = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+
+        // 응답 스트림에 직접 쓰며, 조회 트랜잭션은 스트리밍 스레드에서 열립니다.
+        // 대용량 내보내기는 오래 걸리므로 이 요청에만 긴 비동기 시간 제한을 둡니다.
+        request.setAttribute(AsyncTimeoutConfig.TIMEOUT_ATTRIBUTE, orderExportService.getTimeout());
+        StreamingResponseBody body = outputStream ->
+                orderExportService.export(exportFormat, status, from, to, outputStream);
+
+        String filename = "orders-" + LocalDate.now() + "." + exportFormat.extension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/statistics")
     @Operation(summary = "관리자 - 주문 통계 조회",
             description = "지정된 기간의 주문 통계를 조회합니다.")
+    @QueryBudget(1)
     public ResponseEntity<List<OrderStatisticsResponseDto>> getOrderStatistics(
             @Parameter(description = "시작 날짜 (yyyy-MM-dd)")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -86,6 +131,13 @@ public class AdminOrderController {
         return ResponseEntity.ok(updatedOrder);
     }
 
+    @PatchMapping("/status")
+    @Operation(summary = "관리자 - 주문 상태 일괄 변경",
+            description = "여러 주문의 상태를 한 번에 변경합니다. (최대 1000건) 항목별 성공/건너뜀/실패 결과를 반환합니다.")
+    public ResponseEntity<BulkResultDto> updateOrderStatuses(@Valid @RequestBody OrderStatusBulkUpdateDTO dto) {
+        return ResponseEntity.ok(orderService.updateOrderStatuses(dto.updates()));
+    }
+
     @GetMapping("/{orderId}")
     @Operation(summary = "관리자 - 특정 주문 상세 조회",
             description = "관리자가 특정 주문의 상세 정보를 조회합니다.")
@@ -1,15 +1,21 @@
 package com.back.domain.admin.controller;
 
+import com.back.domain.admin.dto.BulkResultDto;
 import com.back.domain.product.dto.product.ProductRequestDto;
 import com.back.domain.product.dto.product.ProductResponseDto;
+import com.back.domain.product.service.ProductImportService;
 import com.back.domain.product.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -18,6 +24,7 @@ import java.util.List;
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     // 상품 생성 API
     @PostMapping
@@ -28,6 +35,25 @@ public class AdminProductController {
         return new ResponseEntity<>(createdProduct, HttpStatus.CREATED);
     }
 
+    // 상품 일괄 생성 API (JSON 배열)
+    @PostMapping("/bulk")
+    @Operation(summary = "관리자 - 상품 일괄 생성",
+            description = "상품 목록을 한 번에 생성합니다. 검증에 실패한 항목은 건너뛰고 항목별 결과를 반환합니다.")
+    public ResponseEntity<BulkResultDto> createProducts(@RequestBody List<ProductRequestDto> requestDtos) {
+        return ResponseEntity.ok(productImportService.importProducts(requestDtos));
+    }
+
+    // 상품 CSV 가져오기 API
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "관리자 - 상품 CSV 가져오기",
+            description = "CSV 파일(UTF-8, 헤더: name,image_url,price,stock,description,category_id)의 상품을 일괄 생성합니다. " +
+                    "검증에 실패한 행은 건너뛰고 행별 결과를 반환합니다.")
+    public ResponseEntity<BulkResultDto> importProducts(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ResponseEntity.ok(productImportService.importCsv(inputStream));
+        }
+    }
+
     // 특정 ID의 상품 수정 API
     @PutMapping("/{id}")
     @Operation(summary = "관리자 - 상품 정보 수정",
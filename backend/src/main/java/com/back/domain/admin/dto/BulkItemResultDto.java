@@ -0,0 +1,27 @@
+package com.back.domain.admin.dto;
+
+// 일괄 처리 요청의 행 단위 결과. row는 요청 내 순번(1부터, CSV는 헤더 제외 데이터 행 번호)입니다.
+public record BulkItemResultDto(
+        int row,
+        Integer id,
+        Status status,
+        String message
+) {
+    public enum Status {
+        SUCCESS,
+        SKIPPED, // 변경 사항 없음
+        FAILED
+    }
+
+    public static BulkItemResultDto success(int row, Integer id) {
+        return new BulkItemResultDto(row, id, Status.SUCCESS, null);
+    }
+
+    public static BulkItemResultDto skipped(int row, Integer id, String message) {
+        return new BulkItemResultDto(row, id, Status.SKIPPED, message);
+    }
+
+    public static BulkItemResultDto failed(int row, Integer id, String message) {
+        return new BulkItemResultDto(row, id, Status.FAILED, message);
+    }
+}
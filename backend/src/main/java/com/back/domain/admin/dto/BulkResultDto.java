@@ -0,0 +1,30 @@
+package com.back.domain.admin.dto;
+
+import java.util.Comparator;
+import java.util.List;
+
+// 일괄 처리 결과 요약 + 행 단위 결과 (row 순)
+public record BulkResultDto(
+        int total,
+        int succeeded,
+        int skipped,
+        int failed,
+        List<BulkItemResultDto> results
+) {
+    public static BulkResultDto of(List<BulkItemResultDto> results) {
+        List<BulkItemResultDto> sorted = results.stream()
+                .sorted(Comparator.comparingInt(BulkItemResultDto::row))
+                .toList();
+        return new BulkResultDto(
+                sorted.size(),
+                count(sorted, BulkItemResultDto.Status.SUCCESS),
+                count(sorted, BulkItemResultDto.Status.SKIPPED),
+                count(sorted, BulkItemResultDto.Status.FAILED),
+                sorted
+        );
+    }
+
+    private static int count(List<BulkItemResultDto> results, BulkItemResultDto.Status status) {
+        return (int) results.stream().filter(result -> result.status() == status).count();
+    }
+}
@@ -3,22 +3,22 @@ package com.back.domain.admin.service;
 import com.back.domain.admin.dto.PageResponseDto;
 import com.back.domain.admin.dto.ProductSalesStatisticsResponseDto;
 import com.back.domain.admin.dto.SalesStatisticsResponseDto;
-import com.back.domain.order.entity.Order;
-import com.back.domain.order.entity.OrderItem;
 import com.back.domain.order.repository.OrderItemRepository;
-import com.back.domain.order.repository.OrderRepository;
+import com.back.domain.order.service.DailySalesRollupService;
 import com.back.domain.user.dto.UpdateUserRequest;
 import com.back.domain.user.dto.UserResponse;
 import com.back.domain.user.entity.User;
+import com.back.domain.user.event.UserChangedEvent;
 import com.back.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
@@ -29,8 +29,9 @@ import java.util.stream.Collectors;
 public class AdminService {
 
     private final UserRepository userRepository;
-    private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final DailySalesRollupService dailySalesRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 관리자 - 모든 사용자 목록을 페이지네이션 및 검색 기능과 함께 조회합니다.
@@ -91,6 +92,7 @@ public class AdminService {
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID: " + userId));
 
         user.updateProfile(request.name(), request.address(), request.phone());
+        eventPublisher.publishEvent(new UserChangedEvent(userId)); // 커밋 후 사용자 Claims 캐시 무효화
 
         return UserResponse.from(user);
     }
@@ -103,58 +105,60 @@ public class AdminService {
      * @return 일별 판매액 통계 목록
      */
     public List<SalesStatisticsResponseDto> getDailySalesStatistics(LocalDate startDate, LocalDate endDate) {
-        List<Order> allOrders = orderRepository.findByOrderDateBetween(
-                startDate.atStartOfDay(),
-                endDate.atTime(23, 59, 59)
-        );
+        // 주문 엔티티 대신 일별 집계 테이블(날짜 x 상태 행)만 읽습니다.
+        return dailySalesRollupService.getDailySales(startDate, endDate);
+    }
 
-        return allOrders.stream()
-                .collect(Collectors.groupingBy(
-                        order -> order.getOrderDate().toLocalDate(),
-                        Collectors.summingLong(order -> order.getTotalPrice().longValue())
-                ))
-                .entrySet().stream()
-                .map(entry -> new SalesStatisticsResponseDto(entry.getKey(), entry.getValue()))
-                .sorted(Comparator.comparing(SalesStatisticsResponseDto::date))
-                .collect(Collectors.toList());
+    /**
+     * 관리자 - 지정된 기간의 일별 주문 집계를 주문 테이블 기준으로 다시 계산합니다. (백필/보정용)
+     *
+     * @param startDate 재계산 시작일
+     * @param endDate 재계산 종료일
+     * @return 생성된 집계 행 수
+     */
+    @Transactional
+    public int rebuildDailySalesRollup(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        return dailySalesRollupService.rebuild(startDate, endDate);
     }
 
     /**
-     * 관리자 - 상품별 총 판매량 및 총 판매액 통계를 조회합니다.
+     * 관리자 - 상품별 총 판매량 및 총 판매액 통계를 조회합니다. (판매액 내림차순)
+     * 집계는 DB에서 GROUP BY로 처리하므로 주문 이력이 늘어나도 페이지 크기만큼만 메모리에 올립니다.
      *
-     * @return 상품별 판매 통계 목록
+     * @param startDate 주문일 시작 (null이면 제한 없음)
+     * @param endDate 주문일 종료 (null이면 제한 없음)
+     * @param categoryId 카테고리 ID (하위 카테고리 포함, null이면 전체)
+     * @param top 상위 N개만 조회 (지정 시 페이지 정보 대신 첫 페이지 N개)
+     * @param pageable 페이지 정보 (정렬은 판매액 내림차순 고정)
+     * @return 상품별 판매 통계와 페이지 정보를 담은 PageResponseDto
      */
-    public List<ProductSalesStatisticsResponseDto> getProductSalesStatistics() {
-        // OrderItemRepository를 통해 모든 주문 항목과 상품 정보를 함께 조회
-        List<OrderItem> allOrderItems = orderItemRepository.findAllWithProduct();
+    public PageResponseDto<ProductSalesStatisticsResponseDto> getProductSalesStatistics(
+            LocalDate startDate, LocalDate endDate, Integer categoryId, Integer top, Pageable pageable) {
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+        if (top != null && top <= 0) {
+            throw new IllegalArgumentException("상위 개수는 1 이상이어야 합니다.");
+        }
 
-        return allOrderItems.stream()
-                .collect(Collectors.groupingBy(
-                        OrderItem::getProduct,
-                        Collectors.reducing(
-                                new ProductSalesStatisticsResponseDto(null, null, 0L, 0L),
-                                orderItem -> new ProductSalesStatisticsResponseDto(
-                                        orderItem.getProduct().getId(),
-                                        orderItem.getProduct().getName(),
-                                        orderItem.getQuantity().longValue(),
-                                        orderItem.getQuantity().longValue() * orderItem.getUnitPrice().longValue()
-                                ),
-                                (acc, item) -> new ProductSalesStatisticsResponseDto(
-                                        item.productId(),
-                                        item.productName(),
-                                        acc.totalQuantitySold() + item.totalQuantitySold(),
-                                        acc.totalSalesAmount() + item.totalSalesAmount()
-                                )
-                        )
-                ))
-                .entrySet().stream()
-                .map(entry -> new ProductSalesStatisticsResponseDto(
-                        entry.getKey().getId(),
-                        entry.getKey().getName(),
-                        entry.getValue().totalQuantitySold(),
-                        entry.getValue().totalSalesAmount()
-                ))
-                .sorted((p1, p2) -> Long.compare(p2.totalSalesAmount(), p1.totalSalesAmount()))
-                .collect(Collectors.toList());
+        if (top != null && pageable.getPageNumber() > 0) {
+            throw new IllegalArgumentException("상위 N개 조회(top)에는 페이지를 지정할 수 없습니다.");
+        }
+
+        Page<ProductSalesStatisticsResponseDto> result = orderItemRepository.findProductSalesStatistics(
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.plusDays(1).atStartOfDay() : null,
+                categoryId,
+                top != null ? PageRequest.of(0, top) : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+        );
+        if (top == null) {
+            return PageResponseDto.of(result);
+        }
+        // 상위 N개는 그 자체가 전체 결과이므로 한 페이지로 돌려줍니다. (전체 상품 수 기준 페이지 정보를 내보내지 않음)
+        List<ProductSalesStatisticsResponseDto> content = result.getContent();
+        return new PageResponseDto<>(content, 0, top, content.size(), 1, true);
     }
 }
@@ -5,8 +5,10 @@ import com.back.domain.auth.dto.LoginRequest;
 import com.back.domain.auth.dto.SignupRequest;
 import com.back.domain.auth.service.AuthService;
 import com.back.global.security.auth.CustomUserDetails;
+import com.back.global.security.jwt.JwtAuthenticationFilter;
 import com.back.global.security.jwt.JwtTokens;
 import com.back.global.security.jwt.TokenService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -33,7 +35,6 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    @Transactional(readOnly = true)
     public ResponseEntity<Void> login(@RequestBody LoginRequest request, HttpServletResponse response) {
         JwtTokens tokens = authService.login(request);
 
@@ -48,9 +49,10 @@ public class AuthController {
 
     @PostMapping("/logout")
     @PreAuthorize("isFullyAuthenticated()")
-    public ResponseEntity<Void> logout(HttpServletResponse response, @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response,
+                                       @AuthenticationPrincipal CustomUserDetails customUserDetails) {
         ResponseCookie deleteCookie = authService.createLogoutCookie();
-        tokenService.logout(customUserDetails.getId());
+        tokenService.logout(customUserDetails.getId(), JwtAuthenticationFilter.resolveToken(request));
         response.setHeader(HttpHeaders.SET_COOKIE, deleteCookie.toString());
         return ResponseEntity.ok().build();
     }
@@ -2,16 +2,18 @@ package com.back.domain.auth.service;
 
 import com.back.domain.auth.dto.LoginRequest;
 import com.back.domain.auth.dto.SignupRequest;
+import com.back.domain.user.dto.UserCredentials;
 import com.back.domain.user.entity.User;
 import com.back.domain.user.repository.UserRepository;
+import com.back.global.security.auth.PasswordHashingService;
 import com.back.global.security.jwt.JwtTokens;
 import com.back.global.security.jwt.TokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 
@@ -21,7 +23,8 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final TokenService tokenService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${cookie.secure}")
     private boolean secure;
@@ -35,7 +38,7 @@ public class AuthService {
 
         validatePasswordPolicy(request.getPassword());
 
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
 
         User user = User.builder()
                 .email(request.getEmail())
@@ -47,20 +50,28 @@ public class AuthService {
     }
 
     // 로그인
-    @Transactional(readOnly = true)
+    // Claims와 비밀번호 해시만 짧은 트랜잭션으로 읽고 커넥션을 돌려준 뒤 비밀번호를 검증(BCrypt)합니다.
+    // (spring.jpa.open-in-view=false 이므로 요청이 끝날 때까지 커넥션을 잡고 있지 않습니다)
     public JwtTokens login(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail())
+        UserCredentials user = transactionTemplate.execute(status -> userRepository.findCredentialsByEmail(request.getEmail()))
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 이메일입니다."));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        String encodedPassword = user.password();
+        if (!passwordHashingService.matches(request.getPassword(), encodedPassword)) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 해시 강도 설정이 바뀌었으면 평문 비밀번호를 알고 있는 지금 새 설정으로 다시 저장
+        if (passwordHashingService.needsRehash(encodedPassword)) {
+            userRepository.updatePasswordIfUnchanged(user.id(), encodedPassword,
+                    passwordHashingService.encode(request.getPassword()));
+        }
+
         return tokenService.generateToken(
-                user.getId(),
-                user.getName(),
-                user.getEmail(),
-                user.getRole().name()
+                user.id(),
+                user.name(),
+                user.email(),
+                user.role().name()
         );
     }
 
@@ -71,7 +82,7 @@ public class AuthService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 기존 비밀번호 확인
-        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+        if (!passwordHashingService.matches(currentPassword, user.getPassword())) {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
 
@@ -82,7 +93,7 @@ public class AuthService {
         validatePasswordPolicy(newPassword);
 
         // 새 비밀번호 암호화 후 저장
-        String encodedNewPassword = passwordEncoder.encode(newPassword);
+        String encodedNewPassword = passwordHashingService.encode(newPassword);
         user.updatePassword(encodedNewPassword);
 
         // 기존 RefreshToken 무효화 → 강제 재로그인 유도
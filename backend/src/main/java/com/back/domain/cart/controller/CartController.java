@@ -2,6 +2,7 @@ package com.back.domain.cart.controller;
 
 import com.back.domain.cart.dto.AddCartItemRequest;
 import com.back.domain.cart.dto.CartDto;
+import com.back.domain.cart.dto.PatchCartItemsRequest;
 import com.back.domain.cart.dto.UpdateCartItemRequest;
 import com.back.domain.cart.service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,6 +39,14 @@ public class CartController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/items")
+    @Operation(summary = "장바구니 일괄 변경", description = "여러 상품의 수량 변경(upserts, 수량 0이면 삭제)과 삭제(removes)를 한 번에 반영합니다. 하나라도 실패하면 아무것도 반영하지 않습니다.")
+    public ResponseEntity<CartDto> patchItems(@RequestParam @Positive(message = "사용자 ID는 양수여야 합니다.") Integer userId,
+                                              @RequestBody @Valid PatchCartItemsRequest request) {
+        CartDto cartDto = cartService.patchItems(userId, request);
+        return ResponseEntity.ok(cartDto);
+    }
+
     @PutMapping("/items/{cartItemId}")
     @Operation(summary = "장바구니 항목 수량 수정")
     public ResponseEntity<Void> updateItemQuantity(@PathVariable @Positive(message = "장바구니 항목 ID는 양수여야 합니다.") Integer cartItemId,
@@ -16,6 +16,10 @@ public record CartDto(
                 .map(CartItemDto::new)
                 .collect(Collectors.toList());
 
+        return of(cart.getId(), itemDtos);
+    }
+
+    public static CartDto of(Integer cartId, List<CartItemDto> itemDtos) {
         int calculatedTotalQuantity = itemDtos.stream()
                 .mapToInt(CartItemDto::quantity)
                 .sum();
@@ -24,7 +28,7 @@ public record CartDto(
                 .sum();
 
         return new CartDto(
-                cart.getId(),
+                cartId,
                 calculatedTotalQuantity,
                 calculatedTotalPrice,
                 itemDtos
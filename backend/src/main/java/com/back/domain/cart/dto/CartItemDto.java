@@ -7,7 +7,8 @@ public record CartItemDto(
         Integer productId,
         String productName,
         int quantity,
-        int unitPrice
+        int unitPrice,
+        int priceVersion // 주문 생성 시 함께 보내면 그 사이 가격이 바뀐 경우를 감지합니다.
 ) {
     public CartItemDto(CartItem item) {
         this(
@@ -15,7 +16,8 @@ public record CartItemDto(
                 item.getProduct().getId(),
                 item.getProduct().getName(),
                 item.getQuantity(),
-                item.getProduct().getPrice()
+                item.getProduct().getPrice(),
+                item.getProduct().getPriceVersion()
         );
     }
 }
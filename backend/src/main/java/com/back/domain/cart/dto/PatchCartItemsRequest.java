@@ -0,0 +1,54 @@
+package com.back.domain.cart.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 장바구니 일괄 변경. upserts는 상품별 최종 수량(0이면 삭제), removes는 삭제할 상품 ID 목록입니다.
+public record PatchCartItemsRequest(
+        @Size(max = 100, message = "한 번에 최대 100개 상품까지 변경할 수 있습니다.")
+        List<@Valid @NotNull Upsert> upserts,
+
+        @Size(max = 100, message = "한 번에 최대 100개 상품까지 삭제할 수 있습니다.")
+        List<@NotNull @Positive(message = "상품 ID는 양수여야 합니다.") Integer> removes
+) {
+    public record Upsert(
+            @NotNull(message = "상품 ID는 필수입니다.")
+            @Positive(message = "상품 ID는 양수여야 합니다.")
+            Integer productId,
+
+            @Min(value = 0, message = "수량은 0개 이상이어야 합니다.")
+            int quantity
+    ) {}
+
+    /**
+     * 상품 ID → 최종 수량 (삭제는 0). 요청 순서를 유지합니다.
+     *
+     * @throws IllegalArgumentException 같은 상품이 두 번 이상 포함된 경우
+     */
+    public Map<Integer, Integer> toQuantities() {
+        Map<Integer, Integer> quantities = new LinkedHashMap<>();
+        if (upserts != null) {
+            upserts.forEach(upsert -> put(quantities, upsert.productId(), upsert.quantity()));
+        }
+        if (removes != null) {
+            removes.forEach(productId -> put(quantities, productId, 0));
+        }
+        if (quantities.isEmpty()) {
+            throw new IllegalArgumentException("변경할 상품이 없습니다.");
+        }
+        return quantities;
+    }
+
+    private static void put(Map<Integer, Integer> quantities, Integer productId, int quantity) {
+        if (quantities.putIfAbsent(productId, quantity) != null) {
+            throw new IllegalArgumentException("같은 상품이 요청에 중복되었습니다. productId: " + productId);
+        }
+    }
+}
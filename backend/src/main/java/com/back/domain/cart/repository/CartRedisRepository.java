@@ -0,0 +1,390 @@
+package com.back.domain.cart.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 장바구니 저장소. 장바구니 변경은 사용자 장바구니 키 하나만 다루는 Lua 스크립트 한 번으로 처리하고,
+ * 여러 사용자가 함께 쓰는 키(항목 id 시퀀스, 대기 집합)는 스크립트 밖에서 따로 갱신합니다.
+ * 사용자별 키는 사용자마다 다른 해시 태그({cart:userId})를 써서 클러스터에서 여러 슬롯으로 나뉩니다.
+ * <ul>
+ *     <li>{cart:userId} - 사용자 장바구니 (productId -> "itemId:quantity", "_" -> DB cart id)</li>
+ *     <li>cart:item:{itemId} - 아직 DB에 반영되지 않은 항목의 소유자 ("userId:productId"), 항목 id로 수정/삭제하는 API용.
+ *         플러시로 DB에 반영되면 지우고(이후는 DB에서 조회), 반영되지 않고 남은 키는 장바구니 TTL로 만료됩니다.</li>
+ *     <li>cart:item-seq - 항목 id 시퀀스 (DB cart_item.id와 겹치지 않도록 최대 id 이상으로 유지)</li>
+ *     <li>cart:dirty - DB 반영 대기 중인 사용자 id 집합</li>
+ * </ul>
+ * 대기 집합은 장바구니를 바꾼 뒤에 넣으므로, 그 사이에 플러시가 돌아도 바뀐 장바구니를 다시 반영합니다.
+ * (넣기 전에 프로세스가 죽으면 그 변경은 다음 변경이나 주문 전환 때 함께 반영됩니다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartRedisRepository {
+
+    public static final long NOT_LOADED = -2L;
+
+    private static final long NEEDS_ITEM_ID = -3L;
+    private static final String NEEDS_ITEM_IDS = "?";
+    private static final int MAX_PATCH_ATTEMPTS = 3;
+
+    private static final String CART_KEY_PATTERN = "{cart:[0-9]*}";
+    private static final String ITEM_KEY_PREFIX = "cart:item:";
+    private static final String ITEM_SEQ_KEY = "cart:item-seq";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final String CART_ID_FIELD = "_";
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Qualifier("cartAddScript")
+    private final DefaultRedisScript<Long> addScript;
+
+    @Qualifier("cartSetScript")
+    private final DefaultRedisScript<Long> setScript;
+
+    @Qualifier("cartClearScript")
+    private final DefaultRedisScript<Long> clearScript;
+
+    @Qualifier("cartLoadScript")
+    private final DefaultRedisScript<Long> loadScript;
+
+    @Qualifier("cartItemSeqFloorScript")
+    private final DefaultRedisScript<Long> itemSeqFloorScript;
+
+    @Qualifier("cartRemoveLinesScript")
+    private final DefaultRedisScript<Long> removeLinesScript;
+
+    @Qualifier("cartPatchScript")
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> patchScript;
+
+    /**
+     * 상품 수량을 더합니다. (없으면 새 항목)
+     * 새 항목이면 시퀀스에서 항목 id를 발급받아 소유자를 먼저 기록한 뒤 다시 호출합니다.
+     *
+     * @return 추가 후 수량, -1 = 재고 초과, {@link #NOT_LOADED} = 장바구니 미적재
+     */
+    public long add(Integer userId, Integer productId, int quantity, int maxQuantity, Duration ttl) {
+        long result = executeAdd(userId, productId, quantity, maxQuantity, ttl, "");
+        if (result == NEEDS_ITEM_ID) {
+            long itemId = nextItemIds(1);
+            // 동시에 같은 상품이 먼저 담겨 이 id가 쓰이지 않으면 소유자 키는 TTL로 사라집니다.
+            indexItems(userId, Map.of(itemId, productId), ttl);
+            result = executeAdd(userId, productId, quantity, maxQuantity, ttl, String.valueOf(itemId));
+        }
+        if (result > 0) {
+            markDirty(userId);
+        }
+        return result;
+    }
+
+    private long executeAdd(Integer userId, Integer productId, int quantity, int maxQuantity, Duration ttl, String itemId) {
+        Long result = redisTemplate.execute(addScript, List.of(cartKey(userId)),
+                String.valueOf(productId), String.valueOf(quantity), String.valueOf(maxQuantity),
+                String.valueOf(ttl.toSeconds()), itemId);
+        return result != null ? result : NOT_LOADED;
+    }
+
+    /**
+     * 항목 수량을 바꿉니다. (0이면 삭제)
+     *
+     * @return 1 = 변경됨, 0 = 항목 없음, {@link #NOT_LOADED} = 장바구니 미적재
+     */
+    public long set(CartItemRef item, int quantity, Duration ttl) {
+        Long result = redisTemplate.execute(setScript, List.of(cartKey(item.userId())),
+                String.valueOf(item.productId()), String.valueOf(item.itemId()),
+                String.valueOf(quantity), String.valueOf(ttl.toSeconds()));
+        if (result == null) {
+            return NOT_LOADED;
+        }
+        if (result == 1) {
+            markDirty(item.userId());
+        } else if (result == 0) {
+            redisTemplate.delete(itemKey(item.itemId())); // 오래된 소유자 키
+        }
+        return result;
+    }
+
+    /**
+     * 모든 항목을 삭제합니다.
+     *
+     * @return 삭제한 항목 수, {@link #NOT_LOADED} = 장바구니 미적재
+     */
+    public long clear(Integer userId, Duration ttl) {
+        Long result = redisTemplate.execute(clearScript, List.of(cartKey(userId)), String.valueOf(ttl.toSeconds()));
+        if (result == null || result == NOT_LOADED) {
+            return NOT_LOADED;
+        }
+        markDirty(userId);
+        return result;
+    }
+
+    /**
+     * 스냅샷의 항목을 스냅샷 당시 수량일 때만 삭제합니다. (주문으로 전환된 항목만 비우기)
+     * 스냅샷 이후 새로 담거나 수량을 바꾼 항목은 그대로 남고, DB 장바구니에 다시 반영하도록 대기 집합에 넣습니다.
+     *
+     * @return 삭제한 항목 수, {@link #NOT_LOADED} = 장바구니 미적재
+     */
+    public long removeLines(CartSnapshot snapshot, Duration ttl) {
+        List<String> args = new ArrayList<>(1 + snapshot.lines().size() * 2);
+        args.add(String.valueOf(ttl.toSeconds()));
+        for (CartLine line : snapshot.lines()) {
+            args.add(String.valueOf(line.productId()));
+            args.add(line.itemId() + ":" + line.quantity());
+        }
+        Long result = redisTemplate.execute(removeLinesScript, List.of(cartKey(snapshot.userId())), args.toArray());
+        if (result == null || result == NOT_LOADED) {
+            return NOT_LOADED;
+        }
+        markDirty(snapshot.userId());
+        return result;
+    }
+
+    /**
+     * 여러 상품의 수량을 한 번에 바꿉니다. (0이면 삭제, 없던 상품은 새 항목)
+     * 새 항목이 있으면 필요한 수만큼 항목 id를 발급받아 다시 호출하고, 새 항목의 소유자를 기록합니다.
+     *
+     * @param quantities productId -> 변경할 수량
+     * @return 변경 후 장바구니, 장바구니가 적재되어 있지 않으면 null
+     */
+    public CartSnapshot patch(Integer userId, Map<Integer, Integer> quantities, Duration ttl) {
+        long firstItemId = 0;
+        int itemIdCount = 0;
+        for (int attempt = 0; attempt < MAX_PATCH_ATTEMPTS; attempt++) {
+            List<Object> result = executePatch(userId, quantities, ttl, firstItemId, itemIdCount);
+            if (result == null || result.isEmpty()) {
+                return null;
+            }
+            if (!NEEDS_ITEM_IDS.equals(result.get(0))) {
+                CartSnapshot snapshot = CartSnapshot.of(userId, toEntries(result));
+                Map<Long, Integer> newItems = new LinkedHashMap<>();
+                for (CartLine line : snapshot.lines()) {
+                    if (line.itemId() >= firstItemId && line.itemId() < firstItemId + itemIdCount) {
+                        newItems.put(line.itemId().longValue(), line.productId());
+                    }
+                }
+                indexItems(userId, newItems, ttl);
+                markDirty(userId);
+                return snapshot;
+            }
+            itemIdCount = Integer.parseInt(result.get(1).toString());
+            firstItemId = nextItemIds(itemIdCount) - itemIdCount + 1;
+        }
+        throw new IllegalStateException("장바구니 항목 id를 발급하지 못했습니다. userId: " + userId);
+    }
+
+    private List<Object> executePatch(Integer userId, Map<Integer, Integer> quantities, Duration ttl,
+                                      long firstItemId, int itemIdCount) {
+        List<String> args = new ArrayList<>(3 + quantities.size() * 2);
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(String.valueOf(firstItemId));
+        args.add(String.valueOf(itemIdCount));
+        quantities.forEach((productId, quantity) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+        @SuppressWarnings("unchecked")
+        List<Object> result = redisTemplate.execute(patchScript, List.of(cartKey(userId)), args.toArray());
+        return result;
+    }
+
+    private static Map<Object, Object> toEntries(List<Object> hgetall) {
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < hgetall.size(); i += 2) {
+            entries.put(hgetall.get(i), hgetall.get(i + 1));
+        }
+        return entries;
+    }
+
+    // DB에서 읽은 장바구니를 적재합니다. 이미 적재되어 있으면 그대로 둡니다.
+    public void load(Integer userId, Integer cartId, List<CartLine> lines, int maxItemId, Duration ttl) {
+        redisTemplate.execute(itemSeqFloorScript, List.of(ITEM_SEQ_KEY), String.valueOf(maxItemId));
+
+        List<String> args = new ArrayList<>(2 + lines.size() * 3);
+        args.add(String.valueOf(cartId));
+        args.add(String.valueOf(ttl.toSeconds()));
+        for (CartLine line : lines) {
+            args.add(String.valueOf(line.productId()));
+            args.add(String.valueOf(line.itemId()));
+            args.add(String.valueOf(line.quantity()));
+        }
+        redisTemplate.execute(loadScript, List.of(cartKey(userId)), args.toArray());
+    }
+
+    // 장바구니를 읽습니다. 적재되어 있지 않으면 null
+    public CartSnapshot find(Integer userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(cartKey(userId));
+        return entries.isEmpty() ? null : CartSnapshot.of(userId, entries);
+    }
+
+    // 여러 사용자의 장바구니를 파이프라인 한 번으로 읽습니다. (만료되어 없는 장바구니는 제외)
+    public List<CartSnapshot> findAll(Collection<Integer> userIds) {
+        List<Integer> ids = List.copyOf(userIds);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            ids.forEach(userId -> stringConnection.hGetAll(cartKey(userId)));
+            return null;
+        });
+        List<CartSnapshot> snapshots = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> entries = (Map<Object, Object>) results.get(i);
+            if (entries != null && !entries.isEmpty()) {
+                snapshots.add(CartSnapshot.of(ids.get(i), entries));
+            }
+        }
+        return snapshots;
+    }
+
+    // 아직 DB에 반영되지 않은 항목 id가 속한 사용자/상품. 없으면 null (DB에서 조회)
+    public CartItemRef findItem(Integer itemId) {
+        String value = redisTemplate.opsForValue().get(itemKey(itemId));
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.split(":");
+        return new CartItemRef(itemId, Integer.valueOf(parts[0]), Integer.valueOf(parts[1]));
+    }
+
+    // DB에 반영된 장바구니 항목의 소유자 키를 지웁니다. (이후 항목 id 조회는 DB에서)
+    public void unindexItems(List<CartSnapshot> snapshots) {
+        List<String> itemKeys = snapshots.stream()
+                .flatMap(snapshot -> snapshot.lines().stream())
+                .map(line -> itemKey(line.itemId()))
+                .toList();
+        if (itemKeys.isEmpty()) {
+            return;
+        }
+        // 클러스터에서는 키마다 슬롯이 다르므로 다중 키 DEL 대신 파이프라인으로 지웁니다.
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            itemKeys.forEach(itemKey -> stringConnection.del(itemKey));
+            return null;
+        });
+    }
+
+    private void indexItems(Integer userId, Map<Long, Integer> itemProductIds, Duration ttl) {
+        if (itemProductIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            itemProductIds.forEach((itemId, productId) ->
+                    stringConnection.setEx(itemKey(itemId), ttl.toSeconds(), userId + ":" + productId));
+            return null;
+        });
+    }
+
+    // 항목 id를 count개 발급합니다. (발급한 마지막 id)
+    private long nextItemIds(int count) {
+        Long last = redisTemplate.opsForValue().increment(ITEM_SEQ_KEY, count);
+        if (last == null) {
+            throw new IllegalStateException("장바구니 항목 id를 발급하지 못했습니다.");
+        }
+        return last;
+    }
+
+    /**
+     * 모든 장바구니에서 상품을 지웁니다. (상품 삭제 시, 드문 관리 작업이므로 키를 SCAN으로 훑습니다)
+     * DB 장바구니에 담긴 상품은 외래 키 때문에 삭제되지 않으므로 대기 집합에는 넣지 않습니다.
+     *
+     * @return 상품을 지운 장바구니 수
+     */
+    public int removeProduct(Integer productId) {
+        String field = String.valueOf(productId);
+        ScanOptions options = ScanOptions.scanOptions().match(CART_KEY_PATTERN).count(SCAN_BATCH_SIZE).build();
+        int removed = 0;
+        List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    removed += removeField(batch, field);
+                    batch.clear();
+                }
+            }
+        }
+        return removed + removeField(batch, field);
+    }
+
+    private int removeField(List<String> cartKeys, String field) {
+        if (cartKeys.isEmpty()) {
+            return 0;
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            cartKeys.forEach(cartKey -> stringConnection.hDel(cartKey, field));
+            return null;
+        });
+        return (int) results.stream().filter(result -> result instanceof Long count && count > 0).count();
+    }
+
+    // DB 반영 대기 중인 사용자를 최대 count명 꺼냅니다.
+    public List<Integer> popDirty(int count) {
+        List<String> userIds = redisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        return userIds != null ? userIds.stream().map(Integer::valueOf).toList() : List.of();
+    }
+
+    // DB 반영에 실패한 사용자를 대기 집합에 되돌립니다.
+    public void restoreDirty(Collection<Integer> userIds) {
+        if (!userIds.isEmpty()) {
+            redisTemplate.opsForSet().add(DIRTY_KEY, userIds.stream().map(String::valueOf).toArray(String[]::new));
+        }
+    }
+
+    private void markDirty(Integer userId) {
+        redisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(userId));
+    }
+
+    private String cartKey(Integer userId) {
+        return "{cart:" + userId + "}";
+    }
+
+    private String itemKey(Number itemId) {
+        return ITEM_KEY_PREFIX + itemId;
+    }
+
+    // 항목 id -> 소유 사용자/상품
+    public record CartItemRef(Integer itemId, Integer userId, Integer productId) {
+    }
+
+    // 장바구니 항목 한 줄 (DB cart_item 행과 같은 모양)
+    public record CartLine(Integer itemId, Integer productId, int quantity) {
+    }
+
+    // Redis 장바구니 해시를 읽은 결과. 항목은 항목 id(추가된 순서) 오름차순입니다.
+    public record CartSnapshot(Integer userId, Integer cartId, List<CartLine> lines) {
+
+        static CartSnapshot of(Integer userId, Map<Object, Object> entries) {
+            Map<Object, Object> items = new LinkedHashMap<>(entries);
+            Object cartId = items.remove(CART_ID_FIELD);
+            List<CartLine> lines = items.entrySet().stream()
+                    .map(entry -> {
+                        String value = entry.getValue().toString();
+                        int sep = value.indexOf(':');
+                        return new CartLine(
+                                Integer.valueOf(value.substring(0, sep)),
+                                Integer.valueOf(entry.getKey().toString()),
+                                Integer.parseInt(value.substring(sep + 1)));
+                    })
+                    .sorted(Comparator.comparing(CartLine::itemId))
+                    .toList();
+            return new CartSnapshot(userId, cartId != null ? Integer.valueOf(cartId.toString()) : null, lines);
+        }
+    }
+}
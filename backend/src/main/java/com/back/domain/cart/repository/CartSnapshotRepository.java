@@ -0,0 +1,136 @@
+package com.back.domain.cart.repository;
+
+import com.back.domain.cart.repository.CartRedisRepository.CartItemRef;
+import com.back.domain.cart.repository.CartRedisRepository.CartLine;
+import com.back.domain.cart.repository.CartRedisRepository.CartSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 장바구니 JDBC 저장소 (Redis 장바구니 적재/반영, 일괄 변경). 엔티티를 거치지 않고 배치로 씁니다.
+@Repository
+@RequiredArgsConstructor
+public class CartSnapshotRepository {
+
+    private static final String SELECT_CART_ID_SQL = "SELECT id FROM cart WHERE user_id = ?";
+    private static final String INSERT_CART_SQL = "INSERT INTO cart (user_id) VALUES (?)";
+    private static final String SELECT_LINES_SQL =
+            "SELECT id, product_id, quantity FROM cart_item WHERE cart_id = ? ORDER BY id";
+    private static final String SELECT_MAX_ITEM_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM cart_item";
+    private static final String SELECT_ITEM_OWNER_SQL =
+            "SELECT ci.id, c.user_id, ci.product_id FROM cart_item ci JOIN cart c ON c.id = ci.cart_id WHERE ci.id = ?";
+    private static final String SELECT_EXISTING_PRODUCT_IDS_SQL = "SELECT id FROM product WHERE id IN (:productIds)";
+    private static final String DELETE_LINES_SQL = "DELETE FROM cart_item WHERE cart_id IN (:cartIds)";
+    private static final String INSERT_LINE_SQL =
+            "INSERT INTO cart_item (id, cart_id, product_id, quantity) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_NEW_LINE_SQL =
+            "INSERT INTO cart_item (cart_id, product_id, quantity) VALUES (?, ?, ?)";
+    private static final String UPDATE_LINE_SQL = "UPDATE cart_item SET quantity = ? WHERE id = ?";
+    private static final String DELETE_LINE_SQL = "DELETE FROM cart_item WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Optional<Integer> findCartId(Integer userId) {
+        return jdbcTemplate.queryForList(SELECT_CART_ID_SQL, Integer.class, userId).stream().findFirst();
+    }
+
+    public Integer createCart(Integer userId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_CART_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setInt(1, userId);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKeyAs(Number.class).intValue();
+    }
+
+    public List<CartLine> findLines(Integer cartId) {
+        return jdbcTemplate.query(SELECT_LINES_SQL,
+                (rs, rowNum) -> new CartLine(rs.getInt("id"), rs.getInt("product_id"), rs.getInt("quantity")),
+                cartId);
+    }
+
+    public int findMaxItemId() {
+        Integer maxId = jdbcTemplate.queryForObject(SELECT_MAX_ITEM_ID_SQL, Integer.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    // Redis에 소유자가 없는 항목 id(DB에 반영된 항목, 아직 적재되지 않은 장바구니)의 소유자 조회
+    public Optional<CartItemRef> findItemOwner(Integer itemId) {
+        return jdbcTemplate.query(SELECT_ITEM_OWNER_SQL,
+                (rs, rowNum) -> new CartItemRef(rs.getInt("id"), rs.getInt("user_id"), rs.getInt("product_id")),
+                itemId).stream().findFirst();
+    }
+
+    /**
+     * Redis 장바구니 상태로 DB 장바구니 항목을 교체합니다. (장바구니별 DELETE 후 배치 INSERT)
+     * 항목 id는 Redis에서 발급한 값을 그대로 사용하므로 API가 돌려준 cartItemId가 DB에서도 유지됩니다.
+     * Redis 장바구니에 담긴 채 삭제된 상품의 항목은 외래 키 위반으로 배치 전체가 실패하지 않도록 제외합니다.
+     */
+    public void replaceLines(List<CartSnapshot> snapshots) {
+        List<Integer> cartIds = snapshots.stream().map(CartSnapshot::cartId).toList();
+        if (cartIds.isEmpty()) {
+            return;
+        }
+        namedParameterJdbcTemplate.update(DELETE_LINES_SQL, Map.of("cartIds", cartIds));
+
+        Set<Integer> existingProductIds = findExistingProductIds(snapshots);
+        List<Object[]> rows = new ArrayList<>();
+        for (CartSnapshot snapshot : snapshots) {
+            for (CartLine line : snapshot.lines()) {
+                if (existingProductIds.contains(line.productId())) {
+                    rows.add(new Object[]{line.itemId(), snapshot.cartId(), line.productId(), line.quantity()});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_LINE_SQL, rows);
+    }
+
+    private Set<Integer> findExistingProductIds(List<CartSnapshot> snapshots) {
+        Set<Integer> productIds = new HashSet<>();
+        snapshots.forEach(snapshot -> snapshot.lines().forEach(line -> productIds.add(line.productId())));
+        if (productIds.isEmpty()) {
+            return productIds;
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_EXISTING_PRODUCT_IDS_SQL, Map.of("productIds", productIds), Integer.class));
+    }
+
+    /**
+     * 장바구니 항목 변경분을 종류별 JDBC 배치로 반영합니다. (추가 / 수량 변경 / 삭제 각각 배치 1회)
+     *
+     * @param inserts 새로 담을 항목 (itemId는 무시하고 DB가 발급)
+     * @param updates 수량을 바꿀 기존 항목
+     * @param deleteItemIds 삭제할 항목 id
+     */
+    public void applyChanges(Integer cartId, List<CartLine> inserts, List<CartLine> updates, List<Integer> deleteItemIds) {
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_NEW_LINE_SQL, inserts.stream()
+                    .map(line -> new Object[]{cartId, line.productId(), line.quantity()})
+                    .toList());
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_LINE_SQL, updates.stream()
+                    .map(line -> new Object[]{line.quantity(), line.itemId()})
+                    .toList());
+        }
+        if (!deleteItemIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_LINE_SQL, deleteItemIds.stream()
+                    .map(itemId -> new Object[]{itemId})
+                    .toList());
+        }
+    }
+}
@@ -2,116 +2,31 @@ package com.back.domain.cart.service;
 
 import com.back.domain.cart.dto.AddCartItemRequest;
 import com.back.domain.cart.dto.CartDto;
+import com.back.domain.cart.dto.PatchCartItemsRequest;
 import com.back.domain.cart.dto.UpdateCartItemRequest;
-import com.back.domain.cart.entity.Cart;
-import com.back.domain.cart.entity.CartItem;
-import com.back.domain.cart.repository.CartItemRepository;
-import com.back.domain.cart.repository.CartRepository;
-import com.back.domain.product.entity.Product;
-import com.back.domain.product.repository.ProductRepository;
-import com.back.domain.user.entity.User;
-import com.back.domain.user.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+/**
+ * 장바구니 서비스.
+ * cart.redis.enabled 설정에 따라 DB 직접 구현({@link JpaCartService}) 또는
+ * Redis 해시 + write-behind 구현({@link RedisCartService}) 중 하나만 등록됩니다.
+ */
+public interface CartService {
 
-import java.util.NoSuchElementException; // NoSuchElementException 임포트
-import java.util.Optional;
+    void addItem(Integer userId, AddCartItemRequest request);
 
-@Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
-public class CartService {
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
-    private final ProductRepository productRepository;
-    private final UserRepository userRepository;
+    CartDto getCart(Integer userId);
 
-    @Transactional
-    public void addItem(Integer userId, AddCartItemRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId));
-        Product product = productRepository.findById(request.productId())
-                .orElseThrow(() -> new NoSuchElementException("상품을 찾을 수 없습니다. productId: " + request.productId()));
+    void updateItemQuantity(Integer cartItemId, UpdateCartItemRequest request);
 
-        Cart cart = cartRepository.findByUser(user)
-                .orElseGet(() -> cartRepository.save(Cart.builder().user(user).build()));
+    void deleteItem(Integer cartItemId);
 
-        if (product.getStock() < request.quantity()) {
-            throw new IllegalArgumentException("상품의 재고가 부족합니다. 현재 재고: " + product.getStock());
-        }
+    void clearCart(Integer userId);
 
-        Optional<CartItem> optionalItem = cartItemRepository.findByCartAndProduct(cart, product);
+    // 여러 상품의 수량 변경/삭제를 한 번에 반영하고 변경된 장바구니를 돌려줍니다.
+    CartDto patchItems(Integer userId, PatchCartItemsRequest request);
 
-        if (optionalItem.isPresent()) {
-            CartItem item = optionalItem.get();
-            int newTotalQuantity = item.getQuantity() + request.quantity();
-            if (product.getStock() < newTotalQuantity) {
-                throw new IllegalArgumentException("상품의 재고가 부족하여 더 이상 추가할 수 없습니다. 현재 재고: " + product.getStock());
-            }
-            item.updateQuantity(newTotalQuantity);
-        } else {
-            CartItem item = CartItem.builder()
-                    .cart(cart)
-                    .product(product)
-                    .quantity(request.quantity())
-                    .build();
-            cartItemRepository.save(item);
-            cart.addCartItem(item);
-        }
+    // 장바구니 주문 전환 전에 호출한 트랜잭션 안에서 장바구니 최신 상태가 cart_item 테이블에 있도록 맞춥니다.
+    // 기본 구현은 DB가 원본이므로 할 일이 없습니다.
+    default void prepareCheckout(Integer userId) {
     }
-
-    @Transactional(readOnly = true)
-    public CartDto getCart(Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId));
-
-        Cart cart = cartRepository.findByUser(user)
-                .orElseGet(() -> cartRepository.save(Cart.builder().user(user).build()));
-
-        return CartDto.from(cart);
-    }
-
-    @Transactional
-    public void updateItemQuantity(Integer cartItemId, UpdateCartItemRequest request) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new NoSuchElementException("장바구니 항목을 찾을 수 없습니다. cartItemId: " + cartItemId));
-
-        Product product = cartItem.getProduct();
-        Integer newQuantity = request.quantity();
-
-        if (newQuantity == 0) {
-            deleteItem(cartItemId);
-            return;
-        }
-
-        if (product.getStock() < newQuantity) {
-            throw new IllegalArgumentException("요청한 수량이 상품 재고를 초과합니다. 현재 재고: " + product.getStock());
-        }
-
-        cartItem.updateQuantity(newQuantity);
-    }
-
-    @Transactional
-    public void deleteItem(Integer cartItemId) {
-        CartItem itemToDelete = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new NoSuchElementException("장바구니 항목을 찾을 수 없습니다. ID: " + cartItemId));
-
-        Cart cart = itemToDelete.getCart();
-        cart.removeCartItem(itemToDelete);
-        cartItemRepository.delete(itemToDelete);
-    }
-
-    @Transactional
-    public void clearCart(Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId));
-
-        Cart cart = cartRepository.findByUser(user)
-                .orElseThrow(() -> new NoSuchElementException("해당 사용자의 장바구니를 찾을 수 없습니다. userId: " + userId));
-
-        cartItemRepository.deleteAll(cart.getCartItems());
-        cart.clearCartItems();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.back.domain.cart.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Redis 장바구니 사용 시에만 등록되는 write-behind 플러시 작업
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "cart.redis.enabled", havingValue = "true")
+public class CartWriteBehindScheduler {
+
+    private final RedisCartService redisCartService;
+
+    @Scheduled(fixedDelayString = "${cart.redis.flush-interval-ms:5000}")
+    public void flushDirtyCarts() {
+        try {
+            int flushed = redisCartService.flushDirtyCarts();
+            if (flushed > 0) {
+                log.debug("장바구니 DB 반영 완료: {}개", flushed);
+            }
+        } catch (Exception e) {
+            log.error("장바구니 DB 반영 중 오류", e);
+        }
+    }
+}
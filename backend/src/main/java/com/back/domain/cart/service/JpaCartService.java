@@ -0,0 +1,222 @@
+package com.back.domain.cart.service;
+
+import com.back.domain.cart.dto.AddCartItemRequest;
+import com.back.domain.cart.dto.CartDto;
+import com.back.domain.cart.dto.PatchCartItemsRequest;
+import com.back.domain.cart.dto.UpdateCartItemRequest;
+import com.back.domain.cart.entity.Cart;
+import com.back.domain.cart.entity.CartItem;
+import com.back.domain.cart.repository.CartItemRepository;
+import com.back.domain.cart.repository.CartRedisRepository.CartLine;
+import com.back.domain.cart.repository.CartRepository;
+import com.back.domain.cart.repository.CartSnapshotRepository;
+import com.back.domain.product.entity.Product;
+import com.back.domain.product.exception.ProductNotFoundException;
+import com.back.domain.product.repository.ProductRepository;
+import com.back.domain.product.repository.ProductStockRepository;
+import com.back.domain.product.service.InventoryService;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException; // NoSuchElementException 임포트
+import java.util.Optional;
+
+// 장바구니를 cart / cart_item 테이블에서 직접 읽고 쓰는 기본 구현 (cart.redis.enabled=false)
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "cart.redis.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaCartService implements CartService {
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final InventoryService inventoryService;
+    private final ProductStockRepository productStockRepository;
+    private final CartSnapshotRepository cartSnapshotRepository;
+
+    @Override
+    @Transactional
+    public void addItem(Integer userId, AddCartItemRequest request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId));
+        Product product = productRepository.findById(request.productId())
+                .orElseThrow(() -> new NoSuchElementException("상품을 찾을 수 없습니다. productId: " + request.productId()));
+
+        Cart cart = cartRepository.findByUser(user)
+                .orElseGet(() -> cartRepository.save(Cart.builder().user(user).build()));
+
+        int availableStock = getAvailableStock(product);
+        if (availableStock < request.quantity()) {
+            throw new IllegalArgumentException("상품의 재고가 부족합니다. 현재 재고: " + availableStock);
+        }
+
+        Optional<CartItem> optionalItem = cartItemRepository.findByCartAndProduct(cart, product);
+
+        if (optionalItem.isPresent()) {
+            CartItem item = optionalItem.get();
+            int newTotalQuantity = item.getQuantity() + request.quantity();
+            if (availableStock < newTotalQuantity) {
+                throw new IllegalArgumentException("상품의 재고가 부족하여 더 이상 추가할 수 없습니다. 현재 재고: " + availableStock);
+            }
+            item.updateQuantity(newTotalQuantity);
+        } else {
+            CartItem item = CartItem.builder()
+                    .cart(cart)
+                    .product(product)
+                    .quantity(request.quantity())
+                    .build();
+            cartItemRepository.save(item);
+            cart.addCartItem(item);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CartDto getCart(Integer userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId));
+
+        Cart cart = cartRepository.findByUser(user)
+                .orElseGet(() -> cartRepository.save(Cart.builder().user(user).build()));
+
+        return CartDto.from(cart);
+    }
+
+    @Override
+    @Transactional
+    public void updateItemQuantity(Integer cartItemId, UpdateCartItemRequest request) {
+        CartItem cartItem = cartItemRepository.findById(cartItemId)
+                .orElseThrow(() -> new NoSuchElementException("장바구니 항목을 찾을 수 없습니다. cartItemId: " + cartItemId));
+
+        Product product = cartItem.getProduct();
+        Integer newQuantity = request.quantity();
+
+        if (newQuantity == 0) {
+            deleteItem(cartItemId);
+            return;
+        }
+
+        int availableStock = getAvailableStock(product);
+        if (availableStock < newQuantity) {
+            throw new IllegalArgumentException("요청한 수량이 상품 재고를 초과합니다. 현재 재고: " + availableStock);
+        }
+
+        cartItem.updateQuantity(newQuantity);
+    }
+
+    /**
+     * 장바구니 일괄 변경. 재고는 한 번에 조회해 검증하고, 변경분은 추가/수정/삭제별 JDBC 배치로 한 트랜잭션에서 반영합니다.
+     * 하나라도 검증에 실패하면 아무것도 반영하지 않습니다.
+     */
+    @Override
+    @Transactional
+    public CartDto patchItems(Integer userId, PatchCartItemsRequest request) {
+        Map<Integer, Integer> quantities = request.toQuantities();
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId));
+
+        validateStocks(quantities);
+
+        Integer cartId = cartSnapshotRepository.findCartId(userId)
+                .orElseGet(() -> cartSnapshotRepository.createCart(userId));
+        // 같은 상품 행이 여러 개면(동시 담기 등으로 생긴 중복) 가장 먼저 담긴 행을 기준으로 하고, 나머지는 이번 변경에서 지웁니다.
+        Map<Integer, CartLine> existing = new HashMap<>();
+        Map<Integer, List<Integer>> duplicateItemIds = new HashMap<>();
+        for (CartLine line : cartSnapshotRepository.findLines(cartId)) {
+            if (existing.putIfAbsent(line.productId(), line) != null) {
+                duplicateItemIds.computeIfAbsent(line.productId(), productId -> new ArrayList<>()).add(line.itemId());
+            }
+        }
+
+        List<CartLine> inserts = new ArrayList<>();
+        List<CartLine> updates = new ArrayList<>();
+        List<Integer> deletes = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            deletes.addAll(duplicateItemIds.getOrDefault(productId, List.of()));
+            CartLine line = existing.get(productId);
+            if (line == null) {
+                if (quantity > 0) {
+                    inserts.add(new CartLine(null, productId, quantity));
+                }
+            } else if (quantity == 0) {
+                deletes.add(line.itemId());
+            } else if (quantity != line.quantity()) {
+                updates.add(new CartLine(line.itemId(), productId, quantity));
+            }
+        });
+        cartSnapshotRepository.applyChanges(cartId, inserts, updates, deletes);
+
+        // JDBC로 바꾼 결과를 다시 읽어 응답 (장바구니 + 항목 + 상품 fetch join 1회)
+        return CartDto.from(cartRepository.findByUser(user)
+                .orElseThrow(() -> new IllegalStateException("장바구니를 찾을 수 없습니다. userId: " + userId)));
+    }
+
+    // 담을 상품(수량 > 0)의 존재 여부와 재고를 한 번의 조회로 확인합니다.
+    private void validateStocks(Map<Integer, Integer> quantities) {
+        List<Integer> productIds = quantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<Integer, Integer> stocks;
+        try {
+            stocks = inventoryService.isEnabled()
+                    ? inventoryService.getAvailableStocks(productIds)
+                    : productStockRepository.findStocks(productIds);
+        } catch (ProductNotFoundException e) {
+            throw new NoSuchElementException(e.getMessage());
+        }
+        for (Integer productId : productIds) {
+            Integer stock = stocks.get(productId);
+            if (stock == null) {
+                throw new NoSuchElementException("상품을 찾을 수 없습니다. productId: " + productId);
+            }
+            if (stock < quantities.get(productId)) {
+                throw new IllegalArgumentException(String.format(
+                        "상품의 재고가 부족합니다. productId: %d, 요청 수량: %d, 현재 재고: %d",
+                        productId, quantities.get(productId), stock));
+            }
+        }
+    }
+
+    // Redis 재고 카운터 사용 시 DB 재고는 write-behind로 늦게 반영되므로 카운터 값을 기준으로 검증합니다.
+    private int getAvailableStock(Product product) {
+        return inventoryService.isEnabled() ? inventoryService.getAvailableStock(product.getId()) : product.getStock();
+    }
+
+    @Override
+    @Transactional
+    public void deleteItem(Integer cartItemId) {
+        CartItem itemToDelete = cartItemRepository.findById(cartItemId)
+                .orElseThrow(() -> new NoSuchElementException("장바구니 항목을 찾을 수 없습니다. ID: " + cartItemId));
+
+        Cart cart = itemToDelete.getCart();
+        cart.removeCartItem(itemToDelete);
+        cartItemRepository.delete(itemToDelete);
+    }
+
+    @Override
+    @Transactional
+    public void clearCart(Integer userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId));
+
+        Cart cart = cartRepository.findByUser(user)
+                .orElseThrow(() -> new NoSuchElementException("해당 사용자의 장바구니를 찾을 수 없습니다. userId: " + userId));
+
+        cartItemRepository.deleteAll(cart.getCartItems());
+        cart.clearCartItems();
+    }
+}
\ No newline at end of file
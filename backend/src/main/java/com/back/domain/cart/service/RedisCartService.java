@@ -0,0 +1,328 @@
+package com.back.domain.cart.service;
+
+import com.back.domain.cart.dto.AddCartItemRequest;
+import com.back.domain.cart.dto.CartDto;
+import com.back.domain.cart.dto.CartItemDto;
+import com.back.domain.cart.dto.PatchCartItemsRequest;
+import com.back.domain.cart.dto.UpdateCartItemRequest;
+import com.back.domain.cart.repository.CartRedisRepository;
+import com.back.domain.cart.repository.CartRedisRepository.CartItemRef;
+import com.back.domain.cart.repository.CartRedisRepository.CartLine;
+import com.back.domain.cart.repository.CartRedisRepository.CartSnapshot;
+import com.back.domain.cart.repository.CartSnapshotRepository;
+import com.back.domain.product.dto.product.ProductResponseDto;
+import com.back.domain.product.event.ProductPriceChangedEvent;
+import com.back.domain.product.exception.ProductNotFoundException;
+import com.back.domain.product.service.InventoryService;
+import com.back.domain.product.service.ProductService;
+import com.back.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Redis 해시 기반 장바구니 (cart.redis.enabled=true 일 때만 사용).
+ * 사용자별 장바구니를 Redis 해시(productId -> 수량)로 두고 조회/추가/비우기를 Redis 왕복 1회로 처리합니다.
+ * 상품 이름/가격/재고는 상품 로컬 캐시에서 읽으므로 DB를 거치지 않습니다.
+ * 변경된 장바구니는 {@link CartWriteBehindScheduler}가 주기적으로 cart_item 테이블에 반영하며,
+ * Redis에 없는 장바구니(최초 접근, TTL 만료, Redis 재시작)는 DB에서 한 번 적재합니다.
+ * 항목 id(cartItemId)로 수정/삭제하는 API는 항목 소유자를 먼저 조회하므로(DB에 반영된 항목은 DB에서) 왕복이 한 번 더 필요합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "cart.redis.enabled", havingValue = "true")
+public class RedisCartService implements CartService {
+
+    private final CartRedisRepository cartRedisRepository;
+    private final CartSnapshotRepository cartSnapshotRepository;
+    private final UserRepository userRepository;
+    private final ProductService productService;
+    private final InventoryService inventoryService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int flushBatchSize;
+
+    public RedisCartService(
+            CartRedisRepository cartRedisRepository,
+            CartSnapshotRepository cartSnapshotRepository,
+            UserRepository userRepository,
+            ProductService productService,
+            InventoryService inventoryService,
+            PlatformTransactionManager transactionManager,
+            @Value("${cart.redis.ttl:7d}") Duration ttl,
+            @Value("${cart.redis.flush-batch-size:500}") int flushBatchSize
+    ) {
+        this.cartRedisRepository = cartRedisRepository;
+        this.cartSnapshotRepository = cartSnapshotRepository;
+        this.userRepository = userRepository;
+        this.productService = productService;
+        this.inventoryService = inventoryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = ttl;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    @Override
+    public void addItem(Integer userId, AddCartItemRequest request) {
+        ProductResponseDto product = getProduct(request.productId());
+        int availableStock = getAvailableStock(product);
+        if (availableStock < request.quantity()) {
+            throw new IllegalArgumentException("상품의 재고가 부족합니다. 현재 재고: " + availableStock);
+        }
+
+        long result = cartRedisRepository.add(userId, product.id(), request.quantity(), availableStock, ttl);
+        if (result == CartRedisRepository.NOT_LOADED) {
+            load(userId, true);
+            result = cartRedisRepository.add(userId, product.id(), request.quantity(), availableStock, ttl);
+        }
+        if (result == -1) {
+            throw new IllegalArgumentException("상품의 재고가 부족하여 더 이상 추가할 수 없습니다. 현재 재고: " + availableStock);
+        }
+    }
+
+    @Override
+    public CartDto getCart(Integer userId) {
+        CartSnapshot snapshot = cartRedisRepository.find(userId);
+        if (snapshot == null) {
+            snapshot = load(userId, true);
+        }
+        return toDto(snapshot);
+    }
+
+    /**
+     * 장바구니 일괄 변경. 재고는 담을 상품 전체를 한 번에 검증하고(재고 카운터 사용 시 MGET 1회),
+     * 변경은 Lua 스크립트 한 번으로 원자적으로 반영한 뒤 변경된 장바구니를 그대로 돌려받습니다.
+     */
+    @Override
+    public CartDto patchItems(Integer userId, PatchCartItemsRequest request) {
+        Map<Integer, Integer> quantities = request.toQuantities();
+        validateStocks(quantities);
+
+        CartSnapshot snapshot = cartRedisRepository.patch(userId, quantities, ttl);
+        if (snapshot == null) {
+            load(userId, true);
+            snapshot = cartRedisRepository.patch(userId, quantities, ttl);
+        }
+        if (snapshot == null) {
+            throw new IllegalStateException("장바구니를 적재하지 못했습니다. userId: " + userId);
+        }
+        return toDto(snapshot);
+    }
+
+    private CartDto toDto(CartSnapshot snapshot) {
+        Integer userId = snapshot.userId();
+        List<CartItemDto> items = new ArrayList<>(snapshot.lines().size());
+        for (CartLine line : snapshot.lines()) {
+            try {
+                ProductResponseDto product = productService.getProductById(line.productId());
+                items.add(new CartItemDto(line.itemId(), product.id(), product.name(), line.quantity(),
+                        product.price(), product.priceVersion()));
+            } catch (ProductNotFoundException e) {
+                log.debug("삭제된 상품이 장바구니에 남아 있어 제외합니다. userId={}, productId={}", userId, line.productId());
+            }
+        }
+        return CartDto.of(snapshot.cartId(), items);
+    }
+
+    @Override
+    public void updateItemQuantity(Integer cartItemId, UpdateCartItemRequest request) {
+        CartItemRef item = findItem(cartItemId);
+        int newQuantity = request.quantity();
+        if (newQuantity > 0) {
+            int availableStock = getAvailableStock(getProduct(item.productId()));
+            if (availableStock < newQuantity) {
+                throw new IllegalArgumentException("요청한 수량이 상품 재고를 초과합니다. 현재 재고: " + availableStock);
+            }
+        }
+        setQuantity(item, newQuantity);
+    }
+
+    @Override
+    public void deleteItem(Integer cartItemId) {
+        setQuantity(findItem(cartItemId), 0);
+    }
+
+    @Override
+    public void clearCart(Integer userId) {
+        if (cartRedisRepository.clear(userId, ttl) == CartRedisRepository.NOT_LOADED) {
+            load(userId, false);
+            cartRedisRepository.clear(userId, ttl);
+        }
+    }
+
+    /**
+     * 주문 전환 전에 Redis 장바구니를 호출한 트랜잭션 안에서 DB에 반영하고, 커밋되면 주문한 항목만 Redis에서 지웁니다.
+     * (주문 쪽에서 DB 장바구니를 비우므로 Redis도 같이 지워야 다음 플러시가 항목을 되살리지 않음)
+     * 스냅샷 이후 담거나 수량을 바꾼 항목은 주문되지 않았으므로 남겨 두고, 다음 플러시에서 DB에 다시 반영됩니다.
+     */
+    @Override
+    public void prepareCheckout(Integer userId) {
+        CartSnapshot snapshot = cartRedisRepository.find(userId);
+        if (snapshot == null) {
+            return; // 적재되지 않은 장바구니는 DB가 최신
+        }
+        cartSnapshotRepository.replaceLines(List.of(snapshot));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cartRedisRepository.removeLines(snapshot, ttl);
+            }
+        });
+    }
+
+    /**
+     * 변경된 장바구니를 최대 flush-batch-size개 꺼내 DB에 반영합니다.
+     * 트랜잭션이 롤백되면 꺼낸 사용자를 대기 집합에 되돌립니다.
+     *
+     * @return 반영한 장바구니 수
+     */
+    @Transactional
+    public int flushDirtyCarts() {
+        List<Integer> userIds = cartRedisRepository.popDirty(flushBatchSize);
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+
+        List<CartSnapshot> snapshots = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.warn("장바구니 DB 반영 실패, 대기 집합으로 복구합니다. userIds={}", userIds);
+                    cartRedisRepository.restoreDirty(userIds);
+                } else {
+                    // DB에 반영된 항목은 이후 DB에서 소유자를 찾습니다.
+                    cartRedisRepository.unindexItems(snapshots);
+                }
+            }
+        });
+
+        // TTL로 이미 사라진 장바구니는 건너뜀 (만료 전까지의 변경은 앞선 플러시에서 반영됨)
+        snapshots.addAll(cartRedisRepository.findAll(userIds));
+        cartSnapshotRepository.replaceLines(snapshots);
+        return snapshots.size();
+    }
+
+    // 상품이 삭제되면(price == null) Redis 장바구니에서도 지웁니다. 플러시도 없는 상품은 건너뛰지만, 조회/주문에 남지 않게 바로 정리합니다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductRemoved(ProductPriceChangedEvent event) {
+        if (event.price() != null) {
+            return;
+        }
+        try {
+            int removed = cartRedisRepository.removeProduct(event.productId());
+            if (removed > 0) {
+                log.info("삭제된 상품을 장바구니에서 제외했습니다. productId={}, carts={}", event.productId(), removed);
+            }
+        } catch (DataAccessException e) {
+            log.warn("삭제된 상품을 장바구니에서 제외하지 못했습니다. (productId={}) 조회/플러시에서 건너뜁니다.", event.productId(), e);
+        }
+    }
+
+    // 장바구니가 적재되어 있지 않으면 DB에서 적재 후 다시 시도합니다.
+    private void setQuantity(CartItemRef item, int quantity) {
+        long result = cartRedisRepository.set(item, quantity, ttl);
+        if (result == CartRedisRepository.NOT_LOADED) {
+            load(item.userId(), false);
+            result = cartRedisRepository.set(item, quantity, ttl);
+        }
+        if (result == 0) {
+            throw new NoSuchElementException("장바구니 항목을 찾을 수 없습니다. cartItemId: " + item.itemId());
+        }
+    }
+
+    // Redis에 소유자가 없으면 DB에 반영된 항목인지 확인합니다. (플러시된 항목, 아직 적재되지 않은 장바구니)
+    private CartItemRef findItem(Integer cartItemId) {
+        CartItemRef item = cartRedisRepository.findItem(cartItemId);
+        if (item != null) {
+            return item;
+        }
+        return transactionTemplate.execute(status -> cartSnapshotRepository.findItemOwner(cartItemId))
+                .orElseThrow(() -> new NoSuchElementException("장바구니 항목을 찾을 수 없습니다. cartItemId: " + cartItemId));
+    }
+
+    // DB 장바구니를 Redis에 적재합니다. 장바구니가 없으면 createIfAbsent일 때만 새로 만듭니다.
+    private CartSnapshot load(Integer userId, boolean createIfAbsent) {
+        CartSnapshot snapshot = transactionTemplate.execute(status -> {
+            Integer cartId = cartSnapshotRepository.findCartId(userId).orElse(null);
+            if (cartId == null) {
+                if (!userRepository.existsById(userId)) {
+                    throw new NoSuchElementException("사용자를 찾을 수 없습니다. userId: " + userId);
+                }
+                if (!createIfAbsent) {
+                    throw new NoSuchElementException("해당 사용자의 장바구니를 찾을 수 없습니다. userId: " + userId);
+                }
+                cartId = cartSnapshotRepository.createCart(userId);
+            }
+            List<CartLine> lines = cartSnapshotRepository.findLines(cartId);
+            cartRedisRepository.load(userId, cartId, lines, cartSnapshotRepository.findMaxItemId(), ttl);
+            return new CartSnapshot(userId, cartId, lines);
+        });
+
+        // 동시에 다른 요청이 먼저 적재했다면 Redis 상태가 기준
+        CartSnapshot loaded = cartRedisRepository.find(userId);
+        return loaded != null ? loaded : snapshot;
+    }
+
+    // 담을 상품(수량 > 0)의 존재 여부와 재고를 확인합니다. 상품 정보는 로컬 캐시, 재고는 카운터를 한 번에 조회합니다.
+    private void validateStocks(Map<Integer, Integer> quantities) {
+        List<Integer> productIds = quantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (productIds.isEmpty()) {
+            return;
+        }
+        Map<Integer, Integer> stocks;
+        if (inventoryService.isEnabled()) {
+            try {
+                stocks = inventoryService.getAvailableStocks(productIds);
+            } catch (ProductNotFoundException e) {
+                throw new NoSuchElementException(e.getMessage());
+            }
+        } else {
+            stocks = new HashMap<>();
+            productIds.forEach(productId -> stocks.put(productId, getProduct(productId).stock()));
+        }
+        for (Integer productId : productIds) {
+            Integer stock = stocks.get(productId);
+            if (stock == null) {
+                throw new NoSuchElementException("상품을 찾을 수 없습니다. productId: " + productId);
+            }
+            if (stock < quantities.get(productId)) {
+                throw new IllegalArgumentException(String.format(
+                        "상품의 재고가 부족합니다. productId: %d, 요청 수량: %d, 현재 재고: %d",
+                        productId, quantities.get(productId), stock));
+            }
+        }
+    }
+
+    private ProductResponseDto getProduct(Integer productId) {
+        try {
+            return productService.getProductById(productId);
+        } catch (ProductNotFoundException e) {
+            throw new NoSuchElementException("상품을 찾을 수 없습니다. productId: " + productId);
+        }
+    }
+
+    // Redis 재고 카운터 사용 시 DB 재고는 write-behind로 늦게 반영되므로 카운터 값을 기준으로 검증합니다.
+    private int getAvailableStock(ProductResponseDto product) {
+        return inventoryService.isEnabled() ? inventoryService.getAvailableStock(product.id()) : product.stock();
+    }
+}
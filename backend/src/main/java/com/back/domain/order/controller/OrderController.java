@@ -1,9 +1,11 @@
 package com.back.domain.order.controller;
 
 import com.back.domain.order.dto.order.OrderDetailDTO;
+import com.back.domain.order.dto.order.OrderFromCartRequestDTO;
 import com.back.domain.order.dto.order.OrderListDTO;
 import com.back.domain.order.dto.order.OrderRequestDTO;
 import com.back.domain.order.service.OrderService;
+import com.back.global.metrics.QueryBudget;
 import com.back.global.security.auth.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -51,10 +53,27 @@ public class OrderController {
         return new ResponseEntity<>(orderDetail, HttpStatus.CREATED);
     }
 
+    @PostMapping("/from-cart")
+    @Operation(summary = "장바구니 주문 전환",
+            description = "현재 사용자의 장바구니를 주문으로 전환합니다.\n" +
+                         "- 주문 항목과 단가는 서버가 장바구니와 현재 상품 가격으로 채웁니다.\n" +
+                         "- 재고 차감, 주문 생성, 장바구니 비우기를 한 트랜잭션에서 처리합니다.\n" +
+                         "- 장바구니가 비어 있으면 400, 재고 부족시 InsufficientStockException이 발생합니다.")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<OrderDetailDTO> createOrderFromCart(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody OrderFromCartRequestDTO request
+    ) {
+        Integer userId = getCurrentUserId(userDetails);
+        OrderDetailDTO orderDetail = orderService.createOrderFromCart(userId, request);
+        return new ResponseEntity<>(orderDetail, HttpStatus.CREATED);
+    }
+
     @GetMapping
     @PreAuthorize("hasAnyRole('USER', 'ADMIN')")
     @Operation(summary = "내 주문 목록 조회", 
             description = "현재 사용자의 모든 주문 목록을 조회합니다.")
+    @QueryBudget(2)
     public ResponseEntity<List<OrderListDTO>> getMyOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         Integer userId = getCurrentUserId(userDetails);
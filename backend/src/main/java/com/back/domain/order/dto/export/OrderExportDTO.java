@@ -0,0 +1,41 @@
+package com.back.domain.order.dto.export;
+
+import com.back.domain.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// NDJSON 내보내기 한 줄 (주문 1건 + 항목 목록)
+public record OrderExportDTO(
+        Integer orderId,
+        LocalDateTime orderDate,
+        OrderStatus status,
+        Integer totalPrice,
+        Integer userId,
+        String username,
+        String userEmail,
+        String address,
+        List<Item> items
+) {
+    public record Item(
+            Integer productId,
+            String productName,
+            Integer quantity,
+            Integer unitPrice
+    ) {
+    }
+
+    public static OrderExportDTO of(OrderExportRow row, List<Item> items) {
+        return new OrderExportDTO(
+                row.orderId(),
+                row.orderDate(),
+                row.status(),
+                row.totalPrice(),
+                row.userId(),
+                row.username(),
+                row.userEmail(),
+                row.address(),
+                items
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.back.domain.order.dto.export;
+
+import com.back.domain.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+// 주문 내보내기용 평탄화 행 (주문 항목 1건 = 1행, 항목이 없는 주문은 항목 컬럼이 null)
+public record OrderExportRow(
+        Integer orderId,
+        LocalDateTime orderDate,
+        OrderStatus status,
+        Integer totalPrice,
+        Integer userId,
+        String username,
+        String userEmail,
+        String address,
+        Integer productId,
+        String productName,
+        Integer quantity,
+        Integer unitPrice
+) {
+}
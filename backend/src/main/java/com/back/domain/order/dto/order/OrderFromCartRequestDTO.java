@@ -0,0 +1,15 @@
+package com.back.domain.order.dto.order;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+// 장바구니 주문 전환 요청. 주문 항목과 단가는 서버가 장바구니와 상품 정보에서 채웁니다.
+public record OrderFromCartRequestDTO(
+        @NotNull(message = "배송 정보 ID는 필수입니다.")
+        Integer deliveryId,
+
+        @NotBlank(message = "배송 주소는 필수입니다.")
+        @Size(max = 200, message = "배송 주소는 200자를 초과할 수 없습니다.")
+        String address
+) {}
@@ -0,0 +1,13 @@
+package com.back.domain.order.dto.order;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// 관리자 주문 상태 일괄 변경. 항목별 검증 실패는 전체 요청 실패 대신 행 단위 결과로 반환됩니다.
+public record OrderStatusBulkUpdateDTO(
+        @NotEmpty(message = "변경할 주문 목록은 필수입니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000건까지 변경할 수 있습니다.")
+        List<OrderStatusUpdateDTO> updates
+) {}
@@ -14,5 +14,13 @@ public record OrderItemRequestDTO(
         
         @NotNull(message = "단가는 필수입니다.")
         @Min(value = 0, message = "단가는 0 이상이어야 합니다.")
-        Integer unitPrice
-) {}
+        Integer unitPrice,
+
+        // 선택: 단가를 확인한 시점의 가격 버전 (상품/장바구니 조회 응답의 priceVersion)
+        @Min(value = 1, message = "가격 버전은 1 이상이어야 합니다.")
+        Integer priceVersion
+) {
+    public OrderItemRequestDTO(Integer productId, Integer quantity, Integer unitPrice) {
+        this(productId, quantity, unitPrice, null);
+    }
+}
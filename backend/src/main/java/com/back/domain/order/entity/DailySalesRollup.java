@@ -0,0 +1,28 @@
+package com.back.domain.order.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일별/주문 상태별 주문 수와 매출 집계 (통계 조회 시 주문 엔티티 대신 이 테이블을 읽음)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "daily_sales_rollup")
+public class DailySalesRollup {
+
+    @EmbeddedId
+    private DailySalesRollupId id;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false)
+    private Long revenue;
+}
@@ -0,0 +1,34 @@
+package com.back.domain.order.event;
+
+import com.back.domain.order.entity.Order;
+import com.back.domain.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 주문 생성 이벤트 (아웃박스 payload). 후속 처리(일별 집계 등)에 필요한 값만 담습니다.
+public record OrderCreatedEvent(
+        Integer orderId,
+        Integer userId,
+        LocalDateTime orderDate,
+        OrderStatus status,
+        Integer totalPrice,
+        List<Integer> productIds
+) {
+
+    public static final String TYPE = "OrderCreated";
+
+    public static OrderCreatedEvent from(Order order) {
+        return new OrderCreatedEvent(
+                order.getId(),
+                order.getUser().getId(),
+                order.getOrderDate(),
+                order.getStatus(),
+                order.getTotalPrice(),
+                order.getItems().stream()
+                        .map(item -> item.getProduct().getId())
+                        .distinct()
+                        .toList()
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.back.domain.order.event;
+
+import com.back.domain.order.entity.Order;
+import com.back.domain.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+// 주문 상태 변경 이벤트 (아웃박스 payload)
+public record OrderStatusChangedEvent(
+        Integer orderId,
+        LocalDateTime orderDate,
+        OrderStatus previousStatus,
+        OrderStatus newStatus,
+        Integer totalPrice
+) {
+
+    public static final String TYPE = "OrderStatusChanged";
+
+    public static OrderStatusChangedEvent of(Order order, OrderStatus previousStatus) {
+        return new OrderStatusChangedEvent(
+                order.getId(),
+                order.getOrderDate(),
+                previousStatus,
+                order.getStatus(),
+                order.getTotalPrice()
+        );
+    }
+}
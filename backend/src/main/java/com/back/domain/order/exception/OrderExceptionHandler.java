@@ -41,6 +41,24 @@ public class OrderExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler(PriceMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handlePriceMismatch(PriceMismatchException e) {
+        log.info("Price mismatch: {}", e.getMessage());
+
+        // 클라이언트가 현재 가격으로 다시 주문할 수 있도록 현재 단가와 가격 버전을 함께 돌려줍니다.
+        Map<String, Object> errorResponse = Map.of(
+                "error", "PRICE_MISMATCH",
+                "message", e.getMessage(),
+                "productId", e.getProductId(),
+                "currentPrice", e.getCurrentPrice(),
+                "currentPriceVersion", e.getCurrentPriceVersion(),
+                "timestamp", LocalDateTime.now(),
+                "status", HttpStatus.CONFLICT.value()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     @ExceptionHandler(UnauthorizedOrderAccessException.class)
     public ResponseEntity<Map<String, Object>> handleUnauthorizedOrderAccess(UnauthorizedOrderAccessException e) {
         log.warn("Unauthorized order access: {}", e.getMessage());
@@ -0,0 +1,22 @@
+package com.back.domain.order.exception;
+
+import lombok.Getter;
+
+// 주문 요청의 단가/가격 버전이 현재 상품 가격과 다를 때 (클라이언트가 오래된 가격을 보고 주문한 경우)
+@Getter
+public class PriceMismatchException extends RuntimeException {
+
+    private final Integer productId;
+    private final int currentPrice;
+    private final int currentPriceVersion;
+
+    public PriceMismatchException(Integer productId, Integer requestedPrice, Integer requestedVersion,
+                                  int currentPrice, int currentPriceVersion) {
+        super(String.format("상품 ID %d의 가격이 변경되었습니다. 요청 단가: %d (버전 %s), 현재 단가: %d (버전 %d)",
+                productId, requestedPrice, requestedVersion != null ? requestedVersion : "-",
+                currentPrice, currentPriceVersion));
+        this.productId = productId;
+        this.currentPrice = currentPrice;
+        this.currentPriceVersion = currentPriceVersion;
+    }
+}
@@ -0,0 +1,58 @@
+package com.back.domain.order.repository;
+
+import com.back.domain.admin.dto.SalesStatisticsResponseDto;
+import com.back.domain.order.entity.DailySalesRollup;
+import com.back.domain.order.entity.DailySalesRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DailySalesRollupRepository extends JpaRepository<DailySalesRollup, DailySalesRollupId> {
+
+    // (날짜, 상태) 집계 행에 주문 수/매출을 더합니다. 행이 없으면 새로 만듭니다. (음수를 더하면 차감)
+    @Modifying
+    @Query(value = "INSERT INTO daily_sales_rollup (sales_date, status, order_count, revenue) " +
+            "VALUES (:salesDate, :status, :orderCount, :revenue) " +
+            "ON DUPLICATE KEY UPDATE order_count = order_count + :orderCount, revenue = revenue + :revenue",
+            nativeQuery = true)
+    int upsert(@Param("salesDate") LocalDate salesDate,
+               @Param("status") String status,
+               @Param("orderCount") long orderCount,
+               @Param("revenue") long revenue);
+
+    // 기간 내 집계 행 (날짜, 상태 순)
+    @Query("SELECT r FROM DailySalesRollup r " +
+            "WHERE r.id.salesDate BETWEEN :startDate AND :endDate AND r.orderCount > 0 " +
+            "ORDER BY r.id.salesDate, r.id.status")
+    List<DailySalesRollup> findByDateRange(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    // 기간 내 일별 매출 합계 (모든 상태 합산)
+    @Query("SELECT new com.back.domain.admin.dto.SalesStatisticsResponseDto(r.id.salesDate, SUM(r.revenue)) " +
+            "FROM DailySalesRollup r " +
+            "WHERE r.id.salesDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY r.id.salesDate HAVING SUM(r.orderCount) > 0 " +
+            "ORDER BY r.id.salesDate")
+    List<SalesStatisticsResponseDto> findDailySales(@Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_sales_rollup WHERE sales_date BETWEEN :startDate AND :endDate",
+            nativeQuery = true)
+    int deleteByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 주문 테이블에서 기간 내 집계를 다시 계산해 넣습니다. (deleteByDateRange 후 호출)
+    @Modifying
+    @Query(value = "INSERT INTO daily_sales_rollup (sales_date, status, order_count, revenue) " +
+            "SELECT CAST(o.order_date AS DATE), o.status, COUNT(*), SUM(o.total_price) " +
+            "FROM orders o " +
+            "WHERE o.order_date >= :from AND o.order_date < :to " +
+            "GROUP BY CAST(o.order_date AS DATE), o.status",
+            nativeQuery = true)
+    int insertAggregatedFromOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
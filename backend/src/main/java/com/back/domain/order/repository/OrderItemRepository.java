@@ -1,19 +1,38 @@
 package com.back.domain.order.repository;
 
+import com.back.domain.admin.dto.ProductSalesStatisticsResponseDto;
 import com.back.domain.order.entity.OrderItem;
 import com.back.domain.order.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
     
     List<OrderItem> findByOrder(Order order);
     
-    // 모든 주문 항목과 관련 상품을 함께 조회 (상품별 판매량 통계용)
-    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product")
-    List<OrderItem> findAllWithProduct();
+    // 상품별 판매량/판매액 집계 (DB에서 GROUP BY, 판매액 내림차순)
+    // 기간은 [from, to) 주문일 기준, 카테고리는 하위 카테고리 상품까지 포함합니다. null 조건은 무시됩니다.
+    @Query(value = "SELECT new com.back.domain.admin.dto.ProductSalesStatisticsResponseDto(" +
+            "p.id, p.name, SUM(oi.quantity), SUM(CAST(oi.quantity AS Long) * oi.unitPrice)) " +
+            "FROM OrderItem oi JOIN oi.order o JOIN oi.product p LEFT JOIN p.category c " +
+            "WHERE (:from IS NULL OR o.orderDate >= :from) AND (:to IS NULL OR o.orderDate < :to) " +
+            "AND (:categoryId IS NULL OR c.id = :categoryId OR c.parent.id = :categoryId) " +
+            "GROUP BY p.id, p.name " +
+            "ORDER BY SUM(CAST(oi.quantity AS Long) * oi.unitPrice) DESC, p.id",
+            countQuery = "SELECT COUNT(DISTINCT p.id) " +
+                    "FROM OrderItem oi JOIN oi.order o JOIN oi.product p LEFT JOIN p.category c " +
+                    "WHERE (:from IS NULL OR o.orderDate >= :from) AND (:to IS NULL OR o.orderDate < :to) " +
+                    "AND (:categoryId IS NULL OR c.id = :categoryId OR c.parent.id = :categoryId)")
+    Page<ProductSalesStatisticsResponseDto> findProductSalesStatistics(@Param("from") LocalDateTime from,
+                                                                      @Param("to") LocalDateTime to,
+                                                                      @Param("categoryId") Integer categoryId,
+                                                                      Pageable pageable);
     
     // 특정 상품의 모든 주문 항목 조회
     @Query("SELECT oi FROM OrderItem oi WHERE oi.product.id = :productId")
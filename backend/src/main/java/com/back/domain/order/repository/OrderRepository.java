@@ -1,5 +1,6 @@
 package com.back.domain.order.repository;
 
+import com.back.domain.order.dto.order.OrderListDTO;
 import com.back.domain.order.entity.Order;
 import com.back.domain.order.entity.OrderStatus;
 import com.back.domain.user.entity.User;
@@ -15,24 +16,12 @@ import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 
-    // 사용자 기준으로 주문 조회 (최신순)
-    List<Order> findByUserOrderByOrderDateDesc(User user);
-    
     // 기존 메서드 호환성 유지
     List<Order> findByUser(User user);
 
     // 주문 상태별 조회
     List<Order> findByStatus(OrderStatus status);
     
-    // 주문 상태별 조회 (최신순)
-    List<Order> findByStatusOrderByOrderDateDesc(OrderStatus status);
-    
-    // 주문 상태별 조회 (페이지네이션, 최신순)
-    Page<Order> findByStatusOrderByOrderDateDesc(OrderStatus status, Pageable pageable);
-    
-    // 전체 주문 조회 (최신순) - 관리자용
-    List<Order> findAllByOrderByOrderDateDesc();
-    
     // 사용자와 주문 상태로 조회
     List<Order> findByUserAndStatus(User user, OrderStatus status);
 
@@ -42,9 +31,36 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
     // 특정 기간과 상태로 주문 조회
     List<Order> findByOrderDateBetweenAndStatus(LocalDateTime start, LocalDateTime end, OrderStatus status);
 
-    // 페이지네이션을 지원하는 전체 주문 조회 (관리자용)
-    Page<Order> findAllByOrderByOrderDateDesc(Pageable pageable);
-    
+    // 주문 목록 프로젝션 (주문 + 주문자 이름을 조인 1회로 조회, 최신순)
+    // 엔티티를 올리지 않으므로 목록 크기와 관계없이 쿼리 1회 (페이지 조회는 count 쿼리 포함 2회)
+
+    // 사용자 기준 주문 목록
+    @Query("SELECT new com.back.domain.order.dto.order.OrderListDTO(o.id, u.name, o.orderDate, o.totalPrice, o.status) " +
+            "FROM Order o JOIN o.user u WHERE u.id = :userId ORDER BY o.orderDate DESC, o.id DESC")
+    List<OrderListDTO> findOrderListByUserId(@Param("userId") Integer userId);
+
+    // 전체 주문 목록 (관리자용)
+    @Query("SELECT new com.back.domain.order.dto.order.OrderListDTO(o.id, u.name, o.orderDate, o.totalPrice, o.status) " +
+            "FROM Order o JOIN o.user u ORDER BY o.orderDate DESC, o.id DESC")
+    List<OrderListDTO> findAllOrderList();
+
+    // 주문 상태별 주문 목록 (관리자용)
+    @Query("SELECT new com.back.domain.order.dto.order.OrderListDTO(o.id, u.name, o.orderDate, o.totalPrice, o.status) " +
+            "FROM Order o JOIN o.user u WHERE o.status = :status ORDER BY o.orderDate DESC, o.id DESC")
+    List<OrderListDTO> findOrderListByStatus(@Param("status") OrderStatus status);
+
+    // 전체 주문 목록 (페이지네이션, 관리자용)
+    @Query(value = "SELECT new com.back.domain.order.dto.order.OrderListDTO(o.id, u.name, o.orderDate, o.totalPrice, o.status) " +
+            "FROM Order o JOIN o.user u ORDER BY o.orderDate DESC, o.id DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<OrderListDTO> findOrderListPage(Pageable pageable);
+
+    // 주문 상태별 주문 목록 (페이지네이션, 관리자용)
+    @Query(value = "SELECT new com.back.domain.order.dto.order.OrderListDTO(o.id, u.name, o.orderDate, o.totalPrice, o.status) " +
+            "FROM Order o JOIN o.user u WHERE o.status = :status ORDER BY o.orderDate DESC, o.id DESC",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.status = :status")
+    Page<OrderListDTO> findOrderListPageByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
     // 주문 ID로 사용자 권한 확인을 위한 조회
     @Query("SELECT o FROM Order o WHERE o.id = :orderId AND o.user.id = :userId")
     Optional<Order> findByIdAndUserId(@Param("orderId") Integer orderId, @Param("userId") Integer userId);
@@ -0,0 +1,33 @@
+package com.back.domain.order.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+// 최근 며칠의 일별 주문 집계를 주문 테이블 기준으로 주기적으로 다시 계산하여 증분 갱신의 오차를 바로잡습니다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySalesRollupScheduler {
+
+    private final DailySalesRollupService rollupService;
+
+    @Value("${statistics.rollup.rebuild-days:2}")
+    private int rebuildDays;
+
+    @Scheduled(cron = "${statistics.rollup.rebuild-cron:0 30 3 * * *}")
+    public void rebuildRecentDays() {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(rebuildDays - 1L);
+        try {
+            int rows = rollupService.rebuild(startDate, endDate);
+            log.info("일별 주문 집계 재계산 완료: {} ~ {} ({}행)", startDate, endDate, rows);
+        } catch (Exception e) {
+            log.error("일별 주문 집계 재계산 실패: {} ~ {}", startDate, endDate, e);
+        }
+    }
+}
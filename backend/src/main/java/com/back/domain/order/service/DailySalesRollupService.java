@@ -0,0 +1,103 @@
+package com.back.domain.order.service;
+
+import com.back.domain.admin.dto.OrderStatisticsResponseDto;
+import com.back.domain.admin.dto.SalesStatisticsResponseDto;
+import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.order.event.OrderCreatedEvent;
+import com.back.domain.order.event.OrderStatusChangedEvent;
+import com.back.domain.order.repository.DailySalesRollupRepository;
+import com.back.global.outbox.OutboxEvent;
+import com.back.global.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일별 주문 집계(daily_sales_rollup) 관리.
+ * 주문 생성/상태 변경 이벤트를 아웃박스 릴레이가 전달하면 증분 반영하고, 통계 조회는 집계 행만 읽습니다.
+ * 누락/불일치가 생기면 {@link #rebuild(LocalDate, LocalDate)}로 주문 테이블에서 다시 집계합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DailySalesRollupService {
+
+    private static final List<String> ORDER_EVENT_TYPES = List.of(OrderCreatedEvent.TYPE, OrderStatusChangedEvent.TYPE);
+
+    private final DailySalesRollupRepository rollupRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // 주문 생성 반영 (아웃박스 릴레이에서 호출)
+    @Transactional
+    public void recordOrderCreated(LocalDate salesDate, OrderStatus status, long totalPrice) {
+        rollupRepository.upsert(salesDate, status.name(), 1, totalPrice);
+    }
+
+    // 주문 상태 변경 반영 (이전 상태 집계에서 빼고 새 상태 집계에 더함)
+    @Transactional
+    public void recordStatusChanged(LocalDate salesDate, OrderStatus previousStatus, OrderStatus newStatus, long totalPrice) {
+        if (previousStatus == newStatus) {
+            return;
+        }
+        rollupRepository.upsert(salesDate, previousStatus.name(), -1, -totalPrice);
+        rollupRepository.upsert(salesDate, newStatus.name(), 1, totalPrice);
+    }
+
+    /**
+     * 기간 내 집계를 주문 테이블 기준으로 다시 계산합니다. (배치/백필용)
+     * 재계산 결과에는 아직 전달되지 않은 주문 이벤트의 변경분도 이미 들어 있으므로, 같은 트랜잭션에서
+     * 기간 내 대기 이벤트를 전달 완료로 표시해 릴레이가 다시 반영하지 않게 합니다.
+     * 대기 이벤트를 먼저 잠가 릴레이가 처리 중인 이벤트는 커밋될 때까지 기다리고, 잠근 뒤에는 릴레이가 건너뜁니다.
+     * (MySQL REPEATABLE READ에서는 잠금 범위의 갭 잠금으로 재계산 중 새 대기 이벤트, 즉 주문 커밋도 끝날 때까지 기다립니다.)
+     *
+     * @return 생성된 집계 행 수
+     */
+    @Transactional
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        List<OutboxEvent> pendingEvents = outboxEventRepository.findPendingForUpdate(ORDER_EVENT_TYPES);
+
+        rollupRepository.deleteByDateRange(startDate, endDate);
+        int rows = rollupRepository.insertAggregatedFromOrders(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+
+        for (OutboxEvent event : pendingEvents) {
+            LocalDate salesDate = orderDate(event).toLocalDate();
+            if (!salesDate.isBefore(startDate) && !salesDate.isAfter(endDate)) {
+                event.markPublished();
+            }
+        }
+        return rows;
+    }
+
+    // 주문 생성/상태 변경 이벤트 모두 집계 기준일(orderDate)을 담고 있습니다.
+    private LocalDateTime orderDate(OutboxEvent event) {
+        try {
+            return objectMapper.treeToValue(objectMapper.readTree(event.getPayload()).get("orderDate"), LocalDateTime.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트를 읽을 수 없습니다. (id=" + event.getId() + ")", e);
+        }
+    }
+
+    // 일별/상태별 주문 수와 매출
+    public List<OrderStatisticsResponseDto> getOrderStatistics(LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.findByDateRange(startDate, endDate).stream()
+                .map(rollup -> OrderStatisticsResponseDto.of(
+                        rollup.getId().getSalesDate(),
+                        rollup.getId().getStatus(),
+                        rollup.getOrderCount(),
+                        rollup.getRevenue()
+                ))
+                .toList();
+    }
+
+    // 일별 매출 합계
+    public List<SalesStatisticsResponseDto> getDailySales(LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.findDailySales(startDate, endDate);
+    }
+}
@@ -0,0 +1,48 @@
+package com.back.domain.order.service;
+
+import com.back.domain.order.event.OrderCreatedEvent;
+import com.back.domain.order.event.OrderStatusChangedEvent;
+import com.back.global.outbox.OutboxEvent;
+import com.back.global.outbox.OutboxEventHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 이벤트 소비자 (프로세스 내 대체 구현).
+ * 주문 트랜잭션에서 하던 일별 집계 갱신을 아웃박스 릴레이 트랜잭션으로 옮겨, 주문 생성/상태 변경은 핵심 INSERT/UPDATE만 처리합니다.
+ * 외부 메시지 브로커로 전달하게 되면 이 핸들러를 발행기로 바꾸고 같은 처리를 컨슈머 쪽에서 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventConsumer implements OutboxEventHandler {
+
+    private final DailySalesRollupService dailySalesRollupService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(String eventType) {
+        return OrderCreatedEvent.TYPE.equals(eventType) || OrderStatusChangedEvent.TYPE.equals(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        if (OrderCreatedEvent.TYPE.equals(event.getEventType())) {
+            OrderCreatedEvent created = read(event, OrderCreatedEvent.class);
+            dailySalesRollupService.recordOrderCreated(created.orderDate().toLocalDate(), created.status(), created.totalPrice());
+        } else {
+            OrderStatusChangedEvent changed = read(event, OrderStatusChangedEvent.class);
+            dailySalesRollupService.recordStatusChanged(changed.orderDate().toLocalDate(),
+                    changed.previousStatus(), changed.newStatus(), changed.totalPrice());
+        }
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 이벤트를 읽을 수 없습니다. (id=" + event.getId() + ")", e);
+        }
+    }
+}
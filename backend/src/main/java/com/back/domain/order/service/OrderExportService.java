@@ -0,0 +1,193 @@
+package com.back.domain.order.service;
+
+import com.back.domain.order.dto.export.OrderExportDTO;
+import com.back.domain.order.dto.export.OrderExportFormat;
+import com.back.domain.order.dto.export.OrderExportRow;
+import com.back.domain.order.entity.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 관리자 주문 내보내기 (CSV / NDJSON).
+ * 주문과 항목을 forward-only 커서로 읽으면서 바로 응답 스트림에 쓰므로, 주문 수와 관계없이 메모리 사용량이 일정합니다.
+ * MySQL(prod)은 이 쿼리에만 fetch size Integer.MIN_VALUE를 지정해 행 단위로 스트리밍합니다. (JDBC URL의 useCursorFetch 없이)
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderExportService {
+
+    // 주문 id, 항목 id 순으로 정렬해 같은 주문의 항목이 연속으로 나오도록 합니다.
+    private static final String EXPORT_QUERY = "SELECT new com.back.domain.order.dto.export.OrderExportRow(" +
+            "o.id, o.orderDate, o.status, o.totalPrice, u.id, u.name, u.email, o.address, " +
+            "p.id, p.name, oi.quantity, oi.unitPrice) " +
+            "FROM Order o JOIN o.user u LEFT JOIN o.items oi LEFT JOIN oi.product p " +
+            "WHERE (:status IS NULL OR o.status = :status) " +
+            "AND (:from IS NULL OR o.orderDate >= :from) AND (:to IS NULL OR o.orderDate < :to) " +
+            "ORDER BY o.id, oi.id";
+
+    private static final String CSV_HEADER = "order_id,order_date,status,total_price,user_id,username,user_email," +
+            "address,product_id,product_name,quantity,unit_price";
+
+    // 스프레드시트가 수식으로 해석하는 첫 글자 (CSV injection)
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushInterval;
+    private final Duration timeout;
+
+    public OrderExportService(
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            @Value("${order.export.fetch-size:500}") int fetchSize,
+            @Value("${order.export.flush-interval:1000}") int flushInterval,
+            @Value("${order.export.timeout:30m}") Duration timeout
+    ) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushInterval = flushInterval;
+        this.timeout = timeout;
+    }
+
+    // 내보내기 응답 최대 시간 (이 엔드포인트에만 적용)
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * 조건에 맞는 주문을 지정한 형식으로 스트림에 씁니다.
+     *
+     * @param format 내보내기 형식
+     * @param status 주문 상태 (null이면 전체)
+     * @param from 주문일 시작 (포함, null이면 제한 없음)
+     * @param to 주문일 종료 (미포함, null이면 제한 없음)
+     * @param outputStream 응답 스트림 (닫지 않음)
+     */
+    public void export(OrderExportFormat format, OrderStatus status, LocalDateTime from, LocalDateTime to,
+                       OutputStream outputStream) throws IOException {
+        Session session = entityManager.unwrap(Session.class);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        try (ScrollableResults<OrderExportRow> rows = session.createQuery(EXPORT_QUERY, OrderExportRow.class)
+                .setParameter("status", status)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            if (format == OrderExportFormat.CSV) {
+                writeCsv(rows, writer, session);
+            } else {
+                writeNdjson(rows, writer, session);
+            }
+        }
+        writer.flush();
+    }
+
+    // 주문 항목 1건당 1행
+    private void writeCsv(ScrollableResults<OrderExportRow> rows, Writer writer, Session session) throws IOException {
+        writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        while (rows.next()) {
+            OrderExportRow row = rows.get();
+            writer.write(csvLine(row));
+            writer.write('\n');
+            flushPeriodically(++count, writer, session);
+        }
+    }
+
+    // 주문 1건당 1줄 (항목 목록 포함). 같은 주문의 행이 연속으로 오므로 현재 주문의 항목만 메모리에 둡니다.
+    private void writeNdjson(ScrollableResults<OrderExportRow> rows, Writer writer, Session session) throws IOException {
+        OrderExportRow current = null;
+        List<OrderExportDTO.Item> items = new ArrayList<>();
+
+        long count = 0;
+        while (rows.next()) {
+            OrderExportRow row = rows.get();
+            if (current != null && !current.orderId().equals(row.orderId())) {
+                writeJsonLine(OrderExportDTO.of(current, items), writer);
+                items = new ArrayList<>();
+                flushPeriodically(++count, writer, session);
+            }
+            current = row;
+            if (row.productId() != null) {
+                items.add(new OrderExportDTO.Item(row.productId(), row.productName(), row.quantity(), row.unitPrice()));
+            }
+        }
+        if (current != null) {
+            writeJsonLine(OrderExportDTO.of(current, items), writer);
+        }
+    }
+
+    private void writeJsonLine(OrderExportDTO order, Writer writer) throws IOException {
+        writer.write(objectMapper.writeValueAsString(order));
+        writer.write('\n');
+    }
+
+    // 주기적으로 응답을 내보내고 영속성 컨텍스트를 비웁니다.
+    private void flushPeriodically(long count, Writer writer, Session session) throws IOException {
+        if (count % flushInterval == 0) {
+            writer.flush();
+            session.clear();
+        }
+    }
+
+    private String csvLine(OrderExportRow row) {
+        return String.join(",",
+                csv(row.orderId()),
+                csv(row.orderDate()),
+                csv(row.status()),
+                csv(row.totalPrice()),
+                csv(row.userId()),
+                csv(row.username()),
+                csv(row.userEmail()),
+                csv(row.address()),
+                csv(row.productId()),
+                csv(row.productName()),
+                csv(row.quantity()),
+                csv(row.unitPrice())
+        );
+    }
+
+    /**
+     * RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씁니다.
+     * 사용자가 입력한 문자열이 =, +, -, @, 탭, CR로 시작하면 엑셀이 수식으로 실행하므로 앞에 '를 붙여 텍스트로 만듭니다.
+     * (숫자/날짜 컬럼은 사용자 입력이 아니므로 그대로 둡니다.)
+     */
+    private String csv(Object value) {
+        String text = Objects.toString(value, "");
+        if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
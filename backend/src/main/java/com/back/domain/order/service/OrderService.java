@@ -1,8 +1,15 @@
 package com.back.domain.order.service;
 
+import com.back.domain.admin.dto.BulkItemResultDto;
+import com.back.domain.admin.dto.BulkResultDto;
 import com.back.domain.admin.dto.OrderStatisticsResponseDto;
+import com.back.domain.cart.entity.Cart;
+import com.back.domain.cart.entity.CartItem;
+import com.back.domain.cart.repository.CartRepository;
+import com.back.domain.cart.service.CartService;
 import com.back.domain.delivery.entity.Delivery;
 import com.back.domain.order.dto.order.OrderDetailDTO;
+import com.back.domain.order.dto.order.OrderFromCartRequestDTO;
 import com.back.domain.order.dto.order.OrderListDTO;
 import com.back.domain.order.dto.order.OrderRequestDTO;
 import com.back.domain.order.dto.order.OrderStatusUpdateDTO;
@@ -10,27 +17,50 @@ import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
 import com.back.domain.order.entity.Order;
 import com.back.domain.order.entity.OrderItem;
 import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.order.event.OrderCreatedEvent;
+import com.back.domain.order.event.OrderStatusChangedEvent;
 import com.back.domain.order.exception.InsufficientStockException;
 import com.back.domain.order.exception.OrderNotFoundException;
+import com.back.domain.order.exception.PriceMismatchException;
 import com.back.domain.order.repository.OrderItemRepository;
 import com.back.domain.order.repository.OrderRepository;
+import com.back.domain.product.dto.product.ProductPriceDto;
 import com.back.domain.product.entity.Product;
+import com.back.domain.product.event.ProductChangedEvent;
 import com.back.domain.product.exception.ProductNotFoundException;
 import com.back.domain.product.repository.ProductRepository;
+import com.back.domain.product.repository.ProductStockRepository;
+import com.back.domain.product.service.InventoryService;
+import com.back.domain.product.service.InventoryService.LockMode;
+import com.back.domain.product.service.ProductPriceCache;
 import com.back.domain.user.entity.Role;
 import com.back.domain.user.entity.User;
 import com.back.domain.user.repository.UserRepository;
+import com.back.global.outbox.OutboxEventPublisher;
+import com.back.global.retry.OptimisticLockRetry;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,10 +71,25 @@ public class OrderService {
     private final OrderItemRepository orderItemRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final InventoryService inventoryService;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DailySalesRollupService dailySalesRollupService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final CartRepository cartRepository;
+    private final CartService cartService;
+    private final ProductPriceCache productPriceCache;
+    private final OptimisticLockRetry optimisticLockRetry;
 
-    @Transactional
+    // 재고 차감이 버전 충돌로 실패하면(낙관적 락 모드, 상품 수정과 겹친 경우 등) 새 트랜잭션에서 다시 시도합니다.
+    // 호출자 트랜잭션이 있으면 그 안에서 한 번만 실행합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
     public OrderDetailDTO createOrder(OrderRequestDTO request) {
+        return optimisticLockRetry.execute("order.create", () -> placeOrder(request));
+    }
+
+    private OrderDetailDTO placeOrder(OrderRequestDTO request) {
         // 사용자 검증
         User user = userRepository.findById(request.userId())
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + request.userId()));
@@ -73,33 +118,126 @@ public class OrderService {
 
         // 한 번에 저장 (Cascade로 OrderItem도 함께 저장됨)
         Order savedOrder = orderRepository.save(order);
+        // 일별 집계 등 후속 처리는 아웃박스 이벤트로 넘김 (같은 트랜잭션에 기록, 커밋 후 릴레이가 전달)
+        outboxEventPublisher.append("Order", savedOrder.getId(), OrderCreatedEvent.TYPE, OrderCreatedEvent.from(savedOrder));
 
         return OrderDetailDTO.from(savedOrder, orderItems);
     }
 
+    /**
+     * 장바구니를 주문으로 전환합니다. (재고 차감, 주문 생성, 장바구니 비우기를 한 트랜잭션에서 처리)
+     * 장바구니는 항목과 상품까지 fetch join으로 한 번에 읽고, 그 상품 엔티티를 주문 항목에 그대로 사용하므로
+     * 상품을 다시 조회하지 않으며 단가는 클라이언트 값 대신 현재 상품 가격을 사용합니다.
+     * 재고는 조건부 UPDATE 배치 1회로 차감합니다. (잠금 조회 생략, 조건부 UPDATE가 음수 재고를 막음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public OrderDetailDTO createOrderFromCart(Integer userId, OrderFromCartRequestDTO request) {
+        return optimisticLockRetry.execute("order.create-from-cart", () -> placeOrderFromCart(userId, request));
+    }
+
+    private OrderDetailDTO placeOrderFromCart(Integer userId, OrderFromCartRequestDTO request) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId));
+
+        Delivery delivery = entityManager.find(Delivery.class, request.deliveryId());
+        if (delivery == null) {
+            throw new IllegalArgumentException("배송 정보를 찾을 수 없습니다. ID: " + request.deliveryId());
+        }
+
+        cartService.prepareCheckout(userId);
+        Cart cart = cartRepository.findByUser(user)
+                .filter(found -> !found.getCartItems().isEmpty())
+                .orElseThrow(() -> new IllegalArgumentException("장바구니가 비어 있습니다."));
+
+        Order order = Order.builder()
+                .user(user)
+                .address(request.address())
+                .delivery(delivery)
+                .orderDate(LocalDateTime.now())
+                .status(OrderStatus.배송준비중)
+                .totalPrice(0)
+                .build();
+
+        SortedMap<Integer, Integer> requestedQuantities = new TreeMap<>();
+        List<OrderItem> orderItems = new ArrayList<>(cart.getCartItems().size());
+        for (CartItem cartItem : cart.getCartItems()) {
+            Product product = cartItem.getProduct();
+            requestedQuantities.merge(product.getId(), cartItem.getQuantity(), Integer::sum);
+
+            OrderItem orderItem = OrderItem.builder()
+                    .order(order)
+                    .product(product)
+                    .quantity(cartItem.getQuantity())
+                    .unitPrice(product.getPrice())
+                    .build();
+            order.addOrderItem(orderItem);
+            orderItems.add(orderItem);
+        }
+
+        decreaseStock(requestedQuantities, cart);
+        eventPublisher.publishEvent(new ProductChangedEvent(requestedQuantities.keySet())); // 커밋 후 상품 캐시 무효화
+
+        order.calculateTotalPrice();
+        Order savedOrder = orderRepository.save(order);
+        outboxEventPublisher.append("Order", savedOrder.getId(), OrderCreatedEvent.TYPE, OrderCreatedEvent.from(savedOrder));
+
+        // orphanRemoval로 항목 삭제 (hibernate.jdbc.batch_size에 따라 DELETE 배치로 전송)
+        cart.clearCartItems();
+
+        return OrderDetailDTO.from(savedOrder, orderItems);
+    }
+
+    // 장바구니 주문 전환용 재고 차감. 상품은 장바구니와 함께 이미 적재되어 있으므로 다시 조회하지 않습니다.
+    private void decreaseStock(SortedMap<Integer, Integer> requestedQuantities, Cart cart) {
+        if (inventoryService.isEnabled()) {
+            inventoryService.reserve(requestedQuantities);
+            return;
+        }
+
+        Map<Integer, Product> products = cart.getCartItems().stream()
+                .map(CartItem::getProduct)
+                .collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> a));
+        boolean optimistic = inventoryService.getLockMode() == LockMode.OPTIMISTIC;
+        if (optimistic) {
+            checkStocks(requestedQuantities, products); // 버전 조건 UPDATE는 재고를 보지 않으므로 읽은 값으로 먼저 확인
+        }
+        applyStockDecrease(requestedQuantities, products, optimistic);
+    }
+
     private List<OrderItem> processOrderItems(List<OrderItemRequestDTO> itemRequests, Order order) {
-        List<OrderItem> orderItems = new ArrayList<>();
-        
+        // 상품별 요청 수량 합산 (같은 상품이 여러 줄로 들어와도 한 번에 차감, id 오름차순 정렬)
+        SortedMap<Integer, Integer> requestedQuantities = new TreeMap<>();
         for (OrderItemRequestDTO itemRequest : itemRequests) {
-            // 상품 조회
-            Product product = productRepository.findById(itemRequest.productId())
-                    .orElseThrow(() -> new ProductNotFoundException("상품을 찾을 수 없습니다. ID: " + itemRequest.productId()));
-
-            // 재고 검증
-            if (product.getStock() < itemRequest.quantity()) {
-                throw new InsufficientStockException(
-                        product.getName(), itemRequest.quantity(), product.getStock());
+            requestedQuantities.merge(itemRequest.productId(), itemRequest.quantity(), Integer::sum);
+        }
+
+        // 단가 검증은 가격 캐시로 (재고 잠금 전에 실패하도록 먼저 수행, 캐시 적중 시 DB 조회 없음)
+        Map<Integer, ProductPriceDto> prices = verifyPrices(itemRequests);
+
+        // 재고 검증 및 차감 (상품 조회 1회 + 조건부 UPDATE 배치 1회)
+        Map<Integer, Product> products = reserveStock(requestedQuantities);
+        eventPublisher.publishEvent(new ProductChangedEvent(requestedQuantities.keySet())); // 커밋 후 상품 캐시 무효화
+
+        // 재고 예약에서 이미 읽은 상품 엔티티로 캐시가 최신이었는지 한 번 더 확인 (추가 조회 없음)
+        for (Product product : products.values()) {
+            ProductPriceDto verified = prices.get(product.getId());
+            if (verified.priceVersion() != product.getPriceVersion()) {
+                productPriceCache.apply(ProductPriceDto.from(product));
+                throw new PriceMismatchException(product.getId(), verified.price(), verified.priceVersion(),
+                        product.getPrice(), product.getPriceVersion());
             }
-            
-            // 재고 차감
-            product.setStock(product.getStock() - itemRequest.quantity());
+        }
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        for (OrderItemRequestDTO itemRequest : itemRequests) {
+            Product product = products.get(itemRequest.productId());
 
             // 주문 항목 생성 및 주문에 추가
             OrderItem orderItem = OrderItem.builder()
                     .order(order)
                     .product(product)
                     .quantity(itemRequest.quantity())
-                    .unitPrice(itemRequest.unitPrice())
+                    .unitPrice(prices.get(itemRequest.productId()).price()) // 검증된 서버 단가
                     .build();
 
             // 주문에 직접 추가 (양방향 관계 설정)
@@ -110,14 +248,118 @@ public class OrderService {
         return orderItems;
     }
 
-    public List<OrderListDTO> getMyOrders(Integer userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId));
-        
-        return orderRepository.findByUserOrderByOrderDateDesc(user)
-                .stream()
-                .map(OrderListDTO::from)
+    /**
+     * 요청 단가(및 가격 버전)를 가격 캐시의 현재 값과 비교합니다.
+     * 요청한 버전이 캐시보다 높으면 이 노드에 변경이 아직 도착하지 않은 것이므로 해당 상품만 DB에서 다시 읽습니다.
+     *
+     * @return productId -> 검증된 현재 가격
+     * @throws PriceMismatchException 단가 또는 가격 버전이 현재 값과 다른 경우
+     */
+    private Map<Integer, ProductPriceDto> verifyPrices(List<OrderItemRequestDTO> itemRequests) {
+        Set<Integer> productIds = itemRequests.stream()
+                .map(OrderItemRequestDTO::productId)
+                .collect(Collectors.toSet());
+        Map<Integer, ProductPriceDto> prices = productPriceCache.getAll(productIds);
+
+        List<Integer> behind = itemRequests.stream()
+                .filter(item -> item.priceVersion() != null && prices.containsKey(item.productId())
+                        && item.priceVersion() > prices.get(item.productId()).priceVersion())
+                .map(OrderItemRequestDTO::productId)
+                .distinct()
                 .toList();
+        if (!behind.isEmpty()) {
+            prices.putAll(productPriceCache.refresh(behind));
+        }
+
+        for (OrderItemRequestDTO item : itemRequests) {
+            ProductPriceDto current = prices.get(item.productId());
+            if (current == null) {
+                throw new ProductNotFoundException("상품을 찾을 수 없습니다. ID: " + item.productId());
+            }
+            boolean priceDiffers = item.unitPrice() != current.price();
+            boolean versionDiffers = item.priceVersion() != null && item.priceVersion() != current.priceVersion();
+            if (priceDiffers || versionDiffers) {
+                throw new PriceMismatchException(item.productId(), item.unitPrice(), item.priceVersion(),
+                        current.price(), current.priceVersion());
+            }
+        }
+        return prices;
+    }
+
+    // 요청 상품들을 id 순으로 한 번에 잠그고, 조건부 UPDATE 배치로 재고를 차감합니다.
+    // 차감은 JDBC로 직접 반영되므로 영속성 컨텍스트의 Product.stock 값은 갱신하지 않습니다. (dirty checking 없음)
+    // Redis 재고 카운터 사용 시에는 행 잠금 없이 카운터에서 차감하고, DB 반영은 write-behind로 처리됩니다.
+    // 낙관적 락 모드(inventory.lock-mode=optimistic)에서는 잠그지 않고 읽은 뒤 버전 조건으로 차감합니다.
+    private Map<Integer, Product> reserveStock(SortedMap<Integer, Integer> requestedQuantities) {
+        if (inventoryService.isEnabled()) {
+            inventoryService.reserve(requestedQuantities);
+            return productRepository.findAllById(requestedQuantities.keySet())
+                    .stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+        }
+
+        boolean optimistic = inventoryService.getLockMode() == LockMode.OPTIMISTIC;
+        List<Product> loaded = optimistic
+                ? productRepository.findAllById(requestedQuantities.keySet())
+                : productRepository.findAllByIdInForUpdate(requestedQuantities.keySet());
+        Map<Integer, Product> products = loaded.stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        checkStocks(requestedQuantities, products);
+        applyStockDecrease(requestedQuantities, products, optimistic);
+        return products;
+    }
+
+    private void checkStocks(SortedMap<Integer, Integer> requestedQuantities, Map<Integer, Product> products) {
+        for (Map.Entry<Integer, Integer> entry : requestedQuantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                throw new ProductNotFoundException("상품을 찾을 수 없습니다. ID: " + entry.getKey());
+            }
+            if (product.getStock() < entry.getValue()) {
+                throw new InsufficientStockException(product.getName(), entry.getValue(), product.getStock());
+            }
+        }
+    }
+
+    /**
+     * 재고 차감 UPDATE 배치 1회.
+     * 비관적 모드는 조건부 UPDATE(재고 >= 수량)로, 0건이면 재고 부족입니다. (현재 재고는 실패할 때만 다시 읽음)
+     * 낙관적 모드는 읽은 버전 조건 UPDATE로, 0건이면 그 사이 다른 트랜잭션이 상품을 바꾼 것이므로
+     * 낙관적 락 충돌로 알려 {@link OptimisticLockRetry}가 새 트랜잭션에서 다시 읽고 시도하게 합니다.
+     */
+    private void applyStockDecrease(SortedMap<Integer, Integer> requestedQuantities, Map<Integer, Product> products,
+                                    boolean optimistic) {
+        int[] updatedRows;
+        if (optimistic) {
+            Map<Integer, Long> versions = requestedQuantities.keySet().stream()
+                    .collect(Collectors.toMap(Function.identity(), productId -> products.get(productId).getVersion()));
+            updatedRows = productStockRepository.decreaseStocksIfUnchanged(requestedQuantities, versions);
+        } else {
+            updatedRows = productStockRepository.decreaseStocks(requestedQuantities);
+        }
+
+        int index = 0;
+        for (Map.Entry<Integer, Integer> entry : requestedQuantities.entrySet()) {
+            if (updatedRows[index++] != 0) {
+                continue;
+            }
+            if (optimistic) {
+                throw new ObjectOptimisticLockingFailureException(Product.class, entry.getKey());
+            }
+            Product product = products.get(entry.getKey());
+            int available = productStockRepository.findStocks(List.of(entry.getKey())).getOrDefault(entry.getKey(), 0);
+            throw new InsufficientStockException(product.getName(), entry.getValue(), available);
+        }
+    }
+
+    public List<OrderListDTO> getMyOrders(Integer userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다. ID: " + userId);
+        }
+
+        // 주문자 이름까지 프로젝션 쿼리 1회로 조회 (주문별 사용자 지연 로딩 없음)
+        return orderRepository.findOrderListByUserId(userId);
     }
 
     // 3. 주문 상세 조회 (관리자는 모두 가능, 일반 사용자는 본인 주문만)
@@ -144,27 +386,18 @@ public class OrderService {
 
     // 4. 관리자 - 전체 주문 목록
     public List<OrderListDTO> getAllOrders() {
-        return orderRepository.findAllByOrderByOrderDateDesc()
-                .stream()
-                .map(OrderListDTO::from)
-                .toList();
+        return orderRepository.findAllOrderList();
     }
 
     public List<OrderListDTO> getAllOrdersByStatus(OrderStatus status) {
-        return orderRepository.findByStatusOrderByOrderDateDesc(status)
-                .stream()
-                .map(OrderListDTO::from)
-                .toList();
+        return orderRepository.findOrderListByStatus(status);
     }
 
     public Page<OrderListDTO> getAllOrdersWithPagination(Pageable pageable, OrderStatus status) {
-        Page<Order> orders;
         if (status != null) {
-            orders = orderRepository.findByStatusOrderByOrderDateDesc(status, pageable);
-        } else {
-            orders = orderRepository.findAllByOrderByOrderDateDesc(pageable);
+            return orderRepository.findOrderListPageByStatus(status, pageable);
         }
-        return orders.map(OrderListDTO::from);
+        return orderRepository.findOrderListPage(pageable);
     }
 
     public OrderDetailDTO getOrderDetailForAdmin(Integer orderId) {
@@ -175,38 +408,9 @@ public class OrderService {
         return OrderDetailDTO.from(order, items);
     }
 
+    // 일별 집계 테이블에서 조회 (주문 엔티티를 메모리에 올리지 않음)
     public List<OrderStatisticsResponseDto> getOrderStatistics(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime startDateTime = startDate.atStartOfDay();
-        LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-        
-        List<Order> orders = orderRepository.findByOrderDateBetween(startDateTime, endDateTime);
-        
-        return orders.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        order -> order.getOrderDate().toLocalDate(),
-                        java.util.stream.Collectors.groupingBy(
-                                Order::getStatus,
-                                java.util.stream.Collectors.collectingAndThen(
-                                        java.util.stream.Collectors.toList(),
-                                        orderList -> {
-                                            long count = orderList.size();
-                                            long revenue = orderList.stream()
-                                                    .mapToLong(Order::getTotalPrice)
-                                                    .sum();
-                                            return new OrderStatisticsResponseDto(
-                                                    orderList.getFirst().getOrderDate().toLocalDate(),
-                                                    orderList.getFirst().getStatus(),
-                                                    count,
-                                                    revenue
-                                            );
-                                        }
-                                )
-                        )
-                ))
-                .values()
-                .stream()
-                .flatMap(statusMap -> statusMap.values().stream())
-                .toList();
+        return dailySalesRollupService.getOrderStatistics(startDate, endDate);
     }
 
     @Transactional
@@ -214,8 +418,63 @@ public class OrderService {
         Order order = orderRepository.findById(dto.orderId())
                 .orElseThrow(() -> new OrderNotFoundException(dto.orderId()));
         
+        OrderStatus previousStatus = order.getStatus();
         order.setStatus(dto.newStatus());
+        if (previousStatus != order.getStatus()) {
+            outboxEventPublisher.append("Order", order.getId(), OrderStatusChangedEvent.TYPE,
+                    OrderStatusChangedEvent.of(order, previousStatus));
+        }
         List<OrderItem> items = orderItemRepository.findByOrder(order);
         return OrderDetailDTO.from(order, items);
     }
+
+    /**
+     * 관리자 - 주문 상태 일괄 변경.
+     * 대상 주문을 IN 조회 한 번으로 읽고, 변경분은 Hibernate JDBC 배치 UPDATE(hibernate.jdbc.batch_size)로,
+     * 상태 변경 이벤트는 아웃박스 배치 INSERT로 기록합니다. 잘못된 항목은 건너뛰고 행 단위 결과로 알려줍니다.
+     */
+    @Transactional
+    public BulkResultDto updateOrderStatuses(List<OrderStatusUpdateDTO> updates) {
+        Set<Integer> orderIds = updates.stream()
+                .filter(Objects::nonNull) // null 항목은 아래에서 행 단위 실패로 기록
+                .map(OrderStatusUpdateDTO::orderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Order> orders = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<BulkItemResultDto> results = new ArrayList<>(updates.size());
+        Map<Integer, OrderStatusChangedEvent> events = new LinkedHashMap<>();
+        Set<Integer> seen = new HashSet<>();
+        for (int i = 0; i < updates.size(); i++) {
+            int row = i + 1;
+            OrderStatusUpdateDTO update = updates.get(i);
+            if (update == null || update.orderId() == null || update.newStatus() == null) {
+                results.add(BulkItemResultDto.failed(row, update != null ? update.orderId() : null,
+                        "주문 ID와 변경할 상태는 필수입니다."));
+                continue;
+            }
+            Integer orderId = update.orderId();
+            if (!seen.add(orderId)) {
+                results.add(BulkItemResultDto.failed(row, orderId, "같은 요청에 중복된 주문 ID입니다."));
+                continue;
+            }
+            Order order = orders.get(orderId);
+            if (order == null) {
+                results.add(BulkItemResultDto.failed(row, orderId, new OrderNotFoundException(orderId).getMessage()));
+                continue;
+            }
+            OrderStatus previousStatus = order.getStatus();
+            if (previousStatus == update.newStatus()) {
+                results.add(BulkItemResultDto.skipped(row, orderId, "이미 " + previousStatus + " 상태입니다."));
+                continue;
+            }
+            order.setStatus(update.newStatus()); // 커밋 시 변경 감지 UPDATE가 배치로 묶여 실행됨
+            events.put(orderId, OrderStatusChangedEvent.of(order, previousStatus));
+            results.add(BulkItemResultDto.success(row, orderId));
+        }
+
+        outboxEventPublisher.appendAll("Order", OrderStatusChangedEvent.TYPE, events);
+        return BulkResultDto.of(results);
+    }
 }
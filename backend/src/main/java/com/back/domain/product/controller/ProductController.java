@@ -1,11 +1,20 @@
 package com.back.domain.product.controller;
 
+import com.back.domain.admin.dto.PageResponseDto;
+import com.back.domain.product.dto.product.CursorPageResponseDto;
 import com.back.domain.product.dto.product.ProductResponseDto;
 import com.back.domain.product.dto.product.ProductSearchDto;
+import com.back.domain.product.dto.product.ProductSortType;
+import com.back.domain.product.dto.product.ProductSummaryDto;
 import com.back.domain.product.service.ProductService;
+import com.back.global.metrics.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,6 +45,20 @@ public class ProductController {
         return ResponseEntity.ok(products); // 200 OK 응답
     }
 
+    // 커서 기반 상품 목록 조회 API
+    @GetMapping("/api/v1/products/cursor")
+    @Operation(summary = "상품 목록 조회 (커서 페이징)",
+            description = "정렬 기준(LATEST: 최신순, PRICE_ASC: 낮은 가격순)에 따라 상품 요약(카테고리 id/이름/경로 포함)을 커서 방식으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하세요.")
+    @QueryBudget(2)
+    public ResponseEntity<CursorPageResponseDto<ProductSummaryDto>> getProductsByCursor(
+            @RequestParam(required = false, defaultValue = "LATEST") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        ProductSearchDto searchDto = new ProductSearchDto(null, null, null, null, null, true, false);
+        return ResponseEntity.ok(productService.getProductsByCursor(searchDto, sort, cursor, size));
+    }
+
     //검색 및 필터링 API들
     // 통합 상품 검색 API
     @PostMapping("/api/v1/products/search")
@@ -67,6 +90,52 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
     
+    // 페이징 통합 검색 API (조건/정렬/페이징 모두 DB에서 처리)
+    @GetMapping("/api/v1/products/search/page")
+    @Operation(summary = "통합 상품 검색 (페이징)",
+            description = "통합 검색 조건에 page, size, sort 파라미터를 더해 상품을 페이지 단위로 검색합니다. 예: sort=price,desc")
+    public ResponseEntity<PageResponseDto<ProductResponseDto>> searchProductsWithPaging(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Integer categoryId,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Integer minStock,
+            @RequestParam(required = false, defaultValue = "true") Boolean includeOutOfStock,
+            @RequestParam(required = false, defaultValue = "false") Boolean includeSubCategories,
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable
+    ) {
+        ProductSearchDto searchDto = new ProductSearchDto(
+                name, categoryId, minPrice, maxPrice, minStock,
+                includeOutOfStock, includeSubCategories
+        );
+        Page<ProductResponseDto> products = productService.searchProducts(searchDto, pageable);
+        return ResponseEntity.ok(PageResponseDto.of(products));
+    }
+    
+    // 커서 기반 통합 검색 API
+    @GetMapping("/api/v1/products/search/cursor")
+    @Operation(summary = "통합 상품 검색 (커서 페이징)",
+            description = "통합 검색 조건으로 상품을 커서 방식으로 조회합니다. 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.")
+    @QueryBudget(2)
+    public ResponseEntity<CursorPageResponseDto<ProductSummaryDto>> searchProductsByCursor(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Integer categoryId,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Integer minStock,
+            @RequestParam(required = false, defaultValue = "true") Boolean includeOutOfStock,
+            @RequestParam(required = false, defaultValue = "false") Boolean includeSubCategories,
+            @RequestParam(required = false, defaultValue = "LATEST") ProductSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "20") Integer size
+    ) {
+        ProductSearchDto searchDto = new ProductSearchDto(
+                name, categoryId, minPrice, maxPrice, minStock,
+                includeOutOfStock, includeSubCategories
+        );
+        return ResponseEntity.ok(productService.getProductsByCursor(searchDto, sort, cursor, size));
+    }
+    
     // 상품명으로 검색하는 API
     @GetMapping("/api/v1/products/search/name")
     @Operation(summary = "상품명으로 검색",
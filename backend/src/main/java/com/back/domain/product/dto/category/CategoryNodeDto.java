@@ -0,0 +1,9 @@
+package com.back.domain.product.dto.category;
+
+// 카테고리 트리 조립용 평면 행 (category 테이블 한 줄)
+public record CategoryNodeDto(
+        Integer id,
+        String name,
+        Integer parentId
+) {
+}
@@ -0,0 +1,12 @@
+package com.back.domain.product.dto.product;
+
+import java.util.List;
+
+// 커서 페이징 응답 (nextCursor를 그대로 다음 요청의 cursor 파라미터로 전달)
+public record CursorPageResponseDto<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,65 @@
+package com.back.domain.product.dto.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 상품 커서 페이징의 마지막 위치.
+ * 클라이언트에는 정렬 기준과 마지막 상품의 정렬 키를 Base64(URL-safe)로 인코딩한 불투명 토큰으로 전달됩니다.
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        LocalDateTime createdAt, // LATEST 정렬에서 사용
+        Integer price,           // PRICE_ASC 정렬에서 사용
+        Integer id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor of(ProductSummaryDto product, ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> new ProductCursor(sortType, product.createdAt(), null, product.id());
+            case PRICE_ASC -> new ProductCursor(sortType, null, product.price(), product.id());
+        };
+    }
+
+    public String encode() {
+        String key = switch (sortType) {
+            case LATEST -> createdAt.toString();
+            case PRICE_ASC -> price.toString();
+        };
+        String raw = sortType.name() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 잘못된 토큰이거나 요청한 정렬 기준과 다른 커서면 IllegalArgumentException (400)
+    public static ProductCursor decode(String token, ProductSortType expectedSortType) {
+        ProductCursor cursor = parse(token);
+        if (cursor.sortType() != expectedSortType) {
+            throw new IllegalArgumentException("커서의 정렬 기준이 요청한 정렬 기준과 다릅니다.");
+        }
+        return cursor;
+    }
+
+    private static ProductCursor parse(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("커서 형식 오류: " + raw);
+            }
+
+            ProductSortType sortType = ProductSortType.valueOf(parts[0]);
+            Integer id = Integer.valueOf(parts[2]);
+            return switch (sortType) {
+                case LATEST -> new ProductCursor(sortType, LocalDateTime.parse(parts[1]), null, id);
+                case PRICE_ASC -> new ProductCursor(sortType, null, Integer.valueOf(parts[1]), id);
+            };
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩 오류, 숫자 형식 오류, 알 수 없는 정렬 값 모두 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.back.domain.product.dto.product;
+
+import com.back.domain.product.entity.Product;
+
+// 주문 단가 검증용 가격 스냅샷 (가격 + 가격 버전)
+public record ProductPriceDto(
+        Integer productId,
+        int price,
+        int priceVersion
+) {
+    public static ProductPriceDto from(Product product) {
+        return new ProductPriceDto(product.getId(), product.getPrice(), product.getPriceVersion());
+    }
+
+    // 같은 상품의 두 스냅샷 중 더 최근 것 (이벤트/메시지 도착 순서가 바뀌어도 되돌아가지 않도록)
+    public static ProductPriceDto newer(ProductPriceDto a, ProductPriceDto b) {
+        return b.priceVersion() >= a.priceVersion() ? b : a;
+    }
+}
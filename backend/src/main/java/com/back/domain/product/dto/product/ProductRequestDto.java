@@ -24,5 +24,14 @@ public record ProductRequestDto (
         String description,
 
         @NotNull(message = "카테고리 ID는 필수입니다.")
-        Integer categoryId
-) {}
+        Integer categoryId,
+
+        // 수정 시 클라이언트가 조회한 상품 버전 (다르면 409). 생성/일괄 등록에서는 사용하지 않습니다.
+        Long version
+) {
+
+    public ProductRequestDto(String name, String imageUrl, Integer price, Integer stock, String description,
+                             Integer categoryId) {
+        this(name, imageUrl, price, stock, description, categoryId, null);
+    }
+}
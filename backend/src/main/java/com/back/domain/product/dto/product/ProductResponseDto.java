@@ -11,11 +11,13 @@ public record ProductResponseDto(
         String name,
         String imageUrl,
         Integer price,
+        Integer priceVersion,
         Integer stock,
         String description,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        CategoryResponseDto category
+        CategoryResponseDto category,
+        Long version
 ) {
 
     public static ProductResponseDto from(Product product) {
@@ -29,11 +31,13 @@ public record ProductResponseDto(
                 product.getName(),
                 product.getImageUrl(),
                 product.getPrice(),
+                product.getPriceVersion(),
                 product.getStock(),
                 product.getDescription(),
                 product.getCreatedAt(),
                 product.getUpdatedAt(),
-                categoryResponse
+                categoryResponse,
+                product.getVersion()
         );
     }
 }
\ No newline at end of file
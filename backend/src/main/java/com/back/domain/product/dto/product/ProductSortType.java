@@ -0,0 +1,7 @@
+package com.back.domain.product.dto.product;
+
+// 커서 페이징 정렬 기준 (모든 정렬은 id를 보조 키로 사용하여 순서가 항상 유일하게 정해짐)
+public enum ProductSortType {
+    LATEST,    // created_at DESC, id DESC
+    PRICE_ASC  // price ASC, id ASC
+}
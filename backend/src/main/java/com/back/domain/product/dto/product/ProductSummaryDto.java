@@ -0,0 +1,31 @@
+package com.back.domain.product.dto.product;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록용 경량 DTO.
+ * 카테고리는 엔티티/하위 트리 대신 id, 이름, 경로(예: "식품 > 커피빈")만 담습니다.
+ * 목록 쿼리에서 JPQL/Criteria 생성자 프로젝션으로 바로 생성되며, categoryPath는 카테고리 트리 캐시에서 채웁니다.
+ */
+public record ProductSummaryDto(
+        Integer id,
+        String name,
+        String imageUrl,
+        Integer price,
+        Integer stock,
+        LocalDateTime createdAt,
+        Integer categoryId,
+        String categoryName,
+        String categoryPath
+) {
+
+    // 생성자 프로젝션용 (categoryPath 제외)
+    public ProductSummaryDto(Integer id, String name, String imageUrl, Integer price, Integer stock,
+                             LocalDateTime createdAt, Integer categoryId, String categoryName) {
+        this(id, name, imageUrl, price, stock, createdAt, categoryId, categoryName, null);
+    }
+
+    public ProductSummaryDto withCategoryPath(String categoryPath) {
+        return new ProductSummaryDto(id, name, imageUrl, price, stock, createdAt, categoryId, categoryName, categoryPath);
+    }
+}
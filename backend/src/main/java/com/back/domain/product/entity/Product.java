@@ -7,6 +7,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 import static jakarta.persistence.GenerationType.IDENTITY;
 
@@ -31,9 +32,19 @@ public class Product {
     @Column(nullable = false)
     private Integer price;
 
+    // 가격이 바뀔 때마다 1씩 증가 (주문 단가 검증용)
+    @Column(name = "price_version", nullable = false, columnDefinition = "INT UNSIGNED DEFAULT 1")
+    @Builder.Default
+    private Integer priceVersion = 1;
+
     @Column(nullable = false)
     private Integer stock;
 
+    // 낙관적 락 버전. 재고를 직접 바꾸는 JDBC UPDATE(주문 차감, write-behind 반영)도 함께 올립니다.
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @Lob
     @Column(name = "description") // description을 위한 고유한 컬럼 이름 명시
     private String description;
@@ -49,4 +60,18 @@ public class Product {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id") // category_id 컬럼 이름 지정
     private Category category;
+
+    /**
+     * 가격을 바꾸고, 실제로 바뀌었으면 가격 버전을 올립니다.
+     *
+     * @return 가격이 바뀌었으면 true
+     */
+    public boolean changePrice(Integer price) {
+        if (Objects.equals(this.price, price)) {
+            return false;
+        }
+        this.price = price;
+        this.priceVersion++;
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package com.back.domain.product.event;
+
+// 카테고리가 추가/수정/삭제되었음을 알리는 이벤트. 커밋 이후 카테고리 트리 캐시를 다시 발행합니다.
+public record CategoryChangedEvent(Integer categoryId) {
+}
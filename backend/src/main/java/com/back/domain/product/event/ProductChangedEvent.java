@@ -0,0 +1,12 @@
+package com.back.domain.product.event;
+
+import java.util.Collection;
+import java.util.List;
+
+// 상품 정보(가격, 재고 등)가 변경되었음을 알리는 이벤트. 커밋 이후 캐시 무효화에 사용됩니다.
+public record ProductChangedEvent(Collection<Integer> productIds) {
+
+    public static ProductChangedEvent of(Integer productId) {
+        return new ProductChangedEvent(List.of(productId));
+    }
+}
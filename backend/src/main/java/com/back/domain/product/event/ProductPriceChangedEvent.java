@@ -0,0 +1,16 @@
+package com.back.domain.product.event;
+
+import com.back.domain.product.dto.product.ProductPriceDto;
+import com.back.domain.product.entity.Product;
+
+// 상품 가격이 바뀌었거나(price != null) 상품이 삭제되었음(price == null)을 알리는 이벤트. 커밋 이후 가격 캐시 갱신에 사용됩니다.
+public record ProductPriceChangedEvent(Integer productId, ProductPriceDto price) {
+
+    public static ProductPriceChangedEvent of(Product product) {
+        return new ProductPriceChangedEvent(product.getId(), ProductPriceDto.from(product));
+    }
+
+    public static ProductPriceChangedEvent removed(Integer productId) {
+        return new ProductPriceChangedEvent(productId, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.domain.product.exception;
+
+import lombok.Getter;
+
+// 관리자가 본 상품 버전과 현재 버전이 다를 때 (그 사이 주문 재고 차감이나 다른 수정이 커밋된 경우)
+@Getter
+public class ProductVersionMismatchException extends RuntimeException {
+
+    private final Integer productId;
+    private final long currentVersion;
+
+    public ProductVersionMismatchException(Integer productId, Long requestedVersion, long currentVersion) {
+        super(String.format("상품 ID %d가 다른 요청에 의해 변경되었습니다. 요청 버전: %d, 현재 버전: %d",
+                productId, requestedVersion, currentVersion));
+        this.productId = productId;
+        this.currentVersion = currentVersion;
+    }
+}
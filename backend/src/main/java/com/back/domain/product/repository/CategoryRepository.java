@@ -1,11 +1,18 @@
 package com.back.domain.product.repository;
 
+import com.back.domain.product.dto.category.CategoryNodeDto;
 import com.back.domain.product.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
     // 부모 카테고리가 없는(null) 모든 카테고리를 조회하는 메서드
     List<Category> findByParentIsNull();
-}
\ No newline at end of file
+
+    // 카테고리 트리 캐시용: 전체 카테고리를 쿼리 한 번으로 평면 조회 (children 지연 로딩 없음)
+    @Query("SELECT new com.back.domain.product.dto.category.CategoryNodeDto(c.id, c.name, p.id) " +
+            "FROM Category c LEFT JOIN c.parent p ORDER BY c.id")
+    List<CategoryNodeDto> findAllNodes();
+}
@@ -0,0 +1,158 @@
+package com.back.domain.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Redis 재고 카운터 저장소.
+ * 키는 모두 같은 해시 태그({inventory})를 사용하여 클러스터에서도 Lua 스크립트가 한 슬롯에서 실행되도록 합니다.
+ * <ul>
+ *     <li>{inventory}:stock:{productId} - 판매 가능한 재고 (DB 재고 - 미반영 차감분 - 진행 중인 예약)</li>
+ *     <li>{inventory}:pending - 커밋되었지만 아직 DB에 반영되지 않은 차감분 (productId -> 수량)</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryCounterRepository {
+
+    private static final String STOCK_KEY_PREFIX = "{inventory}:stock:";
+    private static final String PENDING_KEY = "{inventory}:pending";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Qualifier("inventoryReserveScript")
+    private final DefaultRedisScript<Long> reserveScript;
+
+    @SuppressWarnings("rawtypes")
+    @Qualifier("inventoryDrainScript")
+    private final DefaultRedisScript<List> drainScript;
+
+    @Qualifier("inventoryReconcileScript")
+    private final DefaultRedisScript<Long> reconcileScript;
+
+    /**
+     * 여러 상품의 재고를 원자적으로 차감합니다. (전부 차감되거나 전부 차감되지 않음)
+     *
+     * @return 0 = 성공, 양수 i = i번째 상품 재고 부족, 음수 -i = i번째 상품 카운터 없음 (1부터 시작, 맵 순서 기준)
+     */
+    public long reserve(SortedMap<Integer, Integer> quantities) {
+        List<String> keys = new ArrayList<>(quantities.size());
+        Object[] args = new Object[quantities.size()];
+        int index = 0;
+        for (Map.Entry<Integer, Integer> entry : quantities.entrySet()) {
+            keys.add(stockKey(entry.getKey()));
+            args[index++] = String.valueOf(entry.getValue());
+        }
+        Long result = redisTemplate.execute(reserveScript, keys, args);
+        return result != null ? result : 0L;
+    }
+
+    // 롤백된 예약 수량을 카운터에 되돌립니다.
+    public void release(Map<Integer, Integer> quantities) {
+        quantities.forEach((productId, quantity) ->
+                redisTemplate.opsForValue().increment(stockKey(productId), quantity));
+    }
+
+    // 커밋된 차감분을 write-behind 대기열에 누적합니다.
+    public void addPending(Map<Integer, Integer> quantities) {
+        quantities.forEach((productId, quantity) ->
+                redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(productId), quantity));
+    }
+
+    // 플러시에 실패한 차감분을 대기열에 되돌립니다.
+    public void restorePending(Map<Integer, Long> deltas) {
+        deltas.forEach((productId, delta) ->
+                redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(productId), delta));
+    }
+
+    // 대기 중인 차감분 전체를 원자적으로 가져오고 비웁니다.
+    @SuppressWarnings("unchecked")
+    public Map<Integer, Long> drainPending() {
+        List<String> flat = redisTemplate.execute(drainScript, Collections.singletonList(PENDING_KEY));
+        Map<Integer, Long> deltas = new HashMap<>();
+        if (flat == null) {
+            return deltas;
+        }
+        for (int i = 0; i + 1 < flat.size(); i += 2) {
+            deltas.put(Integer.valueOf(flat.get(i)), Long.valueOf(flat.get(i + 1)));
+        }
+        return deltas;
+    }
+
+    public Map<Integer, Long> getPending(Collection<Integer> productIds) {
+        List<Object> fields = productIds.stream().map(id -> (Object) String.valueOf(id)).toList();
+        List<Object> values = redisTemplate.opsForHash().multiGet(PENDING_KEY, fields);
+        Map<Integer, Long> pending = new HashMap<>();
+        int index = 0;
+        for (Integer productId : productIds) {
+            Object value = values.get(index++);
+            pending.put(productId, value != null ? Long.parseLong(value.toString()) : 0L);
+        }
+        return pending;
+    }
+
+    public Long getStock(Integer productId) {
+        String value = redisTemplate.opsForValue().get(stockKey(productId));
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    // 여러 상품의 카운터를 MGET 한 번으로 조회합니다. (적재되지 않은 상품은 결과에서 빠짐)
+    public Map<Integer, Long> getStocks(Collection<Integer> productIds) {
+        List<Integer> ids = List.copyOf(productIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::stockKey).toList());
+        Map<Integer, Long> stocks = new HashMap<>();
+        for (int i = 0; values != null && i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                stocks.put(ids.get(i), Long.valueOf(values.get(i)));
+            }
+        }
+        return stocks;
+    }
+
+    // 카운터가 없을 때만 초기화합니다. (동시에 여러 요청이 적재해도 최초 값 하나만 남음)
+    public void initializeIfAbsent(Integer productId, long stock) {
+        redisTemplate.opsForValue().setIfAbsent(stockKey(productId), String.valueOf(stock));
+    }
+
+    // 관측한 값에서 바뀌지 않았을 때만 카운터를 보정합니다.
+    public boolean compareAndSet(Integer productId, long expected, long corrected) {
+        Long result = redisTemplate.execute(
+                reconcileScript,
+                Collections.singletonList(stockKey(productId)),
+                String.valueOf(expected),
+                String.valueOf(corrected)
+        );
+        return result != null && result == 1L;
+    }
+
+    public void evict(Integer productId) {
+        redisTemplate.delete(stockKey(productId));
+    }
+
+    // 현재 적재된 카운터의 productId 목록 (KEYS 대신 SCAN 사용)
+    public List<Integer> findLoadedProductIds() {
+        List<Integer> productIds = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(STOCK_KEY_PREFIX + "*").count(500).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> productIds.add(Integer.valueOf(key.substring(STOCK_KEY_PREFIX.length()))));
+        }
+        return productIds;
+    }
+
+    private String stockKey(Integer productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+}
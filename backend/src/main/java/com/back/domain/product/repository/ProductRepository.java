@@ -1,13 +1,18 @@
 package com.back.domain.product.repository;
 
+import com.back.domain.product.dto.product.ProductPriceDto;
 import com.back.domain.product.entity.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ProductRepository extends JpaRepository<Product, Integer> {
+public interface ProductRepository extends JpaRepository<Product, Integer>, JpaSpecificationExecutor<Product> {
     
     // 상품명으로 검색 (부분 일치, 대소문자 구분 없음)
     List<Product> findByNameContainingIgnoreCase(String name);
@@ -23,21 +28,19 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     
     // 재고가 0인 상품 조회 (품절 상품)
     List<Product> findByStock(Integer stock);
-    
-    // 복합 검색: 상품명 + 카테고리
-    List<Product> findByNameContainingIgnoreCaseAndCategoryId(String name, Integer categoryId);
-    
-    // 복합 검색: 상품명 + 가격 범위
-    List<Product> findByNameContainingIgnoreCaseAndPriceBetween(String name, Integer minPrice, Integer maxPrice);
-    
-    // 복합 검색: 카테고리 + 가격 범위
-    List<Product> findByCategoryIdAndPriceBetween(Integer categoryId, Integer minPrice, Integer maxPrice);
-    
-    // 복합 검색: 상품명 + 카테고리 + 가격 범위
-    List<Product> findByNameContainingIgnoreCaseAndCategoryIdAndPriceBetween(
-            String name, Integer categoryId, Integer minPrice, Integer maxPrice);
 
     // 카테고리와 하위 카테고리의 모든 상품 조회 (JPQL 사용)
     @Query("SELECT p FROM Product p WHERE p.category.id = :categoryId OR p.category.parent.id = :categoryId")
     List<Product> findByCategoryIdIncludingChildren(@Param("categoryId") Integer categoryId);
+
+    // 가격 캐시 적재용: 가격과 가격 버전만 IN 쿼리 한 번으로 조회
+    @Query("SELECT new com.back.domain.product.dto.product.ProductPriceDto(p.id, p.price, p.priceVersion) " +
+            "FROM Product p WHERE p.id IN :ids")
+    List<ProductPriceDto> findPrices(@Param("ids") Collection<Integer> ids);
+
+    // 주문 재고 예약용: 요청 상품들을 IN 쿼리 한 번으로 조회하며 행 잠금
+    // 여러 주문이 같은 상품들을 잠글 때 교착 상태가 생기지 않도록 항상 id 오름차순으로 잠급니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdInForUpdate(@Param("ids") Collection<Integer> ids);
 }
@@ -0,0 +1,117 @@
+package com.back.domain.product.repository;
+
+import com.back.domain.product.dto.product.ProductCursor;
+import com.back.domain.product.dto.product.ProductSearchDto;
+import com.back.domain.product.entity.Category;
+import com.back.domain.product.entity.Product;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 상품 검색 조건을 JPA Specification으로 조합합니다.
+ * 모든 조건이 하나의 WHERE 절로 합쳐져 DB에서 필터링/정렬/페이징됩니다.
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    // 검색 DTO의 모든 조건을 AND로 결합 (null인 조건은 무시됨)
+    public static Specification<Product> from(ProductSearchDto searchDto) {
+        Specification<Product> spec = fetchCategory();
+
+        if (searchDto.hasNameCondition()) {
+            spec = spec.and(nameContains(searchDto.name().trim()));
+        }
+        if (searchDto.hasCategoryCondition()) {
+            spec = spec.and(searchDto.includeSubCategories()
+                    ? inCategoryIncludingChildren(searchDto.categoryId())
+                    : inCategory(searchDto.categoryId()));
+        }
+        if (searchDto.minPrice() != null) {
+            spec = spec.and(priceGreaterThanOrEqual(searchDto.minPrice()));
+        }
+        if (searchDto.maxPrice() != null) {
+            spec = spec.and(priceLessThanOrEqual(searchDto.maxPrice()));
+        }
+        if (searchDto.minStock() != null) {
+            spec = spec.and(stockGreaterThanOrEqual(searchDto.minStock()));
+        }
+        if (!searchDto.includeOutOfStock()) {
+            spec = spec.and(inStock());
+        }
+        return spec;
+    }
+
+    // 응답 DTO에서 카테고리를 사용하므로 함께 가져옵니다. (엔티티 조회에만 적용, count/DTO 프로젝션 쿼리에는 붙이지 않음)
+    public static Specification<Product> fetchCategory() {
+        return (root, query, cb) -> {
+            if (query != null && query.getResultType() == Product.class) {
+                root.fetch("category", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Product> nameContains(String name) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + name.toLowerCase() + "%");
+    }
+
+    public static Specification<Product> inCategory(Integer categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    // 해당 카테고리와 바로 아래 하위 카테고리의 상품 (서브쿼리로 처리해 조인이 중복되지 않도록 함)
+    public static Specification<Product> inCategoryIncludingChildren(Integer categoryId) {
+        return (root, query, cb) -> {
+            Subquery<Integer> categoryIds = query.subquery(Integer.class);
+            Root<Category> category = categoryIds.from(Category.class);
+            categoryIds.select(category.get("id"))
+                    .where(cb.or(
+                            cb.equal(category.get("id"), categoryId),
+                            cb.equal(category.get("parent").get("id"), categoryId)
+                    ));
+            return root.get("category").get("id").in(categoryIds);
+        };
+    }
+
+    public static Specification<Product> priceGreaterThanOrEqual(Integer minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<Product> priceLessThanOrEqual(Integer maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    public static Specification<Product> stockGreaterThanOrEqual(Integer minStock) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("stock"), minStock);
+    }
+
+    public static Specification<Product> inStock() {
+        return (root, query, cb) -> cb.greaterThan(root.get("stock"), 0);
+    }
+
+    // 커서 이후의 상품만 조회하는 keyset 조건 (OFFSET 없이 인덱스 범위 탐색으로 다음 페이지를 찾음)
+    public static Specification<Product> after(ProductCursor cursor) {
+        return (root, query, cb) -> switch (cursor.sortType()) {
+            // created_at DESC, id DESC
+            case LATEST -> cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())
+                    )
+            );
+            // price ASC, id ASC
+            case PRICE_ASC -> cb.or(
+                    cb.greaterThan(root.get("price"), cursor.price()),
+                    cb.and(
+                            cb.equal(root.get("price"), cursor.price()),
+                            cb.greaterThan(root.get("id"), cursor.id())
+                    )
+            );
+        };
+    }
+}
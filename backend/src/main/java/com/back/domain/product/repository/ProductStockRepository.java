@@ -0,0 +1,89 @@
+package com.back.domain.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+
+    // 재고가 충분할 때만 차감하는 조건부 UPDATE (동시 주문이 있어도 재고가 음수가 되지 않음)
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product SET stock = stock - ?, version = version + 1 WHERE id = ? AND stock >= ?";
+
+    // 읽은 버전이 그대로일 때만 차감하는 UPDATE (낙관적 락 모드, 0건이면 다른 트랜잭션이 먼저 변경함)
+    private static final String DECREASE_STOCK_IF_UNCHANGED_SQL =
+            "UPDATE product SET stock = stock - ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    // Redis 카운터에서 이미 검증된 차감분을 반영하는 UPDATE (write-behind 전용)
+    private static final String APPLY_STOCK_DELTA_SQL =
+            "UPDATE product SET stock = stock - ?, version = version + 1 WHERE id = ?";
+
+    private static final String SELECT_STOCKS_SQL =
+            "SELECT id, stock FROM product WHERE id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 상품별 차감 수량을 하나의 JDBC 배치로 반영합니다.
+     * 잠금 순서를 고정하기 위해 productId 오름차순으로 정렬된 맵을 받습니다.
+     *
+     * @param quantities productId → 차감 수량
+     * @return 각 상품별 반영된 행 수 (0이면 재고 부족으로 차감되지 않음)
+     */
+    public int[] decreaseStocks(SortedMap<Integer, Integer> quantities) {
+        List<Object[]> batchArgs = quantities.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+        return jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, batchArgs);
+    }
+
+    /**
+     * 상품별 차감 수량을 읽은 시점의 버전 조건으로 하나의 JDBC 배치로 반영합니다. (낙관적 락 모드)
+     *
+     * @param quantities productId → 차감 수량 (productId 오름차순)
+     * @param versions   productId → 읽은 시점의 버전
+     * @return 각 상품별 반영된 행 수 (0이면 버전 충돌)
+     */
+    public int[] decreaseStocksIfUnchanged(SortedMap<Integer, Integer> quantities, Map<Integer, Long> versions) {
+        List<Object[]> batchArgs = quantities.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), versions.get(entry.getKey())})
+                .toList();
+        return jdbcTemplate.batchUpdate(DECREASE_STOCK_IF_UNCHANGED_SQL, batchArgs);
+    }
+
+    /**
+     * Redis에 누적된 재고 차감분을 하나의 JDBC 배치로 DB에 반영합니다.
+     *
+     * @param deltas productId → 누적 차감 수량
+     */
+    public void applyStockDeltas(Map<Integer, Long> deltas) {
+        List<Object[]> batchArgs = new TreeMap<>(deltas).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA_SQL, batchArgs);
+    }
+
+    // 엔티티를 로딩하지 않고 재고 값만 한 번에 조회합니다. (존재하지 않는 상품은 결과에서 빠짐)
+    public Map<Integer, Integer> findStocks(Collection<Integer> productIds) {
+        Map<Integer, Integer> stocks = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return stocks;
+        }
+        namedParameterJdbcTemplate.query(SELECT_STOCKS_SQL, Map.of("ids", productIds),
+                rs -> {
+                    stocks.put(rs.getInt("id"), rs.getInt("stock"));
+                });
+        return stocks;
+    }
+}
@@ -0,0 +1,58 @@
+package com.back.domain.product.repository;
+
+import com.back.domain.product.dto.product.ProductSummaryDto;
+import com.back.domain.product.entity.Category;
+import com.back.domain.product.entity.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 상품 검색 Specification을 그대로 사용하면서 엔티티 대신 목록용 DTO를 SELECT 절에서 바로 생성합니다.
+@Repository
+@RequiredArgsConstructor
+public class ProductSummaryQueryRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 상품 요약 목록을 쿼리 한 번으로 조회합니다. (카테고리는 LEFT JOIN, 지연 로딩 없음)
+     */
+    public List<ProductSummaryDto> findSummaries(Specification<Product> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummaryDto> query = cb.createQuery(ProductSummaryDto.class);
+        Root<Product> root = query.from(Product.class);
+        Join<Product, Category> category = root.join("category", JoinType.LEFT);
+
+        query.select(cb.construct(ProductSummaryDto.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("imageUrl"),
+                root.get("price"),
+                root.get("stock"),
+                root.get("createdAt"),
+                category.get("id"),
+                category.get("name")
+        ));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -3,22 +3,25 @@ package com.back.domain.product.service;
 import com.back.domain.product.dto.category.CategoryRequestDto;
 import com.back.domain.product.dto.category.CategoryResponseDto;
 import com.back.domain.product.entity.Category;
+import com.back.domain.product.event.CategoryChangedEvent;
 import com.back.domain.product.exception.CategoryNotFoundException;
 import com.back.domain.product.exception.CategoryHasProductsException;
 import com.back.domain.product.exception.CategoryHasChildrenException;
 import com.back.domain.product.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 카테고리 생성 메서드
     @Transactional
@@ -34,6 +37,7 @@ public class CategoryService {
                 .parent(parentCategory)
                 .build();
         Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId())); // 커밋 후 카테고리 트리 재발행
 
         return CategoryResponseDto.from(savedCategory);
     }
@@ -45,19 +49,14 @@ public class CategoryService {
         return CategoryResponseDto.from(category);
     }
 
-    // 전체 카테고리 목록 조회 메서드
+    // 전체 카테고리 목록 조회 메서드 (카테고리 트리 캐시 사용)
     public List<CategoryResponseDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(CategoryResponseDto::from)
-                .collect(Collectors.toList());
+        return categoryTreeCache.getAllCategories();
     }
 
-    // 부모 카테고리가 없는 루트 카테고리 목록 조회 메서드
+    // 부모 카테고리가 없는 루트 카테고리 목록 조회 메서드 (카테고리 트리 캐시 사용)
     public List<CategoryResponseDto> getRootCategories() {
-        // 부모 카테고리가 없는 카테고리들만 조회합니다.
-        return categoryRepository.findByParentIsNull().stream()
-                .map(CategoryResponseDto::from)
-                .collect(Collectors.toList());
+        return categoryTreeCache.getRootCategories();
     }
 
     // 특정 ID의 카테고리 업데이트 메서드
@@ -74,7 +73,7 @@ public class CategoryService {
 
         category.setName(requestDto.name());
         category.setParent(newParentCategory);
-
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
 
         return CategoryResponseDto.from(category);
     }
@@ -96,5 +95,6 @@ public class CategoryService {
         }
         
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,276 @@
+package com.back.domain.product.service;
+
+import com.back.domain.product.dto.category.CategoryNodeDto;
+import com.back.domain.product.dto.category.CategoryResponseDto;
+import com.back.domain.product.event.CategoryChangedEvent;
+import com.back.domain.product.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 트리 2단계 캐시 (노드 로컬 + Redis 공유 스냅샷).
+ * <ul>
+ *     <li>트리는 category 테이블 전체를 쿼리 한 번으로 읽어 메모리에서 조립합니다.</li>
+ *     <li>Redis에는 버전이 붙은 평면 스냅샷을 저장하고, 각 노드는 조립된 트리를 로컬에 보관합니다.</li>
+ *     <li>카테고리 변경이 커밋되면 새 버전을 발행하고 Pub/Sub으로 다른 노드의 로컬 사본을 무효화합니다.</li>
+ *     <li>Redis 장애 시에는 DB에서 직접 조립한 로컬 사본으로 동작합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CategoryTreeCache implements MessageListener {
+
+    private static final String SNAPSHOT_KEY = "{category-tree}:snapshot";
+    private static final String SNAPSHOT_VERSION_KEY = "{category-tree}:snapshot-version";
+    private static final String VERSION_SEQUENCE_KEY = "{category-tree}:version-seq";
+    private static final String CHANNEL = "category-tree:changed";
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final DefaultRedisScript<Long> publishScript;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration localTtl;
+    private final Duration snapshotTtl;
+
+    // synchronized 대신 사용: 잠금 안에서 Redis/DB I/O를 하므로 가상 스레드가 캐리어 스레드를 점유(pinning)하지 않도록 합니다.
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile CategoryTree localTree;
+
+    public CategoryTreeCache(
+            CategoryRepository categoryRepository,
+            StringRedisTemplate redisTemplate,
+            @Qualifier("categoryTreePublishScript") DefaultRedisScript<Long> publishScript,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${category.cache.local-ttl:5m}") Duration localTtl,
+            @Value("${category.cache.snapshot-ttl:24h}") Duration snapshotTtl
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.publishScript = publishScript;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.localTtl = localTtl;
+        this.snapshotTtl = snapshotTtl;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 전체 카테고리 (각 항목은 자신의 하위 트리를 포함)
+    public List<CategoryResponseDto> getAllCategories() {
+        return currentTree().all();
+    }
+
+    // 최상위 카테고리 (하위 트리 포함)
+    public List<CategoryResponseDto> getRootCategories() {
+        return currentTree().roots();
+    }
+
+    // 카테고리 경로 (예: "식품 > 커피빈"), 카테고리가 없으면 null
+    public String getCategoryPath(Integer categoryId) {
+        return categoryId != null ? currentTree().paths().get(categoryId) : null;
+    }
+
+    // 애플리케이션 시작 시 현재 DB 기준으로 스냅샷을 다시 발행합니다. (재시작 전의 오래된 스냅샷 방지)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        republish();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        republish();
+    }
+
+    // 다른 노드가 새 버전을 발행하면 로컬 사본을 버리고, 다음 조회 시 Redis 스냅샷을 읽습니다.
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            long version = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            CategoryTree tree = localTree;
+            if (tree == null || tree.version() < version) {
+                localTree = null;
+            }
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 카테고리 트리 무효화 메시지: {}", message);
+        }
+    }
+
+    /**
+     * DB에서 트리를 다시 읽어 새 버전으로 Redis에 저장하고 다른 노드에 알립니다.
+     * 버전을 먼저 발급받은 뒤 DB를 읽으므로, 더 높은 버전의 스냅샷은 항상 더 최근 커밋을 반영합니다.
+     */
+    public void republish() {
+        lock.lock();
+        try {
+            publishLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publishLocked() {
+        long version;
+        try {
+            Long next = redisTemplate.opsForValue().increment(VERSION_SEQUENCE_KEY);
+            version = next != null ? next : 0L;
+        } catch (DataAccessException e) {
+            log.warn("Redis에 접근할 수 없어 카테고리 트리를 로컬에서만 갱신합니다.", e);
+            localTree = CategoryTree.build(0L, categoryRepository.findAllNodes());
+            return;
+        }
+
+        Snapshot snapshot = new Snapshot(version, categoryRepository.findAllNodes());
+        localTree = CategoryTree.build(version, snapshot.nodes());
+
+        try {
+            redisTemplate.execute(
+                    publishScript,
+                    List.of(SNAPSHOT_KEY, SNAPSHOT_VERSION_KEY),
+                    String.valueOf(version),
+                    objectMapper.writeValueAsString(snapshot),
+                    String.valueOf(snapshotTtl.toSeconds())
+            );
+            redisTemplate.convertAndSend(CHANNEL, String.valueOf(version));
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("카테고리 트리 스냅샷 발행 실패 (version={})", version, e);
+        }
+    }
+
+    private CategoryTree currentTree() {
+        CategoryTree tree = localTree;
+        if (tree != null && !tree.isOlderThan(localTtl)) {
+            return tree;
+        }
+        lock.lock();
+        try {
+            tree = localTree;
+            if (tree != null && !tree.isOlderThan(localTtl)) {
+                return tree;
+            }
+            tree = loadFromRedis();
+            if (tree == null) {
+                publishLocked();
+                tree = localTree;
+            }
+            localTree = tree;
+            return tree;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CategoryTree loadFromRedis() {
+        try {
+            String json = redisTemplate.opsForValue().get(SNAPSHOT_KEY);
+            if (json == null) {
+                return null;
+            }
+            Snapshot snapshot = objectMapper.readValue(json, Snapshot.class);
+            return CategoryTree.build(snapshot.version(), snapshot.nodes());
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("카테고리 트리 스냅샷을 읽지 못해 DB에서 조립합니다.", e);
+            return null;
+        }
+    }
+
+    // Redis에 저장되는 평면 스냅샷
+    record Snapshot(long version, List<CategoryNodeDto> nodes) {
+    }
+
+    // 노드 로컬에 보관하는 조립된 트리
+    record CategoryTree(long version, List<CategoryResponseDto> all, List<CategoryResponseDto> roots,
+                        Map<Integer, String> paths, long loadedAt) {
+
+        private static final String PATH_DELIMITER = " > ";
+
+        static CategoryTree build(long version, List<CategoryNodeDto> nodes) {
+            Map<Integer, List<CategoryNodeDto>> childrenByParent = new HashMap<>();
+            for (CategoryNodeDto node : nodes) {
+                if (node.parentId() != null) {
+                    childrenByParent.computeIfAbsent(node.parentId(), key -> new ArrayList<>()).add(node);
+                }
+            }
+
+            Map<Integer, CategoryResponseDto> built = new HashMap<>();
+            List<CategoryResponseDto> all = new ArrayList<>(nodes.size());
+            List<CategoryResponseDto> roots = new ArrayList<>();
+            for (CategoryNodeDto node : nodes) {
+                CategoryResponseDto dto = toDto(node, childrenByParent, built);
+                all.add(dto);
+                if (node.parentId() == null) {
+                    roots.add(dto);
+                }
+            }
+            Map<Integer, CategoryNodeDto> nodesById = new HashMap<>();
+            nodes.forEach(node -> nodesById.put(node.id(), node));
+            Map<Integer, String> paths = new HashMap<>();
+            for (CategoryNodeDto node : nodes) {
+                paths.put(node.id(), toPath(node, nodesById));
+            }
+
+            return new CategoryTree(version, List.copyOf(all), List.copyOf(roots), Map.copyOf(paths),
+                    System.currentTimeMillis());
+        }
+
+        // 루트부터 자신까지의 이름을 이어 붙인 경로 (순환 참조가 있어도 노드 수만큼만 따라감)
+        private static String toPath(CategoryNodeDto node, Map<Integer, CategoryNodeDto> nodesById) {
+            List<String> names = new ArrayList<>();
+            CategoryNodeDto current = node;
+            while (current != null && names.size() <= nodesById.size()) {
+                names.add(0, current.name());
+                current = current.parentId() != null ? nodesById.get(current.parentId()) : null;
+            }
+            return String.join(PATH_DELIMITER, names);
+        }
+
+        // 하위 트리는 한 번만 조립하여 공유합니다. (nodes는 id 순으로 정렬되어 있음)
+        private static CategoryResponseDto toDto(CategoryNodeDto node,
+                                                 Map<Integer, List<CategoryNodeDto>> childrenByParent,
+                                                 Map<Integer, CategoryResponseDto> built) {
+            CategoryResponseDto cached = built.get(node.id());
+            if (cached != null) {
+                return cached;
+            }
+            List<CategoryResponseDto> children = childrenByParent.getOrDefault(node.id(), List.of()).stream()
+                    .map(child -> toDto(child, childrenByParent, built))
+                    .toList();
+            CategoryResponseDto dto = new CategoryResponseDto(node.id(), node.name(), node.parentId(), children);
+            built.put(node.id(), dto);
+            return dto;
+        }
+
+        boolean isOlderThan(Duration ttl) {
+            return System.currentTimeMillis() - loadedAt > ttl.toMillis();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.exception.InsufficientStockException;
+import com.back.domain.product.event.ProductChangedEvent;
+import com.back.domain.product.exception.ProductNotFoundException;
+import com.back.domain.product.repository.InventoryCounterRepository;
+import com.back.domain.product.repository.ProductStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 재고 카운터 기반 재고 차감 서비스. (inventory.redis.enabled=true 일 때만 사용)
+ * 주문 시 재고 검증/차감은 Redis Lua 스크립트로 처리하고, 커밋된 차감분은 모아 두었다가
+ * {@link InventoryWriteBehindScheduler}가 주기적으로 JDBC 배치로 MySQL에 반영합니다.
+ * 이 모드에서 DB의 product.stock은 플러시 주기만큼 늦게 따라오며, 판매 가능 재고의 기준은 Redis 카운터입니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryService {
+
+    private static final int MAX_RESERVE_ATTEMPTS = 2;
+
+    private final InventoryCounterRepository counterRepository;
+    private final ProductStockRepository productStockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 직전 정합성 검사에서 어긋남이 관측된 카운터 값 (productId -> 카운터 값)
+    private final Map<Integer, Long> suspectedDrifts = new ConcurrentHashMap<>();
+
+    @Value("${inventory.redis.enabled:false}")
+    private boolean enabled;
+
+    // Redis 카운터를 쓰지 않을 때 DB 재고 차감 방식
+    @Value("${inventory.lock-mode:pessimistic}")
+    private LockMode lockMode;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LockMode getLockMode() {
+        return lockMode;
+    }
+
+    /**
+     * 여러 상품의 재고를 Redis에서 원자적으로 차감합니다.
+     * 현재 트랜잭션이 커밋되면 차감분이 write-behind 대기열에 쌓이고, 롤백되면 카운터가 복구됩니다.
+     *
+     * @param quantities productId → 차감 수량 (productId 오름차순)
+     */
+    public void reserve(SortedMap<Integer, Integer> quantities) {
+        long result = counterRepository.reserve(quantities);
+        for (int attempt = 1; result < 0 && attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            // 카운터가 아직 적재되지 않은 상품이 있으면 DB에서 적재 후 다시 시도
+            loadCounters(quantities.keySet());
+            result = counterRepository.reserve(quantities);
+        }
+
+        if (result < 0) {
+            throw new IllegalStateException("재고 카운터를 적재하지 못했습니다. productId: " + nthKey(quantities, -result));
+        }
+        if (result > 0) {
+            Integer productId = nthKey(quantities, result);
+            Long available = counterRepository.getStock(productId);
+            throw new InsufficientStockException(String.format(
+                    "상품 ID %d의 재고가 부족합니다. 요청 수량: %d, 사용 가능한 재고: %d",
+                    productId, quantities.get(productId), available != null ? available : 0L));
+        }
+
+        registerReservationCompletion(quantities);
+    }
+
+    // 장바구니 등 차감 없이 판매 가능 재고만 확인할 때 사용합니다.
+    public int getAvailableStock(Integer productId) {
+        Long stock = counterRepository.getStock(productId);
+        if (stock == null) {
+            loadCounters(List.of(productId));
+            stock = counterRepository.getStock(productId);
+        }
+        return stock != null ? (int) Math.max(stock, 0L) : 0;
+    }
+
+    // 여러 상품의 판매 가능 재고를 한 번에 확인합니다. (없는 상품이 있으면 ProductNotFoundException)
+    public Map<Integer, Integer> getAvailableStocks(Collection<Integer> productIds) {
+        Map<Integer, Long> stocks = counterRepository.getStocks(productIds);
+        if (stocks.size() < productIds.size()) {
+            List<Integer> missing = productIds.stream().filter(id -> !stocks.containsKey(id)).toList();
+            loadCounters(missing);
+            stocks.putAll(counterRepository.getStocks(missing));
+        }
+        Map<Integer, Integer> available = new HashMap<>();
+        stocks.forEach((productId, stock) -> available.put(productId, (int) Math.max(stock, 0L)));
+        return available;
+    }
+
+    /**
+     * 관리자 수정/삭제처럼 DB 재고가 직접 바뀐 경우 커밋 후 카운터를 비워 다음 요청 때 DB에서 다시 적재되도록 합니다.
+     */
+    public void evictAfterCommit(Integer productId) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counterRepository.evict(productId);
+                }
+            });
+        } else {
+            counterRepository.evict(productId);
+        }
+    }
+
+    /**
+     * 대기열의 차감분을 가져와 JDBC 배치 한 번으로 DB에 반영합니다.
+     * 트랜잭션이 롤백되면 가져온 차감분을 대기열에 되돌립니다.
+     *
+     * @return 반영한 상품 수
+     */
+    @Transactional
+    public int flushPendingStock() {
+        Map<Integer, Long> deltas = counterRepository.drainPending();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    log.warn("재고 차감분 DB 반영 실패, 대기열로 복구합니다. deltas={}", deltas);
+                    counterRepository.restorePending(deltas);
+                }
+            }
+        });
+
+        productStockRepository.applyStockDeltas(deltas);
+        eventPublisher.publishEvent(new ProductChangedEvent(deltas.keySet())); // DB 재고가 바뀌었으므로 커밋 후 상품 캐시 무효화
+        return deltas.size();
+    }
+
+    /**
+     * 카운터가 (DB 재고 - 미반영 차감분)과 어긋난 상품을 찾아 보정합니다.
+     * 진행 중인 주문의 예약도 일시적으로 어긋나 보이므로, 두 번 연속 같은 카운터 값에서 어긋남이 관측될 때만
+     * 관측 값 기준 CAS로 보정합니다.
+     *
+     * @return 보정한 상품 수
+     */
+    public int reconcileCounters() {
+        List<Integer> productIds = counterRepository.findLoadedProductIds();
+        if (productIds.isEmpty()) {
+            suspectedDrifts.clear();
+            return 0;
+        }
+
+        Map<Integer, Integer> dbStocks = productStockRepository.findStocks(productIds);
+        Map<Integer, Long> pending = counterRepository.getPending(productIds);
+        suspectedDrifts.keySet().retainAll(productIds);
+
+        int corrected = 0;
+        for (Integer productId : productIds) {
+            Integer dbStock = dbStocks.get(productId);
+            if (dbStock == null) {
+                // 삭제된 상품의 카운터 정리
+                counterRepository.evict(productId);
+                suspectedDrifts.remove(productId);
+                continue;
+            }
+
+            Long counter = counterRepository.getStock(productId);
+            if (counter == null) {
+                suspectedDrifts.remove(productId);
+                continue;
+            }
+
+            long expected = dbStock - pending.getOrDefault(productId, 0L);
+            if (counter == expected) {
+                suspectedDrifts.remove(productId);
+                continue;
+            }
+
+            Long previous = suspectedDrifts.put(productId, counter);
+            if (counter.equals(previous) && counterRepository.compareAndSet(productId, counter, expected)) {
+                log.warn("재고 카운터 보정: productId={}, counter={}, expected={}", productId, counter, expected);
+                suspectedDrifts.remove(productId);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    // DB 재고에서 아직 반영되지 않은 차감분을 뺀 값으로 카운터를 적재합니다.
+    // 미반영 차감분을 먼저 읽어야 플러시와 겹쳐도 카운터가 실제보다 커지는 구간이 최소화됩니다. (남는 오차는 정합성 검사가 보정)
+    private void loadCounters(Collection<Integer> productIds) {
+        Map<Integer, Long> pending = counterRepository.getPending(productIds);
+        Map<Integer, Integer> dbStocks = productStockRepository.findStocks(productIds);
+        for (Integer productId : productIds) {
+            Integer dbStock = dbStocks.get(productId);
+            if (dbStock == null) {
+                throw new ProductNotFoundException("상품을 찾을 수 없습니다. ID: " + productId);
+            }
+            counterRepository.initializeIfAbsent(productId, dbStock - pending.getOrDefault(productId, 0L));
+        }
+    }
+
+    private void registerReservationCompletion(SortedMap<Integer, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            counterRepository.addPending(quantities);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    counterRepository.addPending(quantities);
+                } else {
+                    counterRepository.release(quantities);
+                }
+            }
+        });
+    }
+
+    // Lua 스크립트가 돌려준 1부터 시작하는 순번을 productId로 변환
+    private Integer nthKey(SortedMap<Integer, Integer> quantities, long position) {
+        return new ArrayList<>(quantities.keySet()).get((int) position - 1);
+    }
+
+    /**
+     * DB 재고 차감 방식.
+     * <ul>
+     *     <li>PESSIMISTIC - 상품 행을 SELECT ... FOR UPDATE로 잠근 뒤 조건부 UPDATE (충돌 시 대기)</li>
+     *     <li>OPTIMISTIC - 잠금 없이 읽고 읽은 버전 조건으로 UPDATE, 버전이 바뀌었으면 충돌로 보고 재시도</li>
+     * </ul>
+     */
+    public enum LockMode {
+        PESSIMISTIC, OPTIMISTIC
+    }
+}
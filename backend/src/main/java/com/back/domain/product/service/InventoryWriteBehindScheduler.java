@@ -0,0 +1,39 @@
+package com.back.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Redis 재고 카운터 사용 시에만 등록되는 write-behind 플러시 / 정합성 검사 작업
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.redis.enabled", havingValue = "true")
+public class InventoryWriteBehindScheduler {
+
+    private final InventoryService inventoryService;
+
+    @Scheduled(fixedDelayString = "${inventory.redis.flush-interval-ms:1000}")
+    public void flushPendingStock() {
+        try {
+            int flushed = inventoryService.flushPendingStock();
+            if (flushed > 0) {
+                log.debug("재고 차감분 DB 반영 완료: {}개 상품", flushed);
+            }
+        } catch (Exception e) {
+            log.error("재고 차감분 DB 반영 중 오류", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${inventory.redis.reconcile-interval-ms:60000}",
+            initialDelayString = "${inventory.redis.reconcile-interval-ms:60000}")
+    public void reconcileCounters() {
+        try {
+            inventoryService.reconcileCounters();
+        } catch (Exception e) {
+            log.error("재고 카운터 정합성 검사 중 오류", e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.back.domain.product.service;
+
+import com.back.domain.product.dto.product.ProductResponseDto;
+import com.back.domain.product.event.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 조회용 로컬 캐시 (productId -> ProductResponseDto).
+ * 크기/TTL 기반으로 제거되며, 상품 변경 트랜잭션이 커밋된 뒤에만 무효화하여 커밋되지 않은 값이 노출되지 않도록 합니다.
+ * 적중률 등 통계는 Micrometer의 cache.* 메트릭(cache=product)으로 확인할 수 있습니다.
+ */
+@Component
+public class ProductCache {
+
+    private final Cache<Integer, ProductResponseDto> cache;
+
+    public ProductCache(
+            MeterRegistry meterRegistry,
+            @Value("${product.cache.maximum-size:10000}") long maximumSize,
+            @Value("${product.cache.expire-after-write:10m}") Duration expireAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product");
+    }
+
+    public ProductResponseDto get(Integer productId, Function<Integer, ProductResponseDto> loader) {
+        return cache.get(productId, loader);
+    }
+
+    public void evict(Integer productId) {
+        cache.invalidate(productId);
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 즉시 처리합니다. (fallbackExecution)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        cache.invalidateAll(event.productIds());
+    }
+}
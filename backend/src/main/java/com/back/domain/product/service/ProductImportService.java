@@ -0,0 +1,280 @@
+package com.back.domain.product.service;
+
+import com.back.domain.admin.dto.BulkItemResultDto;
+import com.back.domain.admin.dto.BulkResultDto;
+import com.back.domain.product.dto.product.ProductRequestDto;
+import com.back.domain.product.entity.Category;
+import com.back.domain.product.repository.CategoryRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 상품 일괄 등록 (JSON 배열 / CSV 파일).
+ * 상품 id가 IDENTITY라 Hibernate는 INSERT를 배치로 묶지 못하므로, 엔티티 대신 JDBC 배치 INSERT로 적재하고
+ * 생성된 id는 getGeneratedKeys로 돌려받습니다. 검증에 실패한 행은 건너뛰고 행 단위 결과로 알려줍니다.
+ * MySQL은 JDBC URL에 rewriteBatchedStatements=true가 있어야 다중 VALUES INSERT로 전송됩니다.
+ */
+@Service
+public class ProductImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO product " +
+            "(name, image_url, price, stock, description, created_at, updated_at, category_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "price", "stock", "category_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CategoryRepository categoryRepository;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxRows;
+
+    public ProductImportService(
+            JdbcTemplate jdbcTemplate,
+            CategoryRepository categoryRepository,
+            Validator validator,
+            @Value("${admin.bulk.batch-size:500}") int batchSize,
+            @Value("${admin.bulk.max-rows:10000}") int maxRows
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.categoryRepository = categoryRepository;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    // JSON 배열로 받은 상품을 일괄 등록합니다.
+    @Transactional
+    public BulkResultDto importProducts(List<ProductRequestDto> requests) {
+        checkRowCount(requests.size());
+        List<Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new Row(i + 1, requests.get(i), null));
+        }
+        return insert(rows);
+    }
+
+    /**
+     * CSV 파일의 상품을 일괄 등록합니다. (UTF-8, 첫 줄은 헤더)
+     * 헤더: name,image_url,price,stock,description,category_id (순서 무관, image_url/description은 생략 가능)
+     */
+    @Transactional
+    public BulkResultDto importCsv(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 파일이 비어 있습니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase();
+            if (i == 0) {
+                column = column.replace("\uFEFF", ""); // 엑셀에서 저장한 UTF-8 BOM
+            }
+            columns.put(column, i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + String.join(", ", missing));
+        }
+
+        List<Row> rows = new ArrayList<>();
+        List<String> record;
+        while ((record = readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue; // 빈 줄
+            }
+            checkRowCount(rows.size() + 1);
+            int rowNumber = rows.size() + 1;
+            try {
+                rows.add(new Row(rowNumber, toRequest(record, columns), null));
+            } catch (NumberFormatException e) {
+                rows.add(new Row(rowNumber, null, "숫자 형식이 올바르지 않습니다: " + e.getMessage()));
+            }
+        }
+        return insert(rows);
+    }
+
+    private BulkResultDto insert(List<Row> rows) {
+        Set<Integer> categoryIds = rows.stream()
+                .filter(row -> row.request() != null)
+                .map(row -> row.request().categoryId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Integer> existingCategoryIds = categoryRepository.findAllById(categoryIds).stream()
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+
+        List<BulkItemResultDto> results = new ArrayList<>(rows.size());
+        List<Row> valid = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            String error = row.error() != null ? row.error() : validate(row.request(), existingCategoryIds);
+            if (error != null) {
+                results.add(BulkItemResultDto.failed(row.number(), null, error));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < valid.size(); from += batchSize) {
+            List<Row> chunk = valid.subList(from, Math.min(from + batchSize, valid.size()));
+            List<Integer> ids = insertChunk(chunk, now);
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(BulkItemResultDto.success(chunk.get(i).number(), ids.get(i)));
+            }
+        }
+        return BulkResultDto.of(results);
+    }
+
+    private List<Integer> insertChunk(List<Row> chunk, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ProductRequestDto request = chunk.get(i).request();
+                        ps.setString(1, request.name());
+                        ps.setString(2, request.imageUrl());
+                        ps.setInt(3, request.price());
+                        ps.setInt(4, request.stock());
+                        ps.setString(5, request.description());
+                        ps.setTimestamp(6, now);
+                        ps.setTimestamp(7, now);
+                        ps.setInt(8, request.categoryId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder);
+
+        // 드라이버마다 키 컬럼 이름이 달라(id, ID, GENERATED_KEY) 첫 번째 값을 사용합니다.
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).intValue())
+                .toList();
+    }
+
+    private String validate(ProductRequestDto request, Set<Integer> existingCategoryIds) {
+        if (request == null) {
+            return "상품 정보가 비어 있습니다.";
+        }
+        Set<ConstraintViolation<ProductRequestDto>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(" "));
+        }
+        if (!existingCategoryIds.contains(request.categoryId())) {
+            return "카테고리를 찾을 수 없습니다. ID: " + request.categoryId();
+        }
+        return null;
+    }
+
+    private void checkRowCount(int count) {
+        if (count > maxRows) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxRows + "건까지 등록할 수 있습니다.");
+        }
+    }
+
+    private ProductRequestDto toRequest(List<String> record, Map<String, Integer> columns) {
+        return new ProductRequestDto(
+                field(record, columns, "name"),
+                field(record, columns, "image_url"),
+                intField(record, columns, "price"),
+                intField(record, columns, "stock"),
+                field(record, columns, "description"),
+                intField(record, columns, "category_id")
+        );
+    }
+
+    private String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Integer intField(List<String> record, Map<String, Integer> columns, String column) {
+        String value = field(record, columns, column);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    // RFC 4180 레코드 한 건을 읽습니다. 따옴표 안의 쉼표/줄바꿈과 이스케이프된 따옴표("")를 처리합니다.
+    private List<String> readRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // 요청 내 순번과 파싱 결과 (파싱 실패 시 error)
+    private record Row(int number, ProductRequestDto request, String error) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.back.domain.product.service;
+
+import com.back.domain.product.dto.product.ProductPriceDto;
+import com.back.domain.product.event.ProductPriceChangedEvent;
+import com.back.domain.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 단가 검증용 가격 캐시 (productId -> 가격 + 가격 버전).
+ * <ul>
+ *     <li>없는 상품만 IN 쿼리 한 번으로 적재하므로, 주문 시 단가 검증에 상품 조회가 추가되지 않습니다.</li>
+ *     <li>전체를 비우지 않고, 가격 변경이 커밋되면 해당 상품 항목만 새 값으로 바꿉니다.</li>
+ *     <li>다른 노드에는 Pub/Sub으로 새 가격을 전달하며, 버전이 더 높은 값만 반영하므로 메시지 순서가 바뀌어도 안전합니다.</li>
+ * </ul>
+ * 재고 변경(주문)은 가격과 무관하므로 {@link ProductCache}와 달리 ProductChangedEvent로 무효화하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ProductPriceCache implements MessageListener {
+
+    private static final String CHANNEL = "product-price:changed";
+
+    private final Cache<Integer, ProductPriceDto> cache;
+    private final ProductRepository productRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public ProductPriceCache(
+            ProductRepository productRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${product.price-cache.maximum-size:100000}") long maximumSize,
+            @Value("${product.price-cache.expire-after-write:1h}") Duration expireAfterWrite
+    ) {
+        this.productRepository = productRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-price");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 상품들의 현재 가격. 캐시에 없는 상품만 한 번에 조회하며, 존재하지 않는 상품은 결과에서 빠집니다.
+    public Map<Integer, ProductPriceDto> getAll(Collection<Integer> productIds) {
+        return new HashMap<>(cache.getAll(productIds, this::load));
+    }
+
+    // 캐시를 건너뛰고 DB에서 다시 읽어 캐시에 반영합니다. (다른 노드의 변경이 아직 도착하지 않은 경우)
+    public Map<Integer, ProductPriceDto> refresh(Collection<Integer> productIds) {
+        Map<Integer, ProductPriceDto> loaded = load(productIds);
+        loaded.values().forEach(this::apply);
+        return loaded;
+    }
+
+    // 버전이 더 높을 때만 반영합니다.
+    public void apply(ProductPriceDto price) {
+        cache.asMap().merge(price.productId(), price, ProductPriceDto::newer);
+    }
+
+    public void evict(Integer productId) {
+        cache.invalidate(productId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPriceChanged(ProductPriceChangedEvent event) {
+        if (event.price() != null) {
+            apply(event.price());
+        } else {
+            evict(event.productId());
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, toMessage(event));
+        } catch (DataAccessException e) {
+            log.warn("상품 가격 변경 전파 실패 (productId={}), 다른 노드는 캐시 만료 후 반영됩니다.", event.productId(), e);
+        }
+    }
+
+    // 메시지 형식: "productId:price:priceVersion" (삭제는 "productId")
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            String[] parts = body.split(":");
+            if (parts.length == 3) {
+                apply(new ProductPriceDto(Integer.valueOf(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2])));
+            } else {
+                evict(Integer.valueOf(parts[0]));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("알 수 없는 상품 가격 변경 메시지: {}", body);
+        }
+    }
+
+    private Map<Integer, ProductPriceDto> load(Collection<? extends Integer> productIds) {
+        return productRepository.findPrices(List.copyOf(productIds)).stream()
+                .collect(Collectors.toMap(ProductPriceDto::productId, Function.identity()));
+    }
+
+    private String toMessage(ProductPriceChangedEvent event) {
+        ProductPriceDto price = event.price();
+        return price != null
+                ? price.productId() + ":" + price.price() + ":" + price.priceVersion()
+                : String.valueOf(event.productId());
+    }
+}
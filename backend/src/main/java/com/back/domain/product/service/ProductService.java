@@ -1,28 +1,53 @@
 package com.back.domain.product.service;
 
+import com.back.domain.product.dto.product.CursorPageResponseDto;
+import com.back.domain.product.dto.product.ProductCursor;
 import com.back.domain.product.dto.product.ProductRequestDto;
 import com.back.domain.product.dto.product.ProductResponseDto;
 import com.back.domain.product.dto.product.ProductSearchDto;
+import com.back.domain.product.dto.product.ProductSortType;
+import com.back.domain.product.dto.product.ProductSummaryDto;
 import com.back.domain.product.entity.Category;
 import com.back.domain.product.entity.Product;
+import com.back.domain.product.event.ProductChangedEvent;
+import com.back.domain.product.event.ProductPriceChangedEvent;
 import com.back.domain.product.exception.CategoryNotFoundException;
 import com.back.domain.product.exception.ProductNotFoundException; // 아직 사용되지 않지만 나중에 필요해요.
+import com.back.domain.product.exception.ProductVersionMismatchException;
 import com.back.domain.product.repository.CategoryRepository;
 import com.back.domain.product.repository.ProductRepository;
+import com.back.domain.product.repository.ProductSpecifications;
+import com.back.domain.product.repository.ProductSummaryQueryRepository;
+import com.back.global.retry.OptimisticLockRetry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 // 필요한 import 구문들을 미리 넣어둡니다. (나중에 사용할 것들도 포함)
 import java.util.List; // 아직 사용되지 않지만 나중에 필요해요.
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors; // 아직 사용되지 않지만 나중에 필요해요.
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductSummaryQueryRepository productSummaryQueryRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final InventoryService inventoryService;
+    private final ProductCache productCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetry optimisticLockRetry;
 
     // 상품 생성 메서드
     @Transactional
@@ -43,12 +68,13 @@ public class ProductService {
         return ProductResponseDto.from(savedProduct);
     }
 
-    // 특정 상품(1개) 조회 메서드
+    // 특정 상품(1개) 조회 메서드 (로컬 캐시 우선, 없으면 DB 조회 후 캐시에 적재)
     public ProductResponseDto getProductById(Integer id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
-
-        return ProductResponseDto.from(product);
+        return productCache.get(id, productId -> {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
+            return ProductResponseDto.from(product);
+        });
     }
 
     // 전체 상품 조회 메서드
@@ -62,111 +88,63 @@ public class ProductService {
 
     // ========== 새로 추가된 검색 및 필터링 메서드들 ==========
     
-    // 통합 검색 메서드 (모든 검색 조건을 하나의 메서드로 처리)
+    // 통합 검색 메서드 (모든 검색 조건을 하나의 쿼리로 처리)
     public List<ProductResponseDto> searchProducts(ProductSearchDto searchDto) {
-        List<Product> products;
-        
-        // 검색 조건이 없으면 전체 상품 반환
-        if (!searchDto.hasSearchConditions()) {
-            products = productRepository.findAll();
-        } else {
-            products = performSearch(searchDto);
-        }
-        
-        // 재고 필터링 (품절 상품 제외가 요청된 경우)
-        if (!searchDto.includeOutOfStock()) {
-            products = products.stream()
-                    .filter(product -> product.getStock() > 0)
-                    .collect(Collectors.toList());
-        }
-        
-        // 최소 재고 필터링
-        if (searchDto.minStock() != null) {
-            products = products.stream()
-                    .filter(product -> product.getStock() >= searchDto.minStock())
-                    .collect(Collectors.toList());
-        }
-        
-        return products.stream()
+        return productRepository.findAll(ProductSpecifications.from(searchDto), Sort.by(Sort.Direction.ASC, "id"))
+                .stream()
                 .map(ProductResponseDto::from)
                 .collect(Collectors.toList());
     }
+
+    // 통합 검색 (페이징/정렬) - 조건, 정렬, LIMIT/OFFSET이 모두 DB에서 처리됩니다.
+    public Page<ProductResponseDto> searchProducts(ProductSearchDto searchDto, Pageable pageable) {
+        return productRepository.findAll(ProductSpecifications.from(searchDto), pageable)
+                .map(ProductResponseDto::from);
+    }
     
-    // 실제 검색 로직 수행
-    private List<Product> performSearch(ProductSearchDto searchDto) {
-        // 가장 구체적인 조건부터 확인하여 최적화된 쿼리 실행
-        
-        // 1. 상품명 + 카테고리 + 가격 범위
-        if (searchDto.hasNameCondition() && searchDto.hasCategoryCondition() && searchDto.hasPriceRangeCondition()) {
-            Integer categoryId = getCategoryIdForSearch(searchDto);
-            return productRepository.findByNameContainingIgnoreCaseAndCategoryIdAndPriceBetween(
-                    searchDto.name().trim(), categoryId, 
-                    getMinPrice(searchDto), getMaxPrice(searchDto)
-            );
-        }
-        
-        // 2. 상품명 + 카테고리
-        if (searchDto.hasNameCondition() && searchDto.hasCategoryCondition()) {
-            Integer categoryId = getCategoryIdForSearch(searchDto);
-            return productRepository.findByNameContainingIgnoreCaseAndCategoryId(
-                    searchDto.name().trim(), categoryId
-            );
-        }
-        
-        // 3. 상품명 + 가격 범위
-        if (searchDto.hasNameCondition() && searchDto.hasPriceRangeCondition()) {
-            return productRepository.findByNameContainingIgnoreCaseAndPriceBetween(
-                    searchDto.name().trim(), getMinPrice(searchDto), getMaxPrice(searchDto)
-            );
-        }
-        
-        // 4. 카테고리 + 가격 범위
-        if (searchDto.hasCategoryCondition() && searchDto.hasPriceRangeCondition()) {
-            Integer categoryId = getCategoryIdForSearch(searchDto);
-            return productRepository.findByCategoryIdAndPriceBetween(
-                    categoryId, getMinPrice(searchDto), getMaxPrice(searchDto)
-            );
-        }
-        
-        // 5. 상품명만
-        if (searchDto.hasNameCondition()) {
-            return productRepository.findByNameContainingIgnoreCase(searchDto.name().trim());
+    /**
+     * 커서(keyset) 기반 상품 목록/검색.
+     * 이전 페이지 마지막 상품의 정렬 키 이후만 조회하므로 몇 번째 페이지든 첫 페이지와 같은 비용으로 조회됩니다.
+     * size + 1개를 조회해 다음 페이지 존재 여부를 판단하며, count 쿼리는 실행하지 않습니다.
+     * 목록 응답은 카테고리 하위 트리를 포함하지 않는 {@link ProductSummaryDto}입니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public CursorPageResponseDto<ProductSummaryDto> getProductsByCursor(
+            ProductSearchDto searchDto, ProductSortType sortType, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
         }
-        
-        // 6. 카테고리만
-        if (searchDto.hasCategoryCondition()) {
-            Integer categoryId = getCategoryIdForSearch(searchDto);
-            if (searchDto.includeSubCategories()) {
-                return productRepository.findByCategoryIdIncludingChildren(categoryId);
-            } else {
-                return productRepository.findByCategoryId(categoryId);
-            }
-        }
-        
-        // 7. 가격 범위만
-        if (searchDto.hasPriceRangeCondition()) {
-            return productRepository.findByPriceBetween(getMinPrice(searchDto), getMaxPrice(searchDto));
+
+        Specification<Product> spec = ProductSpecifications.from(searchDto);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(ProductSpecifications.after(ProductCursor.decode(cursor, sortType)));
         }
-        
-        // 기본값: 전체 상품
-        return productRepository.findAll();
-    }
-    
-    // 카테고리 ID 결정 (하위 카테고리 포함 여부 고려)
-    private Integer getCategoryIdForSearch(ProductSearchDto searchDto) {
-        return searchDto.categoryId();
-    }
-    
-    // 최소 가격 결정
-    private Integer getMinPrice(ProductSearchDto searchDto) {
-        return searchDto.minPrice() != null ? searchDto.minPrice() : 0;
+
+        // 목록용 DTO를 쿼리 한 번으로 조회하고, 카테고리 경로는 트리 캐시에서 채웁니다. (상품당 추가 쿼리 없음)
+        List<ProductSummaryDto> products = productSummaryQueryRepository.findSummaries(spec, cursorSort(sortType), size + 1);
+
+        boolean hasNext = products.size() > size;
+        List<ProductSummaryDto> page = hasNext ? products.subList(0, size) : products;
+        String nextCursor = hasNext ? ProductCursor.of(page.get(page.size() - 1), sortType).encode() : null;
+
+        return new CursorPageResponseDto<>(
+                page.stream()
+                        .map(product -> product.withCategoryPath(categoryTreeCache.getCategoryPath(product.categoryId())))
+                        .toList(),
+                page.size(),
+                hasNext,
+                nextCursor
+        );
     }
-    
-    // 최대 가격 결정
-    private Integer getMaxPrice(ProductSearchDto searchDto) {
-        return searchDto.maxPrice() != null ? searchDto.maxPrice() : Integer.MAX_VALUE;
+
+    private Sort cursorSort(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+            case PRICE_ASC -> Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"));
+        };
     }
-    
+
     // 상품명으로 검색
     public List<ProductResponseDto> searchByName(String name) {
         List<Product> products = productRepository.findByNameContainingIgnoreCase(name);
@@ -220,11 +198,26 @@ public class ProductService {
 
     // ========== 기존 메서드들 ==========
 
-    // 특정 상품(1개) 업데이트 메서드
-    @Transactional
+    /**
+     * 특정 상품(1개) 업데이트 메서드
+     * <ul>
+     *     <li>요청에 version이 있으면 현재 버전과 같을 때만 수정합니다. 다르면(그 사이 주문 재고 차감 등) 재시도 없이 409</li>
+     *     <li>version이 없으면 재고를 절대값 대신 첫 조회 시점 대비 변화량으로 반영하므로,
+     *     버전 충돌로 재시도해도 그 사이 커밋된 주문 차감분을 덮어쓰지 않습니다.</li>
+     * </ul>
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductResponseDto updateProduct(Integer id, ProductRequestDto requestDto) {
+        AtomicReference<Integer> baseStock = new AtomicReference<>();
+        return optimisticLockRetry.execute("product.update", () -> applyUpdate(id, requestDto, baseStock));
+    }
+
+    private ProductResponseDto applyUpdate(Integer id, ProductRequestDto requestDto, AtomicReference<Integer> baseStock) {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
+        if (requestDto.version() != null && !requestDto.version().equals(product.getVersion())) {
+            throw new ProductVersionMismatchException(id, requestDto.version(), product.getVersion());
+        }
 
         Category newCategory = null;
         if (requestDto.categoryId() != null) {
@@ -232,23 +225,38 @@ public class ProductService {
                     .orElseThrow(() -> new CategoryNotFoundException("Category not found with ID: " + requestDto.categoryId()));
         }
 
+        baseStock.compareAndSet(null, product.getStock()); // 첫 시도에서 읽은 재고
+        int stockDelta = requestDto.stock() - baseStock.get();
+
         product.setName(requestDto.name());
         product.setImageUrl(requestDto.imageUrl());
-        product.setPrice(requestDto.price());
-        product.setStock(requestDto.stock());
+        boolean priceChanged = product.changePrice(requestDto.price()); // 가격이 바뀌면 가격 버전 증가
+        product.setStock(Math.max(0, product.getStock() + stockDelta));
         product.setDescription(requestDto.description());
         product.setCategory(newCategory);
-        //productRepository.save(product); 명시적으로 호출 안해도 됌
+        productRepository.flush(); // 증가한 버전을 응답에 담고, 버전 충돌은 이 시도 안에서 감지
+        inventoryService.evictAfterCommit(id); // 재고가 직접 수정되었으므로 Redis 카운터 재적재
+        eventPublisher.publishEvent(ProductChangedEvent.of(id)); // 커밋 후 상품 캐시 무효화
+        if (priceChanged) {
+            eventPublisher.publishEvent(ProductPriceChangedEvent.of(product)); // 커밋 후 가격 캐시의 해당 상품만 갱신
+        }
 
         return ProductResponseDto.from(product);
     }
 
-    // 특정 상품(1개) 삭제 메서드
-    @Transactional
+    // 특정 상품(1개) 삭제 메서드 (삭제도 버전 조건으로 실행되므로 충돌 시 재시도)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void deleteProduct(Integer id) {
+        optimisticLockRetry.run("product.delete", () -> applyDelete(id));
+    }
+
+    private void applyDelete(Integer id) {
         if (!productRepository.existsById(id)) {
             throw new ProductNotFoundException("Product not found with ID: " + id);
         }
         productRepository.deleteById(id);
+        inventoryService.evictAfterCommit(id);
+        eventPublisher.publishEvent(ProductChangedEvent.of(id));
+        eventPublisher.publishEvent(ProductPriceChangedEvent.removed(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.back.domain.user.dto;
+
+import com.back.domain.user.entity.Role;
+
+// 토큰 발급/인증에 필요한 사용자 정보만 담은 프로젝션 (비밀번호, 주소 등 제외)
+public record UserClaims(
+        Integer id,
+        String name,
+        String email,
+        Role role
+) {
+}
@@ -0,0 +1,13 @@
+package com.back.domain.user.dto;
+
+import com.back.domain.user.entity.Role;
+
+// 로그인 검증용 프로젝션 (토큰 Claims + 비밀번호 해시, 주소 등 나머지 컬럼은 읽지 않음)
+public record UserCredentials(
+        Integer id,
+        String name,
+        String email,
+        Role role,
+        String password
+) {
+}
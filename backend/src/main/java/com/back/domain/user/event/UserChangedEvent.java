@@ -0,0 +1,5 @@
+package com.back.domain.user.event;
+
+// 사용자 정보(이름, 권한 등)가 변경되었음을 알리는 이벤트. 커밋 이후 사용자 Claims 캐시 무효화에 사용됩니다.
+public record UserChangedEvent(Integer userId) {
+}
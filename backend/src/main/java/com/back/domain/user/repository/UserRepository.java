@@ -1,18 +1,40 @@
 package com.back.domain.user.repository;
 
+import com.back.domain.user.dto.UserClaims;
+import com.back.domain.user.dto.UserCredentials;
 import com.back.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
     Optional<User> findByEmail(String email);
 
+    // 토큰 Claims용 프로젝션 (비밀번호 등 나머지 컬럼은 읽지 않음)
+    @Query("SELECT new com.back.domain.user.dto.UserClaims(u.id, u.name, u.email, u.role) FROM User u WHERE u.id = :id")
+    Optional<UserClaims> findClaimsById(@Param("id") Integer id);
+
+    @Query("SELECT new com.back.domain.user.dto.UserClaims(u.id, u.name, u.email, u.role) FROM User u WHERE u.email = :email")
+    Optional<UserClaims> findClaimsByEmail(@Param("email") String email);
+
+    @Query("SELECT new com.back.domain.user.dto.UserCredentials(u.id, u.name, u.email, u.role, u.password) FROM User u WHERE u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
     boolean existsByEmail(String email);
+
+    // 로그인 시 재해시 저장. 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않습니다. (반환값 0)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :id AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("id") Integer id,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
     /**
      * 이메일에 특정 키워드가 포함된 사용자를 페이지네이션하여 조회합니다.
      */
@@ -0,0 +1,58 @@
+package com.back.domain.user.service;
+
+import com.back.domain.user.dto.UserClaims;
+import com.back.domain.user.event.UserChangedEvent;
+import com.back.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 토큰 재발급용 사용자 Claims 로컬 캐시 (userId -> UserClaims).
+ * 재발급 때마다 User 엔티티 전체를 읽지 않도록 id/이름/이메일/권한만 조회해 보관합니다.
+ * 이 노드에서 커밋된 변경은 즉시 무효화되고, 다른 노드의 변경은 expire-after-write 안에 반영됩니다.
+ * 적중률 등 통계는 Micrometer의 cache.* 메트릭(cache=user-claims)으로 확인할 수 있습니다.
+ */
+@Component
+public class UserClaimsCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Integer, UserClaims> cache;
+
+    public UserClaimsCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${user-claims.cache.maximum-size:10000}") long maximumSize,
+            @Value("${user-claims.cache.expire-after-write:5m}") Duration expireAfterWrite
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user-claims");
+    }
+
+    public UserClaims get(Integer userId) {
+        return cache.get(userId, id -> userRepository.findClaimsById(id)
+                .orElseThrow(() -> new RuntimeException("User not found")));
+    }
+
+    public void evict(Integer userId) {
+        cache.invalidate(userId);
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 즉시 처리합니다. (fallbackExecution)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidate(event.userId());
+    }
+}
@@ -3,8 +3,10 @@ package com.back.domain.user.service;
 import com.back.domain.user.dto.UpdateUserRequest;
 import com.back.domain.user.dto.UserResponse;
 import com.back.domain.user.entity.User;
+import com.back.domain.user.event.UserChangedEvent;
 import com.back.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,7 @@ import java.util.Optional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public UserResponse getCurrentUser(Integer userId) {
@@ -38,6 +41,7 @@ public class UserService {
         if (request.name() != null) user.setName(request.name());
         if (request.phone() != null) user.setPhone(request.phone());
         if (request.address() != null) user.setAddress(request.address());
+        eventPublisher.publishEvent(new UserChangedEvent(userId)); // 커밋 후 사용자 Claims 캐시 무효화
 
         return UserResponse.from(user);
     }
@@ -12,6 +12,7 @@ import com.back.domain.order.entity.OrderItem;
 import com.back.domain.order.entity.OrderStatus;
 import com.back.domain.order.repository.OrderItemRepository;
 import com.back.domain.order.repository.OrderRepository;
+import com.back.domain.order.service.DailySalesRollupService;
 import com.back.domain.product.entity.Category;
 import com.back.domain.product.entity.Product;
 import com.back.domain.product.repository.CategoryRepository;
@@ -25,6 +26,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -42,6 +44,7 @@ public class DevDataInitializer {
                                OrderRepository orderRepository,
                                OrderItemRepository orderItemRepository,
                                DeliveryRepository deliveryRepository,
+                               DailySalesRollupService dailySalesRollupService,
                                PasswordEncoder passwordEncoder) {
         return args -> {
 
@@ -170,6 +173,9 @@ public class DevDataInitializer {
             }
             orderItemRepository.saveAll(orderItems);
 
+            // 9. 생성된 주문으로 일별 집계 백필
+            dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now());
+
             System.out.println("dev 모드 초기 데이터 20개씩 생성");
         };
     }
@@ -0,0 +1,79 @@
+package com.back.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 모드의 Hikari 풀 크기 검증.
+ * 가상 스레드는 요청 동시성을 스레드 수로 제한하지 않으므로, 풀 크기를 동시 요청 수에 맞춰 키우면 DB 커넥션이 폭증합니다.
+ * <ul>
+ *     <li>풀 크기가 datasource.pool-guard.max-pool-size를 넘으면 기동을 중단합니다.</li>
+ *     <li>MySQL이면 풀 크기 x 노드 수가 max_connections를 넘는지 확인합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class HikariPoolSizingGuard {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxPoolSize;
+    private final int instances;
+
+    public HikariPoolSizingGuard(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            @Value("${datasource.pool-guard.max-pool-size:50}") int maxPoolSize,
+            @Value("${datasource.pool-guard.instances:1}") int instances
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPoolSize = maxPoolSize;
+        this.instances = instances;
+    }
+
+    // 요청을 받기 전(빈 초기화 시점)에 검증해 잘못된 설정으로는 기동하지 않습니다.
+    @PostConstruct
+    public void verify() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            log.warn("Hikari 데이터소스가 아니어서 풀 크기 검증을 건너뜁니다. ({})", dataSource.getClass().getName());
+            return;
+        }
+
+        int poolSize = hikari.getMaximumPoolSize();
+        if (poolSize > maxPoolSize) {
+            throw new IllegalStateException("가상 스레드 모드에서 Hikari maximum-pool-size(" + poolSize
+                    + ")가 상한(datasource.pool-guard.max-pool-size=" + maxPoolSize + ")을 넘습니다.");
+        }
+
+        Integer maxConnections = mysqlMaxConnections(hikari.getJdbcUrl());
+        if (maxConnections != null && (long) poolSize * instances > maxConnections) {
+            throw new IllegalStateException("Hikari 풀 크기(" + poolSize + ") x 노드 수(" + instances
+                    + ")가 MySQL max_connections(" + maxConnections + ")를 넘습니다.");
+        }
+        log.info("가상 스레드 모드: Hikari 풀 크기 {} (상한 {}, 노드 {}, MySQL max_connections {}), connection-timeout {}ms",
+                poolSize, maxPoolSize, instances, maxConnections != null ? maxConnections : "-", hikari.getConnectionTimeout());
+    }
+
+    private Integer mysqlMaxConnections(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:mysql:")) {
+            return null;
+        }
+        try {
+            return jdbcTemplate.queryForObject("SELECT @@max_connections", Integer.class);
+        } catch (DataAccessException e) {
+            log.warn("MySQL max_connections를 확인하지 못했습니다.", e);
+            return null;
+        }
+    }
+}
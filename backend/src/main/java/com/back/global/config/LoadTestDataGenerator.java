@@ -0,0 +1,247 @@
+package com.back.global.config;
+
+import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.order.service.DailySalesRollupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기 (loadtest 프로파일).
+ * 엔티티를 거치지 않고 JDBC 배치 INSERT로 사용자/카테고리/상품/배송/주문/주문상품을 적재한 뒤 일별 집계를 다시 계산합니다.
+ * 규모는 loadtest.data.* 설정으로 조절하며, 같은 seed면 같은 데이터가 생성됩니다.
+ * 계정: admin@loadtest.com / 일반 사용자 user{n}@loadtest.com, 비밀번호는 모두 loadtest.data.password
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestDataGenerator implements CommandLineRunner {
+
+    private static final int CHILD_CATEGORIES_PER_ROOT = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final DailySalesRollupService dailySalesRollupService;
+
+    @Value("${loadtest.data.enabled:true}")
+    private boolean enabled;
+    @Value("${loadtest.data.users:10000}")
+    private int userCount;
+    @Value("${loadtest.data.root-categories:10}")
+    private int rootCategoryCount;
+    @Value("${loadtest.data.products:1000000}")
+    private int productCount;
+    @Value("${loadtest.data.deliveries:1000}")
+    private int deliveryCount;
+    @Value("${loadtest.data.orders:2000000}")
+    private int orderCount;
+    @Value("${loadtest.data.max-items-per-order:3}")
+    private int maxItemsPerOrder;
+    @Value("${loadtest.data.days:365}")
+    private int days;
+    @Value("${loadtest.data.batch-size:1000}")
+    private int batchSize;
+    @Value("${loadtest.data.seed:42}")
+    private long seed;
+    @Value("${loadtest.data.password:loadtest1234}")
+    private String password;
+
+    public LoadTestDataGenerator(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 PasswordEncoder passwordEncoder,
+                                 DailySalesRollupService dailySalesRollupService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.dailySalesRollupService = dailySalesRollupService;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) {
+            log.info("[loadtest] 데이터 생성 비활성화 (loadtest.data.enabled=false), 기존 데이터를 사용합니다.");
+            return;
+        }
+        Integer existingUsers = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        if (existingUsers != null && existingUsers > 0) {
+            log.info("[loadtest] 기존 데이터가 있어 생성을 건너뜁니다. (users {}건)", existingUsers);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+
+        insertUsers();
+        insertCategories();
+        int[] prices = insertProducts(random);
+        insertDeliveries();
+        insertOrders(random, prices, today);
+
+        int rollupRows = dailySalesRollupService.rebuild(today.minusDays(days), today);
+        log.info("[loadtest] 데이터 생성 완료: 사용자 {}, 상품 {}, 주문 {}, 일별 집계 {}행 ({} ms)",
+                userCount, productCount, orderCount, rollupRows, System.currentTimeMillis() - startedAt);
+    }
+
+    // 사용자 (1번은 관리자). BCrypt 해시는 한 번만 계산해 모든 계정에 사용합니다.
+    private void insertUsers() {
+        String encodedPassword = passwordEncoder.encode(password);
+        BatchWriter batch = new BatchWriter("users",
+                "INSERT INTO users (id, name, email, password, address, phone, role) VALUES (?, ?, ?, ?, ?, ?, ?)", true);
+        batch.add(1, "관리자", "admin@loadtest.com", encodedPassword, "서울시 송파구", "010-0000-0000", "ADMIN");
+        for (int id = 2; id <= userCount; id++) {
+            batch.add(id, "유저" + id, "user" + id + "@loadtest.com", encodedPassword,
+                    "서울시 부하구 " + id, "010-" + String.format("%04d", id % 10000) + "-0000", "USER");
+        }
+        batch.flush();
+    }
+
+    // 상위 카테고리 N개 x 하위 카테고리 10개. 상품은 하위 카테고리에만 배정합니다.
+    private void insertCategories() {
+        BatchWriter batch = new BatchWriter("category", "INSERT INTO category (id, name, parent_id) VALUES (?, ?, ?)", true);
+        int id = 1;
+        for (int root = 1; root <= rootCategoryCount; root++) {
+            int rootId = id++;
+            batch.add(rootId, "카테고리 " + root, null);
+            for (int child = 1; child <= CHILD_CATEGORIES_PER_ROOT; child++) {
+                batch.add(id++, "카테고리 " + root + "-" + child, rootId);
+            }
+        }
+        batch.flush();
+    }
+
+    // 상품 가격은 주문 단가 계산에 다시 쓰므로 배열로 보관합니다. (상품 100만 개 기준 약 4MB)
+    private int[] insertProducts(Random random) {
+        int[] prices = new int[productCount + 1];
+        LocalDateTime now = LocalDateTime.now();
+        BatchWriter batch = new BatchWriter("product",
+                "INSERT INTO product (id, name, image_url, price, stock, description, created_at, category_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", true);
+        for (int id = 1; id <= productCount; id++) {
+            int price = (10 + random.nextInt(491)) * 100; // 1,000 ~ 50,000원
+            prices[id] = price;
+            int categoryId = childCategoryId(id);
+            batch.add(id, "상품 " + id, "https://dummyimg.com/product/" + id + ".jpg", price, 1_000_000,
+                    "부하 테스트용 상품 " + id, Timestamp.valueOf(now.minusSeconds(productCount - id)), categoryId);
+        }
+        batch.flush();
+        return prices;
+    }
+
+    // 상위 카테고리 r(0부터)의 id는 r * 11 + 1, 하위 카테고리는 그 다음 10개 id
+    private int childCategoryId(int productId) {
+        int root = productId % rootCategoryCount;
+        int child = (productId / rootCategoryCount) % CHILD_CATEGORIES_PER_ROOT;
+        return root * (CHILD_CATEGORIES_PER_ROOT + 1) + 2 + child;
+    }
+
+    private void insertDeliveries() {
+        BatchWriter batch = new BatchWriter("delivery",
+                "INSERT INTO delivery (id, address, tracking_number, status, company) VALUES (?, ?, ?, ?, ?)", true);
+        for (int id = 1; id <= deliveryCount; id++) {
+            batch.add(id, "서울시 부하구 " + id, "TRK" + String.format("%08d", id), "배송준비중", "CJ대한통운");
+        }
+        batch.flush();
+    }
+
+    // 주문과 주문상품을 함께 생성합니다. 주문 총액은 생성한 항목 합계와 일치합니다.
+    private void insertOrders(Random random, int[] prices, LocalDate today) {
+        OrderStatus[] statuses = OrderStatus.values();
+        LocalDateTime firstDay = today.minusDays(days).atStartOfDay();
+        long spanSeconds = (long) (days + 1) * 24 * 60 * 60 - 1;
+        LocalDateTime now = LocalDateTime.now();
+
+        BatchWriter orders = new BatchWriter("orders",
+                "INSERT INTO orders (id, user_id, total_price, order_date, shipping_address, status, delivery_id) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)", false);
+        BatchWriter orderItems = new BatchWriter("order_item",
+                "INSERT INTO order_item (id, order_id, product_id, quantity, unit_price) VALUES (?, ?, ?, ?, ?)", false);
+
+        int orderItemId = 1;
+        for (int orderId = 1; orderId <= orderCount; orderId++) {
+            int itemCount = 1 + random.nextInt(maxItemsPerOrder);
+            int totalPrice = 0;
+            for (int i = 0; i < itemCount; i++) {
+                int productId = 1 + random.nextInt(productCount);
+                int quantity = 1 + random.nextInt(3);
+                totalPrice += prices[productId] * quantity;
+                orderItems.add(orderItemId++, orderId, productId, quantity, prices[productId]);
+            }
+
+            LocalDateTime orderDate = firstDay.plusSeconds((long) (random.nextDouble() * spanSeconds));
+            if (orderDate.isAfter(now)) {
+                orderDate = now;
+            }
+            int userId = 2 + random.nextInt(Math.max(1, userCount - 1));
+            orders.add(orderId, userId, totalPrice, Timestamp.valueOf(orderDate), "서울시 부하구 " + userId,
+                    statuses[random.nextInt(statuses.length)].name(), 1 + random.nextInt(deliveryCount));
+
+            // 주문상품은 FK로 주문을 참조하므로 주문 배치를 먼저 반영합니다.
+            if (orders.isFull()) {
+                orders.flush();
+                orderItems.flush();
+            }
+        }
+        orders.flush();
+        orderItems.flush();
+    }
+
+    // batch-size 단위로 모아 JdbcTemplate.batchUpdate로 반영합니다. (MySQL은 rewriteBatchedStatements=true 권장)
+    // autoFlush=false면 호출자가 직접 flush 시점을 정합니다. (FK 순서를 맞춰야 하는 주문/주문상품)
+    private class BatchWriter {
+
+        private static final long LOG_INTERVAL = 100_000;
+
+        private final String table;
+        private final String sql;
+        private final boolean autoFlush;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long written;
+        private long nextLogAt = LOG_INTERVAL;
+
+        BatchWriter(String table, String sql, boolean autoFlush) {
+            this.table = table;
+            this.sql = sql;
+            this.autoFlush = autoFlush;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (autoFlush && isFull()) {
+                flush();
+            }
+        }
+
+        boolean isFull() {
+            return rows.size() >= batchSize;
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            // 커넥션 auto-commit이 꺼져 있으므로 배치마다 트랜잭션으로 커밋합니다.
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+            written += rows.size();
+            rows.clear();
+            if (written >= nextLogAt) {
+                log.info("[loadtest] {} {}건 적재", table, written);
+                nextLogAt += LOG_INTERVAL;
+            }
+        }
+    }
+}
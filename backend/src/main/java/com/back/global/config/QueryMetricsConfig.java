@@ -0,0 +1,33 @@
+package com.back.global.config;
+
+import com.back.global.metrics.QueryMetricsInterceptor;
+import com.back.global.metrics.QueryMetricsSessionEventListener;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 요청별 SQL/엔티티 로딩 메트릭 수집 설정
+@Configuration
+@RequiredArgsConstructor
+public class QueryMetricsConfig implements WebMvcConfigurer {
+
+    private final QueryMetricsInterceptor queryMetricsInterceptor;
+
+    // 모든 Hibernate 세션에 JDBC 실행 횟수/시간 리스너 등록 (EntityManagerFactory 생성 전에 필요하므로 static)
+    @Bean
+    public static HibernatePropertiesCustomizer queryMetricsHibernatePropertiesCustomizer() {
+        return properties -> properties.put(
+                AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                QueryMetricsSessionEventListener.class.getName()
+        );
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryMetricsInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -1,10 +1,15 @@
 package com.back.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
 
 @Configuration
 public class RedisConfig {
@@ -21,4 +26,110 @@ public class RedisConfig {
         redisScript.setResultType(Long.class);
         return redisScript;
     }
+
+    @Bean(name = "inventoryReserveScript")
+    public DefaultRedisScript<Long> inventoryReserveScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/inventory_reserve.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "inventoryDrainScript")
+    @SuppressWarnings("rawtypes")
+    public DefaultRedisScript<List> inventoryDrainScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/inventory_drain.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    @Bean(name = "inventoryReconcileScript")
+    public DefaultRedisScript<Long> inventoryReconcileScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/inventory_reconcile.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "categoryTreePublishScript")
+    public DefaultRedisScript<Long> categoryTreePublishScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/category_tree_publish.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "cartAddScript")
+    public DefaultRedisScript<Long> cartAddScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/cart_add.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "cartSetScript")
+    public DefaultRedisScript<Long> cartSetScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/cart_set.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "cartClearScript")
+    public DefaultRedisScript<Long> cartClearScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/cart_clear.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "cartLoadScript")
+    public DefaultRedisScript<Long> cartLoadScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/cart_load.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "cartItemSeqFloorScript")
+    public DefaultRedisScript<Long> cartItemSeqFloorScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/cart_item_seq_floor.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "cartRemoveLinesScript")
+    public DefaultRedisScript<Long> cartRemoveLinesScript() {
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/cart_remove_lines.lua"));
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Bean(name = "cartPatchScript")
+    @SuppressWarnings("rawtypes")
+    public DefaultRedisScript<List> cartPatchScript() {
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource("redis/cart_patch.lua"));
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    // Redis Pub/Sub 구독 컨테이너 (노드 간 캐시 무효화 메시지 수신)
+    // 가상 스레드 모드(spring.threads.virtual.enabled)에서는 메시지 리스너도 가상 스레드로 실행합니다.
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            org.springframework.data.redis.connection.RedisConnectionFactory connectionFactory,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
+        return container;
+    }
 }
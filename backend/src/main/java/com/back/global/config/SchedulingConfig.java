@@ -0,0 +1,9 @@
+package com.back.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling // 재고 write-behind 플러시 등 주기 작업을 활성화합니다.
+public class SchedulingConfig {
+}
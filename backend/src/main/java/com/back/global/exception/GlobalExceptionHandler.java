@@ -4,7 +4,10 @@ import com.back.domain.product.exception.CategoryHasChildrenException;
 import com.back.domain.product.exception.CategoryHasProductsException;
 import com.back.domain.product.exception.CategoryNotFoundException;
 import com.back.domain.product.exception.ProductNotFoundException;
+import com.back.domain.product.exception.ProductVersionMismatchException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -73,6 +76,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    // 관리자가 오래된 상품 정보를 보고 수정한 경우. 재시도하지 않고 현재 버전을 알려 다시 조회하도록 합니다.
+    @ExceptionHandler(ProductVersionMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleProductVersionMismatchException(ProductVersionMismatchException e) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", e.getMessage());
+        response.put("currentVersion", String.valueOf(e.getCurrentVersion()));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // 재시도 한도까지 버전 충돌이 계속된 경우 (같은 상품에 변경이 몰린 상황). 잠시 후 다시 요청하면 됩니다.
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", "다른 요청과 동시에 변경되어 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     @ExceptionHandler(NoSuchElementException.class)
     public ResponseEntity<Map<String, String>> handleNoSuchElementException(NoSuchElementException ex) {
         Map<String, String> response = new HashMap<>();
@@ -80,6 +102,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    // 로그인 폭주로 해시 작업 풀이 가득 찬 경우. 잠시 후 재시도하도록 Retry-After를 함께 보냅니다.
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        Map<String, String> response = new HashMap<>();
+        response.put("error", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleIllegalArgumentException(IllegalArgumentException ex) {
         Map<String, String> response = new HashMap<>();
@@ -0,0 +1,8 @@
+package com.back.global.exception;
+
+// 비밀번호 해시 작업 풀이 가득 차 요청을 처리할 수 없을 때 (503 Service Unavailable)
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.global.exception;
+
+// @QueryBudget으로 선언한 요청당 SQL 문 수를 초과했을 때 (테스트 프로파일에서만 발생)
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String handler, int budget) {
+        super(handler + " 요청이 SQL 문 예산(" + budget + "회)을 초과했습니다.");
+    }
+}
@@ -0,0 +1,21 @@
+package com.back.global.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 핸들러가 한 요청에서 실행할 수 있는 최대 SQL 문 수를 선언합니다.
+ * 초과 시 경고 로그와 request.sql.budget.exceeded 메트릭을 남기고,
+ * metrics.query.budget.fail-on-exceed=true(테스트 프로파일)이면 초과한 문을 실행하기 전에 예외를 던집니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    // 허용 SQL 문 수 (배치 실행은 1회로 계산)
+    int value();
+}
@@ -0,0 +1,106 @@
+package com.back.global.metrics;
+
+import com.back.global.exception.QueryBudgetExceededException;
+
+/**
+ * 현재 요청(스레드)에서 실행된 SQL 문 수, JDBC 실행 시간, 엔티티 로드, 컬렉션 초기화 횟수를 모읍니다.
+ * {@link QueryMetricsInterceptor}가 핸들러 실행 전에 시작하고 완료 후 꺼내 메트릭으로 기록합니다.
+ * 요청 밖(스케줄러 등)에서 실행된 쿼리는 집계하지 않습니다.
+ */
+public final class QueryMetricsContext {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    private QueryMetricsContext() {
+    }
+
+    static void start(String handler, int budget, boolean failOnExceed) {
+        CURRENT.set(new Stats(handler, budget, failOnExceed));
+    }
+
+    static Stats finish() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    // SQL 문 실행 직전 (예산 초과 시 실행하지 않고 실패)
+    static void beforeStatement() {
+        Stats stats = CURRENT.get();
+        if (stats == null) {
+            return;
+        }
+        stats.statementCount++;
+        if (stats.failOnExceed && stats.isBudgetExceeded()) {
+            throw new QueryBudgetExceededException(stats.handler, stats.budget);
+        }
+    }
+
+    static void addJdbcTime(long nanos) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    static void entityLoaded() {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entityLoadCount++;
+        }
+    }
+
+    static void collectionFetched() {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionFetchCount++;
+        }
+    }
+
+    static final class Stats {
+
+        static final int NO_BUDGET = -1;
+
+        private final String handler;
+        private final int budget;
+        private final boolean failOnExceed;
+        private long statementCount;
+        private long jdbcNanos;
+        private long entityLoadCount;
+        private long collectionFetchCount;
+
+        private Stats(String handler, int budget, boolean failOnExceed) {
+            this.handler = handler;
+            this.budget = budget;
+            this.failOnExceed = failOnExceed;
+        }
+
+        String handler() {
+            return handler;
+        }
+
+        int budget() {
+            return budget;
+        }
+
+        long statementCount() {
+            return statementCount;
+        }
+
+        long jdbcNanos() {
+            return jdbcNanos;
+        }
+
+        long entityLoadCount() {
+            return entityLoadCount;
+        }
+
+        long collectionFetchCount() {
+            return collectionFetchCount;
+        }
+
+        boolean isBudgetExceeded() {
+            return budget != NO_BUDGET && statementCount > budget;
+        }
+    }
+}
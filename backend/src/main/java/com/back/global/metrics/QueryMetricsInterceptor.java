@@ -0,0 +1,105 @@
+package com.back.global.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 핸들러별 SQL 문 수, JDBC 시간, 엔티티 로드, 컬렉션 초기화 횟수를 Micrometer 메트릭으로 기록합니다.
+ * /actuator/metrics/request.sql.statements?tag=handler:ProductController.getProductById 형태로 조회할 수 있습니다.
+ * JdbcTemplate으로 직접 실행한 문은 Hibernate를 거치지 않으므로 집계되지 않습니다.
+ */
+@Slf4j
+@Component
+public class QueryMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnExceed;
+
+    public QueryMetricsInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${metrics.query.budget.fail-on-exceed:false}") boolean failOnExceed
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            QueryMetricsContext.start(
+                    handlerName(handlerMethod),
+                    budget != null ? budget.value() : QueryMetricsContext.Stats.NO_BUDGET,
+                    failOnExceed
+            );
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryMetricsContext.Stats stats = QueryMetricsContext.finish();
+        if (stats != null) {
+            record(stats);
+        }
+    }
+
+    // 비동기 응답(스트리밍 등)은 요청 스레드에서 집계를 끝내지 않고 버립니다.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryMetricsContext.finish();
+    }
+
+    private void record(QueryMetricsContext.Stats stats) {
+        String handler = stats.handler();
+
+        DistributionSummary.builder("request.sql.statements")
+                .description("요청당 실행된 SQL 문 수")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statementCount());
+        Timer.builder("request.sql.time")
+                .description("요청당 JDBC 실행 시간 합계")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.jdbcNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("request.entity.loads")
+                .description("요청당 로드된 엔티티 수")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.entityLoadCount());
+        DistributionSummary.builder("request.collection.fetches")
+                .description("요청당 초기화된 지연 컬렉션 수")
+                .tag("handler", handler)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.collectionFetchCount());
+
+        if (stats.isBudgetExceeded()) {
+            Counter.builder("request.sql.budget.exceeded")
+                    .description("SQL 문 예산을 초과한 요청 수")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("SQL 문 예산 초과: {} ({}회 / 예산 {}회)", handler, stats.statementCount(), stats.budget());
+        }
+    }
+
+    private String handlerName(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
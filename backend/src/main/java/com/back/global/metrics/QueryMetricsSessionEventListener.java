@@ -0,0 +1,35 @@
+package com.back.global.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션마다 생성되어 JDBC 문 실행 횟수와 시간을 {@link QueryMetricsContext}에 더합니다.
+ * hibernate.session.events.auto 설정으로 등록됩니다. ({@link QueryMetricsConfig})
+ */
+public class QueryMetricsSessionEventListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        QueryMetricsContext.beforeStatement();
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryMetricsContext.addJdbcTime(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        QueryMetricsContext.beforeStatement();
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryMetricsContext.addJdbcTime(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,13 @@
+package com.back.global.outbox;
+
+/**
+ * 아웃박스 이벤트 소비자. 릴레이가 이벤트 유형이 맞는 핸들러를 찾아 호출합니다.
+ * 핸들러는 이벤트를 published로 표시하는 트랜잭션 안에서 실행되므로, 같은 DB에 대한 변경은 이벤트당 한 번만 반영됩니다.
+ * 외부 시스템으로 보내는 핸들러는 재시도로 중복 전달될 수 있으므로 멱등하게 처리해야 합니다.
+ */
+public interface OutboxEventHandler {
+
+    boolean supports(String eventType);
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,65 @@
+package com.back.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 도메인 이벤트를 아웃박스에 기록합니다. 원본 변경과 함께 커밋/롤백되도록 호출자의 트랜잭션 안에서만 허용합니다.
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_event " +
+            "(aggregate_type, aggregate_id, event_type, payload, created_at, attempts) VALUES (?, ?, ?, ?, ?, 0)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        outboxEventRepository.save(new OutboxEvent(
+                aggregateType,
+                String.valueOf(aggregateId),
+                eventType,
+                toJson(eventType, payload)
+        ));
+    }
+
+    /**
+     * 같은 유형의 이벤트 여러 건을 JDBC 배치 INSERT로 기록합니다. (일괄 처리용)
+     * IDENTITY 키 엔티티는 Hibernate가 INSERT를 배치로 묶지 않으므로 엔티티를 거치지 않습니다.
+     *
+     * @param payloadsByAggregateId 집계 id -> payload
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(String aggregateType, String eventType, Map<?, ?> payloadsByAggregateId) {
+        if (payloadsByAggregateId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(payloadsByAggregateId.size());
+        payloadsByAggregateId.forEach((aggregateId, payload) -> rows.add(new Object[]{
+                aggregateType, String.valueOf(aggregateId), eventType, toJson(eventType, payload), now
+        }));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private String toJson(String eventType, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트를 직렬화할 수 없습니다: " + eventType, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.back.global.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달 대기 중인 이벤트 id (오래된 순). 재시도 한도를 넘긴 이벤트는 제외합니다.
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts ORDER BY e.id")
+    List<Long> findPendingIds(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    // 처리할 이벤트 한 건을 잠급니다. 다른 노드가 잠근 행은 기다리지 않고 건너뜁니다. (SKIP LOCKED, 미지원 DB는 일반 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id = :id AND e.publishedAt IS NULL")
+    Optional<OutboxEvent> findPendingByIdForUpdate(@Param("id") Long id);
+
+    // 전달 대기 중인 이벤트를 모두 잠급니다. 릴레이가 처리 중인 행은 커밋될 때까지 기다립니다. (집계 재계산용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.publishedAt IS NULL AND e.eventType IN :eventTypes ORDER BY e.id")
+    List<OutboxEvent> findPendingForUpdate(@Param("eventTypes") Collection<String> eventTypes);
+
+    long countByPublishedAtIsNull();
+}
@@ -0,0 +1,108 @@
+package com.back.global.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이. 전달 대기 중인 이벤트를 오래된 순으로 읽어 핸들러에 전달합니다.
+ * <ul>
+ *     <li>이벤트마다 별도 트랜잭션에서 행을 잠그고(SKIP LOCKED) 핸들러 실행과 published 표시를 함께 커밋합니다.</li>
+ *     <li>여러 노드가 동시에 실행해도 같은 이벤트를 두 번 처리하지 않습니다.</li>
+ *     <li>핸들러가 실패하면 롤백 후 시도 횟수와 오류를 기록하고, outbox.relay.max-attempts를 넘기면 더 이상 시도하지 않습니다.</li>
+ * </ul>
+ * 처리/실패 수와 대기 건수는 outbox.events.relayed / outbox.events.failed / outbox.events.pending 메트릭으로 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            List<OutboxEventHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.relayedCounter = Counter.builder("outbox.events.relayed").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.failed").register(meterRegistry);
+        Gauge.builder("outbox.events.pending", outboxEventRepository, OutboxEventRepository::countByPublishedAtIsNull)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 이벤트를 최대 batch-size건 전달합니다.
+     *
+     * @return 전달에 성공한 이벤트 수
+     */
+    public int relayPending() {
+        List<Long> ids = outboxEventRepository.findPendingIds(maxAttempts, PageRequest.of(0, batchSize));
+        int relayed = 0;
+        for (Long id : ids) {
+            try {
+                Boolean handled = transactionTemplate.execute(status -> relay(id));
+                if (Boolean.TRUE.equals(handled)) {
+                    relayed++;
+                    relayedCounter.increment();
+                }
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.warn("아웃박스 이벤트 전달 실패 (id={})", id, e);
+                recordFailure(id, e);
+            }
+        }
+        return relayed;
+    }
+
+    // 다른 노드가 이미 잠갔거나 처리한 이벤트면 false
+    private boolean relay(Long id) {
+        OutboxEvent event = outboxEventRepository.findPendingByIdForUpdate(id).orElse(null);
+        if (event == null) {
+            return false;
+        }
+        for (OutboxEventHandler handler : handlers) {
+            if (handler.supports(event.getEventType())) {
+                handler.handle(event);
+            }
+        }
+        event.markPublished();
+        return true;
+    }
+
+    private void recordFailure(Long id, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id)
+                    .ifPresent(event -> {
+                        event.markFailed(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+                        if (event.getAttempts() >= maxAttempts) {
+                            log.error("아웃박스 이벤트 재시도 한도 초과, 수동 확인 필요 (id={}, type={})",
+                                    id, event.getEventType());
+                        }
+                    }));
+        } catch (RuntimeException e) {
+            log.error("아웃박스 이벤트 실패 기록 중 오류 (id={})", id, e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.back.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 아웃박스 릴레이 주기 실행. 전달한 이벤트가 있으면 쉬지 않고 다음 배치를 처리합니다. (실행당 최대 10배치)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final OutboxRelay outboxRelay;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+                if (outboxRelay.relayPending() == 0) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실행 중 오류", e);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.back.global.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락 충돌(버전 불일치) 시 트랜잭션을 새로 열어 다시 실행합니다.
+ * <ul>
+ *     <li>매 시도는 새 트랜잭션이므로 엔티티와 버전을 DB에서 다시 읽습니다. (롤백 시 영속성 컨텍스트도 비워짐)</li>
+ *     <li>시도 사이에는 지수 증가 상한 안에서 무작위로 대기(full jitter)하여 충돌한 요청들이 다시 동시에 부딪히지 않도록 합니다.</li>
+ *     <li>이미 바깥 트랜잭션 안에서 호출되면 재시도해도 같은 트랜잭션이므로 한 번만 실행합니다.</li>
+ * </ul>
+ * 충돌은 optimistic.lock.conflicts{operation, outcome=retried|exhausted} 메트릭으로 집계됩니다.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public OptimisticLockRetry(
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${optimistic-lock.retry.max-attempts:5}") int maxAttempts,
+            @Value("${optimistic-lock.retry.initial-backoff:10ms}") Duration initialBackoff,
+            @Value("${optimistic-lock.retry.max-backoff:200ms}") Duration maxBackoff
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * @param operation 메트릭/로그에 쓰는 작업 이름 (예: product.update)
+     * @param action    트랜잭션 안에서 실행할 작업
+     * @throws OptimisticLockingFailureException max-attempts번 모두 충돌한 경우
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    conflicts(operation, "exhausted").increment();
+                    log.warn("낙관적 락 충돌 재시도 한도 초과 (operation={}, attempts={})", operation, attempt);
+                    throw e;
+                }
+                conflicts(operation, "retried").increment();
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // 0 ~ min(max-backoff, initial-backoff * 2^(attempt-1)) 사이 무작위 대기
+    private void backoff(int attempt, OptimisticLockingFailureException cause) {
+        long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private Counter conflicts(String operation, String outcome) {
+        return Counter.builder("optimistic.lock.conflicts")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
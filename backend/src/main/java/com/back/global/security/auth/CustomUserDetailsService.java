@@ -1,6 +1,6 @@
 package com.back.global.security.auth;
 
-import com.back.domain.user.entity.User;
+import com.back.domain.user.dto.UserClaims;
 import com.back.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,16 +19,17 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        // 비밀번호 검증은 AuthService.login에서 하므로 Claims 프로젝션만 읽습니다.
+        UserClaims user = userRepository.findClaimsByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 유저입니다."));
 
         return new CustomUserDetails(
-                user.getId(),
-                user.getEmail(),
-                user.getPassword(),
-                user.getName(),
-                user.getRole(),
-                List.of(new SimpleGrantedAuthority(user.getRole().name()))
+                user.id(),
+                user.email(),
+                "", // 비밀번호는 포함하지 않음 (JwtTokenProvider와 동일)
+                user.name(),
+                user.role(),
+                List.of(new SimpleGrantedAuthority(user.role().name()))
         );
     }
 }
@@ -0,0 +1,166 @@
+package com.back.global.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그아웃 등으로 폐기된 Access Token 목록 (jti 기준).
+ * <ul>
+ *     <li>폐기된 jti는 토큰 남은 유효 시간만큼 TTL을 두고 Redis에 저장합니다.</li>
+ *     <li>각 노드는 로컬 Bloom 필터를 두고, Pub/Sub으로 다른 노드의 폐기 내역을 반영합니다.</li>
+ *     <li>필터가 "없음"이라고 하면 Redis를 조회하지 않으므로, 대부분의 요청은 네트워크 왕복 없이 통과합니다.</li>
+ *     <li>Bloom 필터는 삭제가 안 되므로 주기적으로 Redis 기준으로 다시 만들어 만료된 jti를 비웁니다. (메시지 유실 보정 포함)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements MessageListener {
+
+    private static final String KEY_PREFIX = "access-token:revoked:";
+    private static final String CHANNEL = "access-token:revoked";
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedTokens;
+    private final double falsePositiveRate;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock(); // Redis SCAN 중 가상 스레드 pinning 방지 (synchronized 대신)
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuildingFilter; // 재구성 중 도착한 jti도 새 필터에 반영
+
+    public AccessTokenDenylist(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.revocation.expected-tokens:100000}") long expectedTokens,
+            @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기 목록에 올리고 다른 노드에 알립니다.
+     *
+     * @param tokenId 토큰 jti (null이면 jti 도입 이전 토큰이므로 무시)
+     * @param expiresAt 토큰 만료 시각
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null) {
+            return;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return; // 이미 만료된 토큰은 검증 단계에서 거부됩니다.
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", remaining);
+        add(tokenId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, tokenId);
+        } catch (DataAccessException e) {
+            // 다른 노드는 다음 재구성 때 반영합니다.
+            log.warn("Access Token 폐기 메시지 발행 실패 (jti={})", tokenId, e);
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다. 로컬 필터에 있을 수도 있는 경우에만 Redis를 조회합니다.
+     * Redis를 조회할 수 없으면 폐기된 것으로 간주합니다. (필터 적중은 대부분 실제 폐기 토큰이므로)
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (DataAccessException e) {
+            log.warn("Redis에 접근할 수 없어 폐기 여부를 확인하지 못했습니다. (jti={})", tokenId, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    /**
+     * Redis에 남아 있는 jti로 필터를 새로 만들어 교체합니다.
+     * 만료되어 Redis에서 사라진 jti가 빠지므로 필터가 계속 차오르지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:600000}",
+            initialDelayString = "${jwt.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildLocked();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void rebuildLocked() {
+        BloomFilter rebuilt = new BloomFilter(expectedTokens, falsePositiveRate);
+        rebuildingFilter = rebuilt;
+        long count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build())) {
+            while (keys.hasNext()) {
+                rebuilt.put(keys.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Redis에 접근할 수 없어 Access Token 폐기 필터를 재구성하지 못했습니다.", e);
+            rebuildingFilter = null;
+            return;
+        }
+        filter = rebuilt;
+        rebuildingFilter = null;
+        if (count > expectedTokens) {
+            log.warn("폐기된 Access Token 수({})가 예상치({})를 넘어 필터 오탐률이 높아집니다. jwt.revocation.expected-tokens를 늘려주세요.",
+                    count, expectedTokens);
+        }
+    }
+
+    // 재구성 중인 필터를 먼저 읽어야 교체 직전/직후 어느 쪽에 도착한 jti도 새 필터에 남습니다.
+    // (재구성 시작 전에 도착한 jti는 Redis에 이미 저장되어 있으므로 SCAN에 포함됩니다.)
+    private void add(String tokenId) {
+        BloomFilter rebuilding = rebuildingFilter;
+        filter.put(tokenId);
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+    }
+}
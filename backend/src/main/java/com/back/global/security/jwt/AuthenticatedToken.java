@@ -0,0 +1,13 @@
+package com.back.global.security.jwt;
+
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+
+// 검증된 Access Token으로 만든 Authentication, 토큰 id(jti, 폐기 확인용)와 만료 시각 (인증 캐시 만료 계산용)
+public record AuthenticatedToken(
+        Authentication authentication,
+        String tokenId,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,93 @@
+package com.back.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Function;
+
+/**
+ * 검증된 Access Token의 Authentication 로컬 캐시 (토큰 SHA-256 해시 -> AuthenticatedToken).
+ * 같은 토큰으로 반복 요청할 때 서명 검증(HMAC)과 Claims 파싱을 건너뜁니다.
+ * 항목은 ttl과 토큰 만료 시각 중 먼저 오는 시점에 제거되므로 만료된 토큰이 캐시로 통과하지 않습니다.
+ * 폐기(로그아웃) 여부는 캐시와 별도로 매 요청 AccessTokenDenylist에서 확인합니다.
+ * 검증에 실패한 토큰은 캐시하지 않으며, 원본 토큰 대신 해시를 키로 사용해 메모리에 토큰 문자열을 남기지 않습니다.
+ * 적중률 등 통계는 Micrometer의 cache.* 메트릭(cache=jwt-authentication)으로 확인할 수 있습니다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<String, AuthenticatedToken> cache;
+
+    public JwtAuthenticationCache(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.auth-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.auth-cache.ttl:30s}") Duration ttl
+    ) {
+        this(maximumSize, ttl, Clock.systemUTC());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt-authentication");
+    }
+
+    JwtAuthenticationCache(long maximumSize, Duration ttl, Clock clock) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(ttl, clock))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시된 인증 정보를 반환하고, 없으면 loader로 검증/생성한 뒤 저장합니다.
+     * loader가 던진 예외(만료/위변조 등)는 그대로 전달되며 캐시에 남지 않습니다.
+     */
+    public AuthenticatedToken get(String token, Function<String, AuthenticatedToken> loader) {
+        return cache.get(hash(token), key -> loader.apply(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            // MessageDigest는 스레드 안전하지 않으므로 호출마다 생성합니다.
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 생성 시점 기준 min(ttl, 토큰 남은 유효 시간) 후 만료. 조회/갱신으로 연장되지 않습니다.
+    private record TokenExpiry(Duration ttl, Clock clock) implements Expiry<String, AuthenticatedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, AuthenticatedToken value, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), value.expiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(ttl.toNanos(), remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AuthenticatedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AuthenticatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.back.global.security.jwt;
 
+import com.back.global.exception.InvalidTokenException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -18,6 +18,8 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -25,15 +27,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
 
         String token = resolveToken(request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            // 검증 실패 시 TokenExpiredException / InvalidTokenException (기존 validateToken과 동일)
+            AuthenticatedToken authenticated = jwtAuthenticationCache.get(token, jwtTokenProvider::authenticate);
+            // 로컬 Bloom 필터에 걸린 경우에만 Redis를 조회합니다.
+            if (accessTokenDenylist.isRevoked(authenticated.tokenId())) {
+                throw new InvalidTokenException("로그아웃된 토큰입니다.");
+            }
+            SecurityContextHolder.getContext().setAuthentication(authenticated.authentication());
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    // Authorization: Bearer {token} 헤더에서 토큰 추출 (없으면 null)
+    public static String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
             return bearer.substring(7);
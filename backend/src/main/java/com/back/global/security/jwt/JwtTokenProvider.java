@@ -19,11 +19,13 @@ import java.security.Key;
 import java.time.Duration;
 import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
     private final Key secretKey;
+    private final JwtParser jwtParser; // 불변/스레드 안전하므로 한 번만 생성해 재사용
     @Getter
     private final Duration accessTokenExpiration;   // Duration 타입
     @Getter
@@ -35,6 +37,9 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-token-expiration}") Duration refreshTokenExpiration
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -45,6 +50,7 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration.toMillis());
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // jti: 로그아웃 시 폐기 목록에 올리는 토큰 식별자
                 .setSubject(String.valueOf(id))
                 .claim("name", name)
                 .claim("email", email)
@@ -85,9 +91,25 @@ public class JwtTokenProvider {
 
     // 토큰 유효성 검증 및 예외 처리
     public boolean validateToken(String token) {
+        parseVerifiedClaims(token);
+        return true;
+    }
+
+    /**
+     * 서명 검증과 Authentication 생성을 한 번의 파싱으로 처리합니다. (요청 인증 필터용)
+     *
+     * @throws TokenExpiredException 만료된 토큰
+     * @throws InvalidTokenException 서명/형식이 잘못된 토큰
+     */
+    public AuthenticatedToken authenticate(String token) {
+        Claims claims = parseVerifiedClaims(token);
+        return new AuthenticatedToken(toAuthentication(claims), claims.getId(), claims.getExpiration().toInstant());
+    }
+
+    // 검증 실패를 도메인 예외로 변환하는 파싱
+    private Claims parseVerifiedClaims(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return parseClaims(token);
         } catch (ExpiredJwtException e) {
             throw new TokenExpiredException("토큰이 만료되었습니다.");
         } catch (JwtException | IllegalArgumentException e) {
@@ -97,16 +119,15 @@ public class JwtTokenProvider {
 
     // Claims 파싱 (내부)
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     // Access Token으로 Authentication 객체 생성
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return toAuthentication(parseClaims(token));
+    }
+
+    private Authentication toAuthentication(Claims claims) {
         Integer id = Integer.valueOf(claims.getSubject());
         String email = claims.get("email", String.class);
         String name = claims.get("name", String.class);
@@ -1,7 +1,7 @@
 package com.back.global.security.jwt;
 
-import com.back.domain.user.entity.User;
-import com.back.domain.user.service.UserService;
+import com.back.domain.user.dto.UserClaims;
+import com.back.domain.user.service.UserClaimsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -13,7 +13,8 @@ public class TokenService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final UserService userService;  // 유저 정보 조회용
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final UserClaimsCache userClaimsCache;  // 재발급 시 Claims 조회용 (User 엔티티 전체를 읽지 않음)
 
     // 로그인/최초 발급
     public JwtTokens generateToken(Integer userId, String name, String email, String role) {
@@ -54,14 +55,12 @@ public class TokenService {
             throw new RuntimeException("Refresh token rotation failed");
         }
 
-        // 5. DB에서 유저 정보 조회
-        User user = userService.findById(userId);
-        String name = user.getName();
-        String email = user.getEmail();
-        String role = user.getRole().name();
+        // 5. 유저 Claims 조회 (로컬 캐시, 없으면 프로젝션 쿼리)
+        UserClaims claims = userClaimsCache.get(userId);
 
         // 6. Access Token 새로 발급
-        String newAccessToken = jwtTokenProvider.generateAccessToken(userId, name, email, role);
+        String newAccessToken = jwtTokenProvider.generateAccessToken(
+                userId, claims.name(), claims.email(), claims.role().name());
 
         return new JwtTokens(
                 newAccessToken,
@@ -69,11 +68,20 @@ public class TokenService {
         );
     }
 
-    // 로그아웃
+    // 로그아웃 (RefreshToken만 삭제)
     public void logout(Integer userId) {
         refreshTokenRepository.deleteRefreshToken(userId);
     }
 
+    // 로그아웃 + 현재 Access Token 폐기 (만료 전까지 재사용 불가)
+    public void logout(Integer userId, String accessToken) {
+        logout(userId);
+        if (accessToken != null) {
+            AuthenticatedToken authenticated = jwtTokenProvider.authenticate(accessToken);
+            accessTokenDenylist.revoke(authenticated.tokenId(), authenticated.expiresAt());
+        }
+    }
+
     public Duration getRefreshTokenExpiration() {
         return jwtTokenProvider.getRefreshTokenExpiration();
     }
@@ -0,0 +1,33 @@
+-- KEYS[1] = 사용자 장바구니 해시 ({cart:<userId>}, 필드 productId -> "itemId:quantity", 필드 "_" -> cartId)
+-- ARGV[1] = productId, ARGV[2] = 추가 수량, ARGV[3] = 최대 수량(판매 가능 재고), ARGV[4] = TTL(초)
+-- ARGV[5] = 새 항목에 쓸 항목 id (아직 발급받지 않았으면 빈 문자열)
+-- 반환값: 양수 = 추가 후 수량
+--         -1 = 기존 수량과 합치면 재고 초과 (변경 없음)
+--         -2 = 장바구니 미적재 (DB에서 적재 후 다시 호출)
+--         -3 = 새 항목인데 항목 id가 없음 (시퀀스에서 발급받아 다시 호출)
+
+if redis.call('exists', KEYS[1]) == 0 then
+  return -2
+end
+
+local current = redis.call('hget', KEYS[1], ARGV[1])
+local itemId
+local quantity
+if current then
+  local sep = string.find(current, ':', 1, true)
+  itemId = string.sub(current, 1, sep - 1)
+  quantity = tonumber(string.sub(current, sep + 1)) + tonumber(ARGV[2])
+  if quantity > tonumber(ARGV[3]) then
+    return -1
+  end
+else
+  if ARGV[5] == '' then
+    return -3
+  end
+  itemId = ARGV[5]
+  quantity = tonumber(ARGV[2])
+end
+
+redis.call('hset', KEYS[1], ARGV[1], itemId .. ':' .. quantity)
+redis.call('expire', KEYS[1], ARGV[4])
+return quantity
@@ -0,0 +1,20 @@
+-- KEYS[1] = 사용자 장바구니 해시
+-- ARGV[1] = TTL(초)
+-- 장바구니 id 필드("_")만 남기고 모든 항목을 삭제합니다.
+-- 반환값: 삭제한 항목 수, -2 = 장바구니 미적재 (DB에서 적재 후 다시 호출)
+
+if redis.call('exists', KEYS[1]) == 0 then
+  return -2
+end
+
+local fields = redis.call('hkeys', KEYS[1])
+local removed = 0
+for i = 1, #fields do
+  if fields[i] ~= '_' then
+    redis.call('hdel', KEYS[1], fields[i])
+    removed = removed + 1
+  end
+end
+
+redis.call('expire', KEYS[1], ARGV[1])
+return removed
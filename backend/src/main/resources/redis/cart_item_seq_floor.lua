@@ -0,0 +1,11 @@
+-- KEYS[1] = 장바구니 항목 id 시퀀스 (cart:item-seq)
+-- ARGV[1] = DB cart_item 최대 id
+-- 시퀀스를 DB의 최대 항목 id 이상으로 올려 새로 발급하는 항목 id가 DB 행과 겹치지 않도록 합니다. (내리지는 않음)
+-- 반환값: 변경 후 시퀀스 값
+
+local seq = tonumber(redis.call('get', KEYS[1]) or '0')
+if seq < tonumber(ARGV[1]) then
+  redis.call('set', KEYS[1], ARGV[1])
+  return tonumber(ARGV[1])
+end
+return seq
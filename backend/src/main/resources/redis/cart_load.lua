@@ -0,0 +1,15 @@
+-- KEYS[1] = 사용자 장바구니 해시
+-- ARGV[1] = cartId, ARGV[2] = TTL(초), ARGV[3..] = productId, itemId, quantity 반복
+-- DB에서 읽은 장바구니를 적재합니다. 이미 적재되어 있으면 (동시 적재) 아무것도 하지 않습니다.
+-- 반환값: 1 = 적재함, 0 = 이미 적재되어 있음
+
+if redis.call('exists', KEYS[1]) == 1 then
+  return 0
+end
+
+redis.call('hset', KEYS[1], '_', ARGV[1])
+for i = 3, #ARGV, 3 do
+  redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1] .. ':' .. ARGV[i + 2])
+end
+redis.call('expire', KEYS[1], ARGV[2])
+return 1
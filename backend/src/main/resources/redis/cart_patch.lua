@@ -0,0 +1,46 @@
+-- KEYS[1] = 사용자 장바구니 해시
+-- ARGV[1] = TTL(초), ARGV[2] = 새 항목에 쓸 첫 항목 id, ARGV[3] = 발급받은 항목 id 수
+-- ARGV[4..] = (productId, 수량) 쌍 (수량 0이면 항목 삭제)
+-- 새 항목에는 ARGV[2]부터 차례로 항목 id를 씁니다. 발급받은 id가 모자라면 아무것도 바꾸지 않습니다.
+-- 반환값: 변경 후 장바구니 해시 (HGETALL 결과)
+--         빈 목록 = 장바구니 미적재 (DB에서 적재 후 다시 호출)
+--         {'?', n} = 새 항목 n개에 쓸 항목 id가 모자람 (n개 발급받아 다시 호출)
+
+if redis.call('exists', KEYS[1]) == 0 then
+  return {}
+end
+
+local needed = 0
+for i = 4, #ARGV, 2 do
+  if tonumber(ARGV[i + 1]) > 0 and redis.call('hexists', KEYS[1], ARGV[i]) == 0 then
+    needed = needed + 1
+  end
+end
+if needed > tonumber(ARGV[3]) then
+  return {'?', tostring(needed)}
+end
+
+local nextItemId = tonumber(ARGV[2])
+for i = 4, #ARGV, 2 do
+  local productId = ARGV[i]
+  local quantity = tonumber(ARGV[i + 1])
+  local current = redis.call('hget', KEYS[1], productId)
+
+  if quantity == 0 then
+    if current then
+      redis.call('hdel', KEYS[1], productId)
+    end
+  else
+    local itemId
+    if current then
+      itemId = string.sub(current, 1, string.find(current, ':', 1, true) - 1)
+    else
+      itemId = tostring(nextItemId)
+      nextItemId = nextItemId + 1
+    end
+    redis.call('hset', KEYS[1], productId, itemId .. ':' .. quantity)
+  end
+end
+
+redis.call('expire', KEYS[1], ARGV[1])
+return redis.call('hgetall', KEYS[1])
@@ -0,0 +1,20 @@
+-- KEYS[1] = 사용자 장바구니 해시
+-- ARGV[1] = TTL(초), ARGV[2..] = (productId, "itemId:quantity") 쌍
+-- 주문으로 전환된 항목만 삭제합니다. 값이 스냅샷과 같을 때만 지우므로(compare-and-delete)
+-- 스냅샷 이후 새로 담거나 수량을 바꾼 항목은 장바구니에 남습니다.
+-- 반환값: 삭제한 항목 수, -2 = 장바구니 미적재 (TTL 만료 등, 지울 항목 없음)
+
+if redis.call('exists', KEYS[1]) == 0 then
+  return -2
+end
+
+local removed = 0
+for i = 2, #ARGV, 2 do
+  if redis.call('hget', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+    redis.call('hdel', KEYS[1], ARGV[i])
+    removed = removed + 1
+  end
+end
+
+redis.call('expire', KEYS[1], ARGV[1])
+return removed
@@ -0,0 +1,23 @@
+-- KEYS[1] = 사용자 장바구니 해시
+-- ARGV[1] = productId, ARGV[2] = itemId, ARGV[3] = 변경할 수량 (0이면 항목 삭제), ARGV[4] = TTL(초)
+-- 반환값: 1 = 변경됨
+--         0 = 항목 없음 (항목 인덱스나 DB 항목이 오래된 경우)
+--         -2 = 장바구니 미적재 (DB에서 적재 후 다시 호출)
+
+if redis.call('exists', KEYS[1]) == 0 then
+  return -2
+end
+
+local prefix = ARGV[2] .. ':'
+local current = redis.call('hget', KEYS[1], ARGV[1])
+if not current or string.sub(current, 1, #prefix) ~= prefix then
+  return 0
+end
+
+if tonumber(ARGV[3]) == 0 then
+  redis.call('hdel', KEYS[1], ARGV[1])
+else
+  redis.call('hset', KEYS[1], ARGV[1], prefix .. ARGV[3])
+end
+redis.call('expire', KEYS[1], ARGV[4])
+return 1
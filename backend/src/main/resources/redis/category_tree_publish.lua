@@ -0,0 +1,15 @@
+-- KEYS[1] = 카테고리 트리 스냅샷 (JSON)
+-- KEYS[2] = 저장된 스냅샷 버전
+-- ARGV[1] = 새 스냅샷 버전
+-- ARGV[2] = 새 스냅샷 JSON
+-- ARGV[3] = 스냅샷 TTL (초)
+-- 더 높은 버전이 이미 저장되어 있으면 덮어쓰지 않습니다. (늦게 도착한 오래된 스냅샷 방지)
+
+local current = tonumber(redis.call('get', KEYS[2]) or '0')
+if current >= tonumber(ARGV[1]) then
+  return 0
+end
+
+redis.call('set', KEYS[1], ARGV[2], 'EX', ARGV[3])
+redis.call('set', KEYS[2], ARGV[1], 'EX', ARGV[3])
+return 1
@@ -0,0 +1,8 @@
+-- KEYS[1] = 확정된 재고 차감분 해시 (productId -> 누적 차감 수량)
+-- 해시 전체를 읽고 삭제하여 write-behind 플러시 대상으로 원자적으로 가져옵니다.
+
+local deltas = redis.call('hgetall', KEYS[1])
+if #deltas > 0 then
+  redis.call('del', KEYS[1])
+end
+return deltas
@@ -0,0 +1,11 @@
+-- KEYS[1] = 재고 카운터
+-- ARGV[1] = 관측했던 카운터 값
+-- ARGV[2] = 보정할 값
+-- 관측 이후 카운터가 바뀌지 않았을 때만 보정합니다. (진행 중인 주문과 경합 방지)
+
+if redis.call('get', KEYS[1]) == ARGV[1] then
+  redis.call('set', KEYS[1], ARGV[2])
+  return 1
+else
+  return 0
+end
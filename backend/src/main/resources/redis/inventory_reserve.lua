@@ -0,0 +1,21 @@
+-- KEYS[1..n] = 상품별 재고 카운터 (예: {inventory}:stock:{productId})
+-- ARGV[1..n] = 차감할 수량
+-- 반환값: 0 = 전체 차감 성공
+--         i (양수) = i번째 상품 재고 부족 (아무것도 차감하지 않음)
+--         -i (음수) = i번째 상품 카운터 미적재 (아무것도 차감하지 않음)
+
+for i = 1, #KEYS do
+  local stock = redis.call('get', KEYS[i])
+  if not stock then
+    return -i
+  end
+  if tonumber(stock) < tonumber(ARGV[i]) then
+    return i
+  end
+end
+
+for i = 1, #KEYS do
+  redis.call('decrby', KEYS[i], ARGV[i])
+end
+
+return 0
@@ -1,3 +1,5 @@
+DROP TABLE IF EXISTS outbox_event;
+DROP TABLE IF EXISTS daily_sales_rollup;
 DROP TABLE IF EXISTS order_item;
 DROP TABLE IF EXISTS orders;
 DROP TABLE IF EXISTS cart_item;
@@ -37,7 +39,9 @@ CREATE TABLE product
     name        VARCHAR(100) NOT NULL,
     image_url   VARCHAR(500),
     price       INT UNSIGNED NOT NULL,
+    price_version INT UNSIGNED NOT NULL DEFAULT 1,
     stock       INT UNSIGNED NOT NULL,
+    version     BIGINT      NOT NULL DEFAULT 0,
     description TEXT,
     created_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at  TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
@@ -45,6 +49,10 @@ CREATE TABLE product
     FOREIGN KEY (category_id) REFERENCES category (id)
 );
 
+-- 커서(keyset) 페이징용 정렬 인덱스
+CREATE INDEX idx_product_created_at_id ON product (created_at, id);
+CREATE INDEX idx_product_price_id ON product (price, id);
+
 -- 배송(Delivery)
 CREATE TABLE delivery
 (
@@ -101,3 +109,28 @@ CREATE TABLE order_item
     FOREIGN KEY (order_id) REFERENCES orders (id),
     FOREIGN KEY (product_id) REFERENCES product (id)
 );
+
+-- 일별 주문 집계(Daily_Sales_Rollup) - 주문 생성/상태 변경 시 증분 갱신, 배치로 재집계
+CREATE TABLE daily_sales_rollup
+(
+    sales_date  DATE   NOT NULL,
+    status      ENUM('배송준비중','배송중','배송완료','취소') NOT NULL,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    revenue     BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (sales_date, status)
+);
+
+-- 아웃박스(Outbox_Event) - 도메인 이벤트를 원본 변경과 같은 트랜잭션에 기록하고, 릴레이가 읽어 후속 처리에 전달
+CREATE TABLE outbox_event
+(
+    id             BIGINT UNSIGNED AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(50)  NOT NULL,
+    aggregate_id   VARCHAR(50)  NOT NULL,
+    event_type     VARCHAR(50)  NOT NULL,
+    payload        TEXT         NOT NULL,
+    created_at     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at   TIMESTAMP    NULL,
+    attempts       INT          NOT NULL DEFAULT 0,
+    last_error     VARCHAR(500)
+);
+CREATE INDEX idx_outbox_event_pending ON outbox_event (published_at, id);
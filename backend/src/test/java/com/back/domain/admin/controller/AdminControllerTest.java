@@ -245,4 +245,82 @@ public class AdminControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    // --- 상품별 판매 통계 테스트 ---
+    // data-test.sql: 상품 3 (2개, 32000), 상품 4 (19000), 상품 1 (18000), 상품 2 (17000), 모두 커피빈(식품 하위) 카테고리
+
+    @Test
+    @DisplayName("GET /api/v1/admin/statistics/products - 상품별 판매 통계 조회 성공 (판매액 내림차순)")
+    @WithMockUser(roles = "ADMIN")
+    void getProductSalesStatistics_Success() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/statistics/products"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(4))
+                .andExpect(jsonPath("$.content[0].productId").value(3))
+                .andExpect(jsonPath("$.content[0].totalQuantitySold").value(2))
+                .andExpect(jsonPath("$.content[0].totalSalesAmount").value(32000))
+                .andExpect(jsonPath("$.content[3].productId").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/statistics/products - 상위 N개만 조회")
+    @WithMockUser(roles = "ADMIN")
+    void getProductSalesStatistics_Top() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/statistics/products")
+                        .param("top", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].productId").value(3))
+                .andExpect(jsonPath("$.content[1].productId").value(4))
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.totalPages").value(1))
+                .andExpect(jsonPath("$.isLast").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/statistics/products - top과 page를 함께 지정하면 400")
+    @WithMockUser(roles = "ADMIN")
+    void getProductSalesStatistics_TopWithPage() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/statistics/products")
+                        .param("top", "2")
+                        .param("page", "1"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/statistics/products - 카테고리/기간 조건 적용")
+    @WithMockUser(roles = "ADMIN")
+    void getProductSalesStatistics_Filters() throws Exception {
+        // 상위 카테고리(식품)로 조회하면 하위 카테고리(커피빈) 상품까지 포함
+        mockMvc.perform(get("/api/v1/admin/statistics/products")
+                        .param("categoryId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(4));
+
+        // 판매 이력이 없는 카테고리(음료)
+        mockMvc.perform(get("/api/v1/admin/statistics/products")
+                        .param("categoryId", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        // 주문이 없는 기간
+        mockMvc.perform(get("/api/v1/admin/statistics/products")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-12-31"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/statistics/products - 상품별 판매 통계 조회 실패 (일반 사용자)")
+    @WithMockUser(roles = "USER")
+    void getProductSalesStatistics_Forbidden_WithUser() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/statistics/products"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+}
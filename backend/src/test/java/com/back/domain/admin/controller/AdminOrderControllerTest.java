@@ -1,7 +1,12 @@
 package com.back.domain.admin.controller;
 
+import com.back.domain.order.dto.export.OrderExportFormat;
+import com.back.domain.order.dto.order.OrderStatusBulkUpdateDTO;
 import com.back.domain.order.dto.order.OrderStatusUpdateDTO;
 import com.back.domain.order.entity.OrderStatus;
+import com.back.domain.order.service.OrderExportService;
+import com.back.global.outbox.OutboxRelay;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,16 +14,27 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -32,6 +48,15 @@ public class AdminOrderControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private OrderStatusUpdateDTO validStatusUpdateDTO;
     private OrderStatusUpdateDTO invalidStatusUpdateDTO;
 
@@ -182,6 +207,89 @@ public class AdminOrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    // ========== 주문 내보내기 API 테스트 ==========
+
+    @Test
+    @DisplayName("GET /api/v1/admin/orders/export - CSV 내보내기 (주문 항목당 1행)")
+    @WithMockUser(roles = "ADMIN")
+    void exportOrders_Csv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/admin/orders/export")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // 내보내기 요청에만 order.export.timeout이 적용됨
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("attachment")));
+
+        // data-test.sql: 주문 1 (항목 2개), 주문 2 (1개), 주문 3 (1개)
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).endsWith("order_id,order_date,status,total_price,user_id,username,user_email,"
+                + "address,product_id,product_name,quantity,unit_price");
+        assertThat(lines[1]).startsWith("1,").contains(",배송준비중,35000,");
+    }
+
+    @Test
+    @DisplayName("주문 CSV 내보내기 - 수식으로 시작하는 사용자 입력값은 텍스트로 내보낸다")
+    void exportOrders_Csv_EscapesFormulaCells() throws Exception {
+        // 내보내기 응답은 별도 스레드에서 쓰이므로, 테스트 트랜잭션의 변경이 보이도록 서비스를 직접 호출합니다.
+        jdbcTemplate.update("UPDATE users SET name = ? WHERE id = 2", "@SUM(A1)");
+        jdbcTemplate.update("UPDATE orders SET shipping_address = ? WHERE id = 1", "=HYPERLINK(\"http://evil\",\"x\")");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        orderExportService.export(OrderExportFormat.CSV, null, null, null, out);
+
+        String firstRow = out.toString(StandardCharsets.UTF_8).split("\n")[1];
+        assertThat(firstRow)
+                .contains(",'@SUM(A1),")
+                .contains(",\"'=HYPERLINK(\"\"http://evil\"\",\"\"x\"\")\",");
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/orders/export - NDJSON 내보내기 (주문당 1줄, 상태 필터)")
+    @WithMockUser(roles = "ADMIN")
+    void exportOrders_Ndjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/admin/orders/export")
+                        .param("format", "ndjson")
+                        .param("status", "배송준비중"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("orderId").asInt()).isEqualTo(1);
+        assertThat(first.get("items")).hasSize(2);
+        assertThat(objectMapper.readTree(lines[1]).get("orderId").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/orders/export - 지원하지 않는 형식이면 실패")
+    @WithMockUser(roles = "ADMIN")
+    void exportOrders_BadRequest_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/orders/export")
+                        .param("format", "xlsx"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/orders/export - 주문 내보내기 실패 (일반 사용자)")
+    @WithMockUser(roles = "USER")
+    void exportOrders_Forbidden_WithUser() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/orders/export"))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+    }
+
     // ========== 주문 통계 API 테스트 ==========
 
     @Test
@@ -226,6 +334,123 @@ public class AdminOrderControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/admin/orders/statistics - 일별 집계 기준 주문 수와 매출 조회")
+    @WithMockUser(roles = "ADMIN")
+    void getOrderStatistics_ReadsDailyRollup() throws Exception {
+        String today = LocalDate.now().toString();
+
+        // data-test.sql: 배송준비중 2건 (35000 + 32000), 배송중 1건 (19000)
+        mockMvc.perform(get("/api/v1/admin/orders/statistics")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.status == '배송준비중')].orderCount").value(hasItem(2)))
+                .andExpect(jsonPath("$[?(@.status == '배송준비중')].totalRevenue").value(hasItem(67000)))
+                .andExpect(jsonPath("$[?(@.status == '배송중')].orderCount").value(hasItem(1)))
+                .andExpect(jsonPath("$[?(@.status == '배송중')].totalRevenue").value(hasItem(19000)));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/admin/orders/{orderId}/status - 상태 변경이 일별 집계에 반영됨")
+    @WithMockUser(roles = "ADMIN")
+    void updateOrderStatus_MovesDailyRollup() throws Exception {
+        String today = LocalDate.now().toString();
+
+        // 주문 1 (35000원): 배송준비중 -> 배송중
+        mockMvc.perform(patch("/api/v1/admin/orders/{orderId}/status", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validStatusUpdateDTO)))
+                .andExpect(status().isOk());
+
+        // 일별 집계는 아웃박스 이벤트로 반영됨 (테스트 프로파일은 스케줄러 대신 직접 릴레이)
+        assertThat(outboxRelay.relayPending()).isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/admin/orders/statistics")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.status == '배송준비중')].orderCount").value(hasItem(1)))
+                .andExpect(jsonPath("$[?(@.status == '배송준비중')].totalRevenue").value(hasItem(32000)))
+                .andExpect(jsonPath("$[?(@.status == '배송중')].orderCount").value(hasItem(2)))
+                .andExpect(jsonPath("$[?(@.status == '배송중')].totalRevenue").value(hasItem(54000)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/admin/statistics/daily-sales - 일별 매출 합계 조회")
+    @WithMockUser(roles = "ADMIN")
+    void getDailySalesStatistics_Success() throws Exception {
+        String today = LocalDate.now().toString();
+
+        mockMvc.perform(get("/api/v1/admin/statistics/daily-sales")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].date").value(today))
+                .andExpect(jsonPath("$[0].totalSalesAmount").value(86000));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/admin/statistics/daily-sales/rebuild - 주문 테이블 기준 집계 재계산")
+    @WithMockUser(roles = "ADMIN")
+    void rebuildDailySalesRollup_Success() throws Exception {
+        String today = LocalDate.now().toString();
+
+        mockMvc.perform(post("/api/v1/admin/statistics/daily-sales/rebuild")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rebuiltRows").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/admin/statistics/daily-sales/rebuild - 재계산에 포함된 대기 이벤트는 릴레이가 다시 반영하지 않음")
+    @WithMockUser(roles = "ADMIN")
+    void rebuildDailySalesRollup_MarksPendingEventsPublished() throws Exception {
+        String today = LocalDate.now().toString();
+
+        // 주문 1 (35000원): 배송준비중 -> 배송중, 상태 변경 이벤트는 아직 릴레이 전
+        mockMvc.perform(patch("/api/v1/admin/orders/{orderId}/status", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validStatusUpdateDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/v1/admin/statistics/daily-sales/rebuild")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andExpect(status().isOk());
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_event WHERE published_at IS NULL", Integer.class)).isZero();
+        assertThat(outboxRelay.relayPending()).isZero();
+
+        mockMvc.perform(get("/api/v1/admin/orders/statistics")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.status == '배송준비중')].orderCount").value(hasItem(1)))
+                .andExpect(jsonPath("$[?(@.status == '배송준비중')].totalRevenue").value(hasItem(32000)))
+                .andExpect(jsonPath("$[?(@.status == '배송중')].orderCount").value(hasItem(2)))
+                .andExpect(jsonPath("$[?(@.status == '배송중')].totalRevenue").value(hasItem(54000)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/admin/statistics/daily-sales/rebuild - 시작일이 종료일보다 늦으면 실패")
+    @WithMockUser(roles = "ADMIN")
+    void rebuildDailySalesRollup_BadRequest_InvalidRange() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/statistics/daily-sales/rebuild")
+                        .param("startDate", "2024-12-31")
+                        .param("endDate", "2024-01-01"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     // ========== 다양한 상태 변경 테스트 ==========
 
     @Test
@@ -358,4 +583,60 @@ public class AdminOrderControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("PATCH /api/v1/admin/orders/status - 주문 상태 일괄 변경 (행별 결과, 일별 집계 반영)")
+    @WithMockUser(roles = "ADMIN")
+    void updateOrderStatuses_Bulk_PerRowResults() throws Exception {
+        OrderStatusBulkUpdateDTO dto = new OrderStatusBulkUpdateDTO(List.of(
+                new OrderStatusUpdateDTO(1, OrderStatus.배송중),
+                new OrderStatusUpdateDTO(2, OrderStatus.배송완료),
+                new OrderStatusUpdateDTO(3, OrderStatus.배송중),   // 이미 배송중
+                new OrderStatusUpdateDTO(9999, OrderStatus.취소), // 없는 주문
+                new OrderStatusUpdateDTO(1, OrderStatus.취소)     // 중복
+        ));
+
+        mockMvc.perform(patch("/api/v1/admin/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.skipped").value(1))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[2].status").value("SKIPPED"))
+                .andExpect(jsonPath("$.results[3].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[4].status").value("FAILED"));
+
+        mockMvc.perform(get("/api/v1/admin/orders/{orderId}", 2))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("배송완료"));
+
+        assertThat(outboxRelay.relayPending()).isEqualTo(2);
+
+        String today = LocalDate.now().toString();
+        mockMvc.perform(get("/api/v1/admin/orders/statistics")
+                        .param("startDate", today)
+                        .param("endDate", today))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.status == '배송중')].totalRevenue").value(hasItem(54000)))
+                .andExpect(jsonPath("$[?(@.status == '배송완료')].totalRevenue").value(hasItem(32000)));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/admin/orders/status - 목록의 null 항목은 해당 행만 실패로 기록")
+    @WithMockUser(roles = "ADMIN")
+    void updateOrderStatuses_Bulk_NullElement() throws Exception {
+        mockMvc.perform(patch("/api/v1/admin/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"updates\": [null, {\"orderId\": 1, \"newStatus\": \"배송중\"}]}"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[1].status").value("SUCCESS"));
+    }
 }
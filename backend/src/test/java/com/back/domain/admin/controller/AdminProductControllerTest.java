@@ -9,11 +9,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -255,4 +260,57 @@ public class AdminProductControllerTest {
                 .andDo(print())
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("POST /api/v1/admin/products/bulk - 상품 일괄 생성 (실패 항목은 행별 결과로 반환)")
+    @WithMockUser(roles = "ADMIN")
+    void createProducts_Bulk_PerRowResults() throws Exception {
+        List<ProductRequestDto> requests = List.of(
+                testProductRequestDto,
+                invalidProductRequestDto, // 이름 누락
+                new ProductRequestDto("카테고리 없는 상품", null, 1000, 1, null, 9999),
+                new ProductRequestDto("테스트 새 상품 2", null, 15000, 20, null, 2)
+        );
+
+        mockMvc.perform(post("/api/v1/admin/products/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(4))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].status").value("SUCCESS"))
+                .andExpect(jsonPath("$.results[0].id").exists())
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[2].message").value(containsString("9999")))
+                .andExpect(jsonPath("$.results[3].status").value("SUCCESS"));
+
+        mockMvc.perform(get("/api/v1/products/search").param("name", "테스트 새 상품"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/admin/products/import - 상품 CSV 가져오기 (따옴표 필드, 형식 오류 행)")
+    @WithMockUser(roles = "ADMIN")
+    void importProducts_Csv() throws Exception {
+        String csv = "\uFEFFname,price,stock,category_id,description\n" +
+                "\"CSV 상품, 1kg\",12000,30,2,\"설명에 \"\"따옴표\"\"\"\n" +
+                "CSV 상품 2,가격,30,2,\n" +
+                "CSV 상품 3,9000,10,2,\n";
+        MockMultipartFile file = new MockMultipartFile(
+                "file", "products.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/api/v1/admin/products/import").file(file))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.results[1].status").value("FAILED"));
+
+        mockMvc.perform(get("/api/v1/products/search").param("name", "CSV 상품, 1kg"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].description").value("설명에 \"따옴표\""));
+    }
 }
@@ -3,6 +3,9 @@ package com.back.domain.auth.controller;
 import com.back.domain.auth.dto.ChangePasswordRequest;
 import com.back.domain.auth.dto.LoginRequest;
 import com.back.domain.auth.dto.SignupRequest;
+import com.back.domain.user.entity.User;
+import com.back.domain.user.repository.UserRepository;
+import com.back.global.exception.InvalidTokenException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -20,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -35,6 +40,9 @@ class AuthControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private UserRepository userRepository;
+
     private static final String TEST_EMAIL = "test1234@example.com";
     private static final String TEST_PASSWORD = "password1234";
     private static final String TEST_NAME = "테스트유저1234";
@@ -106,6 +114,27 @@ class AuthControllerTest {
         // 4. (선택) 로그아웃 시 서버 단 토큰 삭제 로직 검증 가능
     }
 
+    @Test
+    @DisplayName("t3-1. 로그아웃한 AccessToken은 만료 전이라도 다시 사용할 수 없다")
+    void t3_1_logout_revokesAccessToken() throws Exception {
+        signupUser(TEST_EMAIL, TEST_PASSWORD, TEST_NAME);
+
+        MvcResult loginResult = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(TEST_EMAIL, TEST_PASSWORD))))
+                .andExpect(status().isOk())
+                .andReturn();
+        String accessToken = loginResult.getResponse().getHeader(HttpHeaders.AUTHORIZATION);
+
+        mockMvc.perform(post("/api/v1/auth/logout")
+                        .header(HttpHeaders.AUTHORIZATION, accessToken))
+                .andExpect(status().isOk());
+
+        // 폐기된 토큰은 JWT 필터에서 거부됨
+        assertThrows(InvalidTokenException.class, () -> mockMvc.perform(post("/api/v1/auth/logout")
+                .header(HttpHeaders.AUTHORIZATION, accessToken)));
+    }
+
 
 
     @Test
@@ -162,6 +191,28 @@ class AuthControllerTest {
                 .andExpect(content().string(containsString("비밀번호가 변경되었습니다")));
     }
 
+    @Test
+    @DisplayName("t6. 저장된 해시 강도가 설정과 다르면 로그인 시 새 강도로 다시 저장된다")
+    void t6_login_rehashesPassword() throws Exception {
+        // GIVEN: 설정(10)보다 낮은 강도(4)로 저장된 사용자
+        userRepository.save(User.builder()
+                .email(TEST_EMAIL)
+                .password(new BCryptPasswordEncoder(4).encode(TEST_PASSWORD))
+                .name(TEST_NAME)
+                .build());
+
+        // WHEN
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(TEST_EMAIL, TEST_PASSWORD))))
+                .andExpect(status().isOk());
+
+        // THEN: 새 강도로 재해시되고, 같은 비밀번호로 계속 로그인 가능
+        String rehashed = userRepository.findByEmail(TEST_EMAIL).orElseThrow().getPassword();
+        assertThat(rehashed).startsWith("$2a$10$");
+        assertThat(new BCryptPasswordEncoder().matches(TEST_PASSWORD, rehashed)).isTrue();
+    }
+
     private void signupUser(String email, String password, String name) throws Exception {
         mockMvc.perform(post("/api/v1/auth/signup")
                         .contentType(MediaType.APPLICATION_JSON)
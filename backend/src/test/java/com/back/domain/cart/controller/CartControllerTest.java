@@ -2,6 +2,7 @@ package com.back.domain.cart.controller;
 
 import com.back.domain.cart.dto.AddCartItemRequest;
 import com.back.domain.cart.dto.CartDto;
+import com.back.domain.cart.dto.PatchCartItemsRequest;
 import com.back.domain.cart.dto.UpdateCartItemRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -10,12 +11,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -34,6 +38,9 @@ class CartControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     /**
      * 특정 userId의 장바구니에서 특정 productId를 가진 cartItemId를 찾는 헬퍼 메서드.
      * AUTO_INCREMENT 환경에서 cartItemId를 동적으로 얻기 위해 사용됩니다.
@@ -387,4 +394,90 @@ class CartControllerTest {
                 .andExpect(jsonPath("$.totalPrice").value(0))
                 .andExpect(jsonPath("$.items").isEmpty());
     }
+
+    // --- patchItems 테스트 ---
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 추가/수량 변경/삭제 한 번에 반영")
+    void patchItems_Success() throws Exception {
+        Integer userId = 2;
+        PatchCartItemsRequest request = new PatchCartItemsRequest(
+                List.of(new PatchCartItemsRequest.Upsert(3, 2), new PatchCartItemsRequest.Upsert(1, 3)),
+                List.of(2));
+
+        mockMvc.perform(patch("/api/v1/carts/items")
+                        .param("userId", String.valueOf(userId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.totalQuantity").value(5))
+                .andExpect(jsonPath("$.totalPrice").value(86000))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[?(@.productId == 1)].quantity").value(3))
+                .andExpect(jsonPath("$.items[?(@.productId == 3)].quantity").value(2));
+
+        mockMvc.perform(get("/api/v1/carts")
+                        .param("userId", String.valueOf(userId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalQuantity").value(5))
+                .andExpect(jsonPath("$.items[?(@.productId == 2)]").isEmpty());
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 한 상품이라도 재고를 초과하면 아무것도 반영하지 않음")
+    void patchItems_StockExceeded_NothingApplied() throws Exception {
+        Integer userId = 2;
+        PatchCartItemsRequest request = new PatchCartItemsRequest(
+                List.of(new PatchCartItemsRequest.Upsert(3, 2), new PatchCartItemsRequest.Upsert(1, 51)),
+                List.of(2));
+
+        mockMvc.perform(patch("/api/v1/carts/items")
+                        .param("userId", String.valueOf(userId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andDo(print())
+                .andExpect(jsonPath("$.message").value("상품의 재고가 부족합니다. productId: 1, 요청 수량: 51, 현재 재고: 50"));
+
+        mockMvc.perform(get("/api/v1/carts")
+                        .param("userId", String.valueOf(userId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalQuantity").value(2))
+                .andExpect(jsonPath("$.totalPrice").value(35000));
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 같은 상품 중복 요청")
+    void patchItems_DuplicateProduct() throws Exception {
+        PatchCartItemsRequest request = new PatchCartItemsRequest(
+                List.of(new PatchCartItemsRequest.Upsert(1, 2)),
+                List.of(1));
+
+        mockMvc.perform(patch("/api/v1/carts/items")
+                        .param("userId", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andDo(print())
+                .andExpect(jsonPath("$.message").value("같은 상품이 요청에 중복되었습니다. productId: 1"));
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - DB에 같은 상품 행이 중복되어 있으면 한 행으로 합쳐 반영")
+    void patchItems_DuplicateCartLines_Merged() throws Exception {
+        // data-test.sql: 장바구니 1 (유저 2)에 상품 1이 이미 있음 -> 같은 상품 행을 하나 더 넣음
+        jdbcTemplate.update("INSERT INTO cart_item (cart_id, product_id, quantity) VALUES (1, 1, 4)");
+        PatchCartItemsRequest request = new PatchCartItemsRequest(
+                List.of(new PatchCartItemsRequest.Upsert(1, 3)),
+                List.of());
+
+        mockMvc.perform(patch("/api/v1/carts/items")
+                        .param("userId", "2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[?(@.productId == 1)].quantity").value(3));
+    }
 }
@@ -0,0 +1,228 @@
+package com.back.domain.cart.service;
+
+import com.back.domain.cart.dto.AddCartItemRequest;
+import com.back.domain.cart.dto.CartDto;
+import com.back.domain.cart.dto.CartItemDto;
+import com.back.domain.cart.dto.UpdateCartItemRequest;
+import com.back.domain.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 장바구니 (cart.redis.enabled=true). 로컬/CI의 Redis(6379)를 사용합니다.
+ * write-behind 반영을 검증해야 하므로 @Transactional을 붙이지 않고, 테스트 전후로 Redis 장바구니 키와 cart_item을 되돌립니다.
+ * 주기 플러시는 테스트가 직접 호출하도록 간격을 길게 둡니다.
+ */
+@SpringBootTest(properties = {
+        "cart.redis.enabled=true",
+        "cart.redis.flush-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class RedisCartServiceTest {
+
+    private static final int USER_ID = 2;  // data-test.sql: 유저1 (장바구니 1: 상품 1, 2 각 1개)
+    private static final int CART_ID = 1;
+    private static final String CART_KEY = "{cart:" + USER_ID + "}";
+    private static final String DIRTY_KEY = "cart:dirty";
+    private static final int TEMP_PRODUCT_ID = 1000;  // 삭제 테스트용으로 직접 넣는 상품
+
+    @Autowired
+    private RedisCartService redisCartService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Map<String, Object>> originalCartItems;
+
+    @BeforeEach
+    void setUp() {
+        clearRedisCarts();
+        originalCartItems = jdbcTemplate.queryForList("SELECT id, cart_id, product_id, quantity FROM cart_item ORDER BY id");
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearRedisCarts();
+        jdbcTemplate.update("DELETE FROM cart_item");
+        originalCartItems.forEach(row -> jdbcTemplate.update(
+                "INSERT INTO cart_item (id, cart_id, product_id, quantity) VALUES (?, ?, ?, ?)",
+                row.get("id"), row.get("cart_id"), row.get("product_id"), row.get("quantity")));
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", TEMP_PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("적재되지 않은 장바구니에 담으면 DB에서 적재한 뒤 다시 시도하고, 수정/삭제/비우기가 Redis에 반영된다")
+    void addUpdateDeleteClear_LoadsFromDbOnFirstAccess() {
+        assertThat(redisTemplate.hasKey(CART_KEY)).isFalse();
+
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(3, 2)); // 첫 호출은 NOT_LOADED -> 적재 후 재시도
+
+        CartDto cart = redisCartService.getCart(USER_ID);
+        assertThat(redisTemplate.hasKey(CART_KEY)).isTrue();
+        assertThat(cart.cartId()).isEqualTo(CART_ID);
+        assertThat(quantities(cart)).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 1, 3, 2));
+
+        redisCartService.updateItemQuantity(itemId(cart, 3), new UpdateCartItemRequest(5));
+        redisCartService.deleteItem(itemId(cart, 1));
+        assertThat(quantities(redisCartService.getCart(USER_ID))).containsExactlyInAnyOrderEntriesOf(Map.of(2, 1, 3, 5));
+
+        redisCartService.clearCart(USER_ID);
+        assertThat(redisCartService.getCart(USER_ID).items()).isEmpty();
+        assertThat(redisTemplate.opsForSet().isMember(DIRTY_KEY, String.valueOf(USER_ID))).isTrue();
+        // 플러시 전까지 DB는 그대로
+        assertThat(dbQuantities()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 1));
+    }
+
+    @Test
+    @DisplayName("DB 항목 id로 수정하면 항목 인덱스 대신 DB에서 소유자를 찾고, 장바구니를 적재한 뒤 다시 시도한다")
+    void updateItemQuantity_NotLoaded_UsesDbItemId() {
+        Integer dbItemId = jdbcTemplate.queryForObject(
+                "SELECT id FROM cart_item WHERE cart_id = ? AND product_id = 1", Integer.class, CART_ID);
+
+        redisCartService.updateItemQuantity(dbItemId, new UpdateCartItemRequest(3));
+
+        CartDto cart = redisCartService.getCart(USER_ID);
+        assertThat(itemId(cart, 1)).isEqualTo(dbItemId);
+        assertThat(quantities(cart)).containsEntry(1, 3);
+    }
+
+    @Test
+    @DisplayName("flushDirtyCarts - 변경된 장바구니를 cart_item에 반영하고 대기 집합과 반영된 항목의 소유자 키를 비운다")
+    void flushDirtyCarts_WritesCartItems() {
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(3, 2));
+        redisCartService.deleteItem(itemId(redisCartService.getCart(USER_ID), 2));
+        String itemKey = "cart:item:" + itemId(redisCartService.getCart(USER_ID), 3);
+        assertThat(redisTemplate.opsForValue().get(itemKey)).isEqualTo(USER_ID + ":3");
+
+        int flushed = redisCartService.flushDirtyCarts();
+
+        assertThat(flushed).isEqualTo(1);
+        assertThat(dbQuantities()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 3, 2));
+        assertThat(redisTemplate.opsForSet().size(DIRTY_KEY)).isZero();
+        assertThat(redisTemplate.hasKey(itemKey)).isFalse(); // 이후 항목 id 조회는 DB에서
+        assertThat(redisCartService.flushDirtyCarts()).isZero();
+    }
+
+    @Test
+    @DisplayName("cartItemId는 플러시 후 Redis에서 만료되어 다시 적재되어도 그대로 유지된다")
+    void cartItemId_StableAcrossFlushAndReload() {
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(3, 2));
+        Integer itemId = itemId(redisCartService.getCart(USER_ID), 3);
+
+        redisCartService.flushDirtyCarts();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT id FROM cart_item WHERE cart_id = ? AND product_id = 3", Integer.class, CART_ID))
+                .isEqualTo(itemId);
+
+        redisTemplate.delete(CART_KEY); // TTL 만료 / Redis 재시작 상황
+        CartDto reloaded = redisCartService.getCart(USER_ID);
+        assertThat(itemId(reloaded, 3)).isEqualTo(itemId);
+
+        redisCartService.updateItemQuantity(itemId, new UpdateCartItemRequest(4));
+        assertThat(quantities(redisCartService.getCart(USER_ID))).containsEntry(3, 4);
+    }
+
+    @Test
+    @DisplayName("flushDirtyCarts - 트랜잭션이 롤백되면 꺼낸 사용자를 대기 집합에 되돌린다")
+    void flushDirtyCarts_Rollback_RestoresDirtySet() {
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(3, 2));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            assertThat(redisCartService.flushDirtyCarts()).isEqualTo(1);
+            status.setRollbackOnly();
+        });
+
+        assertThat(redisTemplate.opsForSet().isMember(DIRTY_KEY, String.valueOf(USER_ID))).isTrue();
+        assertThat(dbQuantities()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 1));
+
+        redisCartService.flushDirtyCarts(); // 다음 주기에 다시 반영됨
+        assertThat(dbQuantities()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 1, 3, 2));
+    }
+
+    @Test
+    @DisplayName("flushDirtyCarts - 장바구니에 담긴 채 삭제된 상품의 항목은 건너뛰고 나머지를 반영한다")
+    void flushDirtyCarts_SkipsDeletedProduct() {
+        insertTempProduct();
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(TEMP_PRODUCT_ID, 1));
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(3, 2));
+        jdbcTemplate.update("DELETE FROM product WHERE id = ?", TEMP_PRODUCT_ID); // 장바구니 정리 전에 플러시가 도는 상황
+
+        assertThat(redisCartService.flushDirtyCarts()).isEqualTo(1);
+
+        assertThat(dbQuantities()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 1, 3, 2));
+        assertThat(redisTemplate.opsForSet().size(DIRTY_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("상품을 삭제하면 Redis 장바구니에서도 해당 상품이 지워진다")
+    void deleteProduct_RemovesProductFromRedisCarts() {
+        insertTempProduct();
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(TEMP_PRODUCT_ID, 1));
+
+        productService.deleteProduct(TEMP_PRODUCT_ID);
+
+        assertThat(redisTemplate.opsForHash().hasKey(CART_KEY, String.valueOf(TEMP_PRODUCT_ID))).isFalse();
+        assertThat(quantities(redisCartService.getCart(USER_ID))).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 1));
+        redisCartService.flushDirtyCarts();
+        assertThat(dbQuantities()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 1, 2, 1));
+    }
+
+    private void insertTempProduct() {
+        jdbcTemplate.update("INSERT INTO product (id, name, price, stock, category_id) VALUES (?, '삭제 테스트 상품', 10000, 10, 2)",
+                TEMP_PRODUCT_ID);
+    }
+
+    // 사용자 장바구니({cart:userId})와 공용 키(cart:item-seq, cart:dirty, cart:item:itemId)
+    private void clearRedisCarts() {
+        for (String pattern : List.of("{cart:*}", "cart:*")) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+    private Integer itemId(CartDto cart, int productId) {
+        return cart.items().stream()
+                .filter(item -> item.productId() == productId)
+                .map(CartItemDto::id)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Map<Integer, Integer> quantities(CartDto cart) {
+        return cart.items().stream().collect(Collectors.toMap(CartItemDto::productId, CartItemDto::quantity));
+    }
+
+    private Map<Integer, Integer> dbQuantities() {
+        return jdbcTemplate.queryForList("SELECT product_id, quantity FROM cart_item WHERE cart_id = ?", CART_ID).stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row.get("product_id")).intValue(),
+                        row -> ((Number) row.get("quantity")).intValue()));
+    }
+}
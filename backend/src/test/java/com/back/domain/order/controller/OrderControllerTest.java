@@ -1,5 +1,6 @@
 package com.back.domain.order.controller;
 
+import com.back.domain.order.dto.order.OrderFromCartRequestDTO;
 import com.back.domain.order.dto.order.OrderRequestDTO;
 import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -17,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -35,6 +39,9 @@ public class OrderControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private OrderRequestDTO testOrderRequestDTO;
     private OrderRequestDTO invalidOrderRequestDTO;
 
@@ -142,6 +149,70 @@ public class OrderControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("POST /api/v1/orders - 주문 생성 실패 (단가 불일치)")
+    @WithMockUser(roles = "USER")
+    void createOrder_Conflict_PriceMismatch() throws Exception {
+        // 상품 1번의 현재 단가는 18000원 (가격 버전 1)
+        OrderRequestDTO staleOrderRequest = new OrderRequestDTO(
+                2, 1, "서울시 강남구", List.of(new OrderItemRequestDTO(1, 1, 15000))
+        );
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(staleOrderRequest)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("PRICE_MISMATCH"))
+                .andExpect(jsonPath("$.productId").value(1))
+                .andExpect(jsonPath("$.currentPrice").value(18000))
+                .andExpect(jsonPath("$.currentPriceVersion").value(1));
+    }
+
+    // ========== 장바구니 주문 전환 API 테스트 (인증 필요) ==========
+
+    @Test
+    @DisplayName("POST /api/v1/orders/from-cart - 장바구니 주문 전환 성공 (서버 단가 사용, 재고 차감, 장바구니 비움)")
+    @WithMockUser(roles = "USER")
+    void createOrderFromCart_Success() throws Exception {
+        // 유저1 장바구니: 에티오피아 예가체프 1개(18000) + 콜롬비아 수프리모 1개(17000)
+        OrderFromCartRequestDTO request = new OrderFromCartRequestDTO(1, "서울시 강남구 테헤란로 123");
+
+        mockMvc.perform(post("/api/v1/orders/from-cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderId").exists())
+                .andExpect(jsonPath("$.totalPrice").value(35000))
+                .andExpect(jsonPath("$.items.length()").value(2));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = 1", Integer.class)).isEqualTo(49);
+        assertThat(jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = 2", Integer.class)).isEqualTo(59);
+
+        mockMvc.perform(get("/api/v1/carts").param("userId", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalQuantity").value(0))
+                .andExpect(jsonPath("$.items").isEmpty());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/orders/from-cart - 장바구니 주문 전환 실패 (빈 장바구니)")
+    @WithMockUser(roles = "USER")
+    void createOrderFromCart_BadRequest_EmptyCart() throws Exception {
+        mockMvc.perform(delete("/api/v1/carts").param("userId", "2"))
+                .andExpect(status().isOk());
+
+        OrderFromCartRequestDTO request = new OrderFromCartRequestDTO(1, "서울시 강남구");
+
+        mockMvc.perform(post("/api/v1/orders/from-cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("장바구니가 비어 있습니다."));
+    }
+
     // ========== 내 주문 목록 조회 API 테스트 (인증 필요) ==========
 
     @Test
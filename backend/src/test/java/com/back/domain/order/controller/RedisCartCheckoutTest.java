@@ -0,0 +1,175 @@
+package com.back.domain.order.controller;
+
+import com.back.domain.cart.dto.AddCartItemRequest;
+import com.back.domain.cart.dto.CartDto;
+import com.back.domain.cart.dto.CartItemDto;
+import com.back.domain.cart.dto.UpdateCartItemRequest;
+import com.back.domain.cart.service.RedisCartService;
+import com.back.domain.order.dto.order.OrderFromCartRequestDTO;
+import com.back.domain.order.service.DailySalesRollupService;
+import com.back.domain.order.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Redis 장바구니 모드(cart.redis.enabled=true)에서의 장바구니 주문 전환. 로컬/CI의 Redis(6379)를 사용합니다.
+ * 커밋 후 Redis 정리를 검증해야 하므로 @Transactional을 붙이지 않고, 테스트 후 직접 데이터를 되돌립니다.
+ */
+@SpringBootTest(properties = {
+        "cart.redis.enabled=true",
+        "cart.redis.flush-interval-ms=3600000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RedisCartCheckoutTest {
+
+    private static final int USER_ID = 2;  // data-test.sql: 유저1 (장바구니 1: 상품 1, 2 각 1개), 목 사용자의 id
+    private static final int CART_ID = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private RedisCartService redisCartService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    private List<Map<String, Object>> originalCartItems;
+    private List<Map<String, Object>> originalStocks;
+    private int lastOrderIdBeforeTest;
+
+    @BeforeEach
+    void setUp() {
+        clearRedisCarts();
+        originalCartItems = jdbcTemplate.queryForList("SELECT id, cart_id, product_id, quantity FROM cart_item ORDER BY id");
+        originalStocks = jdbcTemplate.queryForList("SELECT id, stock FROM product");
+        lastOrderIdBeforeTest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Integer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearRedisCarts();
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now());
+        originalStocks.forEach(row -> jdbcTemplate.update(
+                "UPDATE product SET stock = ? WHERE id = ?", row.get("stock"), row.get("id")));
+        jdbcTemplate.update("DELETE FROM cart_item");
+        originalCartItems.forEach(row -> jdbcTemplate.update(
+                "INSERT INTO cart_item (id, cart_id, product_id, quantity) VALUES (?, ?, ?, ?)",
+                row.get("id"), row.get("cart_id"), row.get("product_id"), row.get("quantity")));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/orders/from-cart - Redis 장바구니의 최신 항목으로 주문하고, 커밋 후 Redis 장바구니를 비운다")
+    @WithMockUser(roles = "USER")
+    void createOrderFromCart_RedisCart() throws Exception {
+        // Redis에만 있고 아직 DB에 반영되지 않은 항목
+        redisCartService.addItem(USER_ID, new AddCartItemRequest(3, 2));
+
+        mockMvc.perform(post("/api/v1/orders/from-cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderFromCartRequestDTO(1, "서울시 강남구"))))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.totalPrice").value(18000 + 17000 + 16000 * 2));
+
+        assertThat(redisCartService.getCart(USER_ID).items()).isEmpty();
+        redisCartService.flushDirtyCarts(); // 이후 플러시가 주문된 항목을 되살리지 않아야 함
+        assertThat(dbQuantities()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("장바구니 주문 전환 중 새로 담거나 수량을 바꾼 항목은 커밋 후에도 Redis 장바구니에 남는다")
+    void createOrderFromCart_KeepsLinesChangedDuringCheckout() {
+        CartDto before = redisCartService.getCart(USER_ID); // 상품 1, 2 각 1개 적재
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderService.createOrderFromCart(USER_ID, new OrderFromCartRequestDTO(1, "서울시 강남구"));
+            // 스냅샷 이후, 커밋 전에 다른 요청이 장바구니를 바꾼 상황
+            redisCartService.addItem(USER_ID, new AddCartItemRequest(4, 1));
+            redisCartService.updateItemQuantity(itemId(before, 1), new UpdateCartItemRequest(2));
+        });
+
+        Integer orderedQuantity = jdbcTemplate.queryForObject(
+                "SELECT SUM(quantity) FROM order_item WHERE order_id > ?", Integer.class, lastOrderIdBeforeTest);
+        assertThat(orderedQuantity).isEqualTo(2); // 스냅샷의 상품 1, 2 각 1개
+        assertThat(quantities(redisCartService.getCart(USER_ID))).containsExactlyInAnyOrderEntriesOf(Map.of(1, 2, 4, 1));
+
+        redisCartService.flushDirtyCarts();
+        assertThat(dbQuantities()).containsExactlyInAnyOrderEntriesOf(Map.of(1, 2, 4, 1));
+    }
+
+    // 사용자 장바구니({cart:userId})와 공용 키(cart:item-seq, cart:dirty, cart:item:itemId)
+    private void clearRedisCarts() {
+        for (String pattern : List.of("{cart:*}", "cart:*")) {
+            Set<String> keys = redisTemplate.keys(pattern);
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+    }
+
+    private Integer itemId(CartDto cart, int productId) {
+        return cart.items().stream()
+                .filter(item -> item.productId() == productId)
+                .map(CartItemDto::id)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Map<Integer, Integer> quantities(CartDto cart) {
+        return cart.items().stream().collect(Collectors.toMap(CartItemDto::productId, CartItemDto::quantity));
+    }
+
+    private Map<Integer, Integer> dbQuantities() {
+        return jdbcTemplate.queryForList("SELECT product_id, quantity FROM cart_item WHERE cart_id = ?", CART_ID).stream()
+                .collect(Collectors.toMap(
+                        row -> ((Number) row.get("product_id")).intValue(),
+                        row -> ((Number) row.get("quantity")).intValue()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.back.domain.order.service;
+
+import com.back.domain.order.dto.order.OrderListDTO;
+import com.back.domain.order.entity.OrderStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주문 목록 조회가 주문 수/주문자 수와 관계없이 일정한 쿼리 수로 처리되는지 검증 (N+1 방지)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OrderListQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // data-test.sql 주문 3건(주문자 2명)에 주문자가 모두 다른 주문을 추가
+        for (int userId = 1; userId <= 5; userId++) {
+            jdbcTemplate.update(
+                    "INSERT INTO orders (user_id, total_price, shipping_address, status) VALUES (?, ?, ?, ?)",
+                    userId, 10000, "서울시", "배송준비중");
+        }
+        entityManager.clear(); // 영속성 컨텍스트에 남은 사용자 엔티티로 쿼리 수가 줄어들지 않도록 비움
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("전체 주문 목록 - 주문자 이름까지 쿼리 1회로 조회")
+    void getAllOrders_SingleStatement() {
+        List<OrderListDTO> orders = orderService.getAllOrders();
+
+        assertThat(orders).hasSize(8);
+        assertThat(orders).allSatisfy(order -> assertThat(order.username()).isNotBlank());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태별 주문 목록 - 쿼리 1회로 조회")
+    void getAllOrdersByStatus_SingleStatement() {
+        List<OrderListDTO> orders = orderService.getAllOrdersByStatus(OrderStatus.배송준비중);
+
+        assertThat(orders).hasSize(7);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 목록 페이지 조회 - 목록 쿼리 1회 + count 쿼리 1회")
+    void getAllOrdersWithPagination_ConstantStatements() {
+        Page<OrderListDTO> page = orderService.getAllOrdersWithPagination(PageRequest.of(0, 5), null);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(8);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내 주문 목록 - 사용자 확인 1회 + 목록 쿼리 1회")
+    void getMyOrders_ConstantStatements() {
+        List<OrderListDTO> orders = orderService.getMyOrders(2); // 유저1: 기존 2건 + 추가 1건
+
+        assertThat(orders).hasSize(3);
+        assertThat(orders).allSatisfy(order -> assertThat(order.username()).isEqualTo("유저1"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,111 @@
+package com.back.domain.order.service;
+
+import com.back.domain.order.dto.order.OrderRequestDTO;
+import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
+import com.back.domain.order.exception.InsufficientStockException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 커밋이 일어나야 하므로 @Transactional을 붙이지 않고, 테스트 후 직접 데이터를 되돌립니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderServiceConcurrencyTest {
+
+    private static final int PRODUCT_ID = 5;     // data-test.sql: 과테말라 안티구아 (재고 30, 21000원)
+    private static final int UNIT_PRICE = 21000;
+    private static final int CHECKOUT_COUNT = 200;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    private int initialStock;
+    private int lastOrderIdBeforeTest;
+
+    @BeforeEach
+    void setUp() {
+        initialStock = currentStock();
+        lastOrderIdBeforeTest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Integer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM outbox_event"); // 테스트 주문이 남긴 아웃박스 이벤트
+        dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now()); // 테스트 주문이 반영된 일별 집계 복구
+        jdbcTemplate.update("UPDATE product SET stock = ? WHERE id = ?", initialStock, PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("동일 상품 200건 동시 주문 - 재고를 초과해 판매되지 않는다")
+    void createOrder_ConcurrentCheckouts_NoOversell() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(CHECKOUT_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger insufficientStockCount = new AtomicInteger();
+
+        for (int i = 0; i < CHECKOUT_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderService.createOrder(new OrderRequestDTO(
+                            2, 1, "서울시 강남구",
+                            List.of(new OrderItemRequestDTO(PRODUCT_ID, 1, UNIT_PRICE))
+                    ));
+                    successCount.incrementAndGet();
+                } catch (InsufficientStockException e) {
+                    insufficientStockCount.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 잠금 대기 시간 초과 등은 판매 실패로만 집계됩니다.
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertThat(doneLatch.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        int finalStock = currentStock();
+        Integer soldQuantity = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM order_item WHERE product_id = ? AND order_id > ?",
+                Integer.class, PRODUCT_ID, lastOrderIdBeforeTest);
+        // 아웃박스 이벤트는 커밋된 주문에 대해서만 남음 (주문과 같은 트랜잭션)
+        Integer createdEvents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_event WHERE event_type = 'OrderCreated'", Integer.class);
+
+        assertThat(finalStock).isZero();
+        assertThat(successCount.get()).isEqualTo(initialStock);
+        assertThat(soldQuantity).isEqualTo(initialStock);
+        assertThat(createdEvents).isEqualTo(successCount.get());
+        assertThat(insufficientStockCount.get()).isLessThanOrEqualTo(CHECKOUT_COUNT - initialStock);
+    }
+
+    private int currentStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, PRODUCT_ID);
+    }
+}
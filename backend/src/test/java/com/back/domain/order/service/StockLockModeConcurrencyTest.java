@@ -0,0 +1,117 @@
+package com.back.domain.order.service;
+
+import com.back.domain.order.dto.order.OrderRequestDTO;
+import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
+import com.back.domain.product.service.InventoryService;
+import com.back.domain.product.service.InventoryService.LockMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 낙관적 락 모드(버전 + 재시도)로 동시 주문해도 재고 차감분이 유실되거나 초과 판매되지 않는지 확인합니다.
+// 잠금 방식별 처리량 비교는 src/jmh의 StockLockModeBenchmark에서 합니다.
+// 실제 커밋이 일어나야 하므로 @Transactional을 붙이지 않고, 테스트 후 직접 데이터를 되돌립니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class StockLockModeConcurrencyTest {
+
+    private static final int PRODUCT_ID = 5;     // data-test.sql: 과테말라 안티구아 (재고 30, 21000원)
+    private static final int UNIT_PRICE = 21000;
+    private static final int CHECKOUT_COUNT = 60;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    private LockMode originalLockMode;
+    private int initialStock;
+    private int lastOrderIdBeforeTest;
+
+    @BeforeEach
+    void setUp() {
+        originalLockMode = inventoryService.getLockMode();
+        initialStock = currentStock();
+        lastOrderIdBeforeTest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Integer.class);
+        ReflectionTestUtils.setField(inventoryService, "lockMode", LockMode.OPTIMISTIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(inventoryService, "lockMode", originalLockMode);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now());
+        jdbcTemplate.update("UPDATE product SET stock = ? WHERE id = ?", initialStock, PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 모드 동시 주문 - 성공한 주문 수만큼만 재고가 차감되고 초과 판매되지 않는다")
+    void createOrder_Optimistic_NoLostDecrementOrOversell() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(CHECKOUT_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < CHECKOUT_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderService.createOrder(new OrderRequestDTO(
+                            2, 1, "서울시 강남구",
+                            List.of(new OrderItemRequestDTO(PRODUCT_ID, 1, UNIT_PRICE))
+                    ));
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 재고 부족, 재시도 한도 초과는 판매 실패로만 집계됩니다.
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertThat(doneLatch.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        Integer soldQuantity = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM order_item WHERE product_id = ? AND order_id > ?",
+                Integer.class, PRODUCT_ID, lastOrderIdBeforeTest);
+        // 재시도로 롤백된 시도는 아웃박스 이벤트를 남기지 않아야 함
+        Integer createdEvents = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM outbox_event WHERE event_type = 'OrderCreated'", Integer.class);
+
+        assertThat(successCount.get()).isLessThanOrEqualTo(initialStock);
+        assertThat(currentStock()).isEqualTo(initialStock - successCount.get());
+        assertThat(soldQuantity).isEqualTo(successCount.get());
+        assertThat(createdEvents).isEqualTo(successCount.get());
+    }
+
+    private int currentStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, PRODUCT_ID);
+    }
+}
@@ -152,4 +152,83 @@ public class ProductControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("GET /api/v1/products/cursor - 가격순 커서 페이징으로 전체 상품 순회")
+    void getProductsByCursor_PriceAsc_TraverseAllPages() throws Exception {
+        // data-test.sql 가격: 3(16000) < 2(17000) < 1(18000) < 4(19000) < 5(21000)
+        String firstPage = mockMvc.perform(get("/api/v1/products/cursor")
+                        .param("sort", "PRICE_ASC")
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(3))
+                .andExpect(jsonPath("$.content[0].categoryName").value("커피빈"))
+                .andExpect(jsonPath("$.content[0].categoryPath").value("식품 > 커피빈"))
+                .andExpect(jsonPath("$.content[1].id").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String secondPage = mockMvc.perform(get("/api/v1/products/cursor")
+                        .param("sort", "PRICE_ASC")
+                        .param("size", "2")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(4))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(get("/api/v1/products/cursor")
+                        .param("sort", "PRICE_ASC")
+                        .param("size", "2")
+                        .param("cursor", objectMapper.readTree(secondPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(5))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").isEmpty());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/search/cursor - 최신순 커서 검색 (등록 시각이 같으면 id 역순)")
+    void searchProductsByCursor_Latest_Success() throws Exception {
+        String firstPage = mockMvc.perform(get("/api/v1/products/search/cursor")
+                        .param("categoryId", "2")
+                        .param("minStock", "40")
+                        .param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(4))
+                .andExpect(jsonPath("$.content[1].id").value(3))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(get("/api/v1/products/search/cursor")
+                        .param("categoryId", "2")
+                        .param("minStock", "40")
+                        .param("size", "2")
+                        .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(2))
+                .andExpect(jsonPath("$.content[1].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/cursor - 유효하지 않은 커서는 400")
+    void getProductsByCursor_InvalidCursor_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/products/cursor")
+                        .param("cursor", "not-a-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -155,4 +155,48 @@ public class ProductSearchTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("GET /api/v1/products/search - 하위 카테고리 + 가격 범위 + 최소 재고 복합 검색")
+    void searchProductsWithParams_SubCategoriesPriceAndStock_Success() throws Exception {
+        // 식품(1) > 커피빈(2) 상품 중 17000~19000원, 재고 50개 이상: 에티오피아(50), 콜롬비아(60)
+        mockMvc.perform(get("/api/v1/products/search")
+                        .param("categoryId", "1")
+                        .param("includeSubCategories", "true")
+                        .param("minPrice", "17000")
+                        .param("maxPrice", "19000")
+                        .param("minStock", "50"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/search - 하위 카테고리 미포함 시 상위 카테고리 상품만 조회")
+    void searchProductsWithParams_ParentCategoryOnly_Empty() throws Exception {
+        mockMvc.perform(get("/api/v1/products/search")
+                        .param("categoryId", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/products/search/page - 페이징 + 정렬 검색")
+    void searchProductsWithPaging_Success() throws Exception {
+        mockMvc.perform(get("/api/v1/products/search/page")
+                        .param("categoryId", "2")
+                        .param("page", "0")
+                        .param("size", "2")
+                        .param("sort", "price,desc"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(5))
+                .andExpect(jsonPath("$.content[1].id").value(4))
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.totalPages").value(3));
+    }
+
+}
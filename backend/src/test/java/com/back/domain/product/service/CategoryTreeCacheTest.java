@@ -0,0 +1,66 @@
+package com.back.domain.product.service;
+
+import com.back.domain.product.dto.category.CategoryRequestDto;
+import com.back.domain.product.dto.category.CategoryResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커밋 이후 재발행을 검증해야 하므로 @Transactional을 붙이지 않고, 생성한 카테고리는 테스트 후 삭제합니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class CategoryTreeCacheTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private Integer createdCategoryId;
+
+    @AfterEach
+    void tearDown() {
+        if (createdCategoryId != null && categoryService.getAllCategories().stream()
+                .anyMatch(category -> category.id().equals(createdCategoryId))) {
+            categoryService.deleteCategory(createdCategoryId);
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리 트리 - data-test.sql 기준 루트와 하위 카테고리 조립")
+    void getRootCategories_AssemblesTree() {
+        List<CategoryResponseDto> roots = categoryService.getRootCategories();
+
+        // 식품(1) > 커피빈(2), 차(5) / 음료(3) > 주스(4)
+        assertThat(roots).extracting(CategoryResponseDto::id).containsExactly(1, 3);
+        assertThat(roots.get(0).children()).extracting(CategoryResponseDto::id).containsExactly(2, 5);
+        assertThat(roots.get(1).children()).extracting(CategoryResponseDto::id).containsExactly(4);
+        assertThat(categoryService.getAllCategories()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("카테고리 추가/삭제 커밋 후 트리가 다시 발행됨")
+    void createAndDeleteCategory_RepublishesTree() {
+        createdCategoryId = categoryService.createCategory(new CategoryRequestDto("캐시 테스트 카테고리", 3)).id();
+
+        CategoryResponseDto beverage = findRoot(3);
+        assertThat(beverage.children()).extracting(CategoryResponseDto::id).contains(createdCategoryId);
+
+        categoryService.deleteCategory(createdCategoryId);
+
+        assertThat(findRoot(3).children()).extracting(CategoryResponseDto::id).doesNotContain(createdCategoryId);
+        assertThat(categoryService.getAllCategories()).extracting(CategoryResponseDto::id).doesNotContain(createdCategoryId);
+    }
+
+    private CategoryResponseDto findRoot(Integer id) {
+        return categoryService.getRootCategories().stream()
+                .filter(category -> category.id().equals(id))
+                .findFirst()
+                .orElseThrow();
+    }
+}
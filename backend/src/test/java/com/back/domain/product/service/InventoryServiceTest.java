@@ -0,0 +1,186 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.order.OrderRequestDTO;
+import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
+import com.back.domain.order.service.DailySalesRollupService;
+import com.back.domain.order.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 재고 카운터 모드 (inventory.redis.enabled=true). 로컬/CI의 Redis(6379)를 사용합니다.
+ * 커밋/롤백 이후 카운터와 write-behind 반영을 검증해야 하므로 @Transactional을 붙이지 않고, 테스트 후 직접 데이터를 되돌립니다.
+ * 주기 플러시/정합성 검사는 테스트가 직접 호출하도록 간격을 길게 둡니다.
+ */
+@SpringBootTest(properties = {
+        "inventory.redis.enabled=true",
+        "inventory.redis.flush-interval-ms=3600000",
+        "inventory.redis.reconcile-interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class InventoryServiceTest {
+
+    private static final int PRODUCT_ID = 5;     // data-test.sql: 과테말라 안티구아 (재고 30, 21000원)
+    private static final int UNIT_PRICE = 21000;
+    private static final String STOCK_KEY = "{inventory}:stock:" + PRODUCT_ID;
+    private static final String PENDING_KEY = "{inventory}:pending";
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    private int initialStock;
+    private int lastOrderIdBeforeTest;
+
+    @BeforeEach
+    void setUp() {
+        clearCounters();
+        initialStock = dbStock();
+        lastOrderIdBeforeTest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Integer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearCounters();
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now());
+        jdbcTemplate.update("UPDATE product SET stock = ? WHERE id = ?", initialStock, PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("동일 상품 동시 주문 - 카운터 기준으로 재고를 초과해 판매되지 않는다")
+    void reserve_ConcurrentOrders_NoOversell() throws Exception {
+        int checkoutCount = initialStock * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(checkoutCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        for (int i = 0; i < checkoutCount; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    placeOrder(1);
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 재고 부족은 판매 실패로만 집계됩니다.
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertThat(doneLatch.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(initialStock);
+        assertThat(counter()).isZero();
+        assertThat(pending()).isEqualTo(initialStock);
+        assertThat(dbStock()).isEqualTo(initialStock); // DB 반영은 플러시 전까지 지연
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 롤백되면 예약한 수량이 카운터에 복구되고 대기열에 쌓이지 않는다")
+    void reserve_Rollback_RestoresCounter() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            placeOrder(3);
+            assertThat(counter()).isEqualTo(initialStock - 3);
+            status.setRollbackOnly();
+        });
+
+        assertThat(counter()).isEqualTo(initialStock);
+        assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("flushPendingStock - 커밋된 차감분을 product.stock에 반영하고 대기열을 비운다")
+    void flushPendingStock_AppliesDeltas() {
+        placeOrder(2);
+        placeOrder(3);
+        assertThat(pending()).isEqualTo(5);
+
+        assertThat(inventoryService.flushPendingStock()).isEqualTo(1);
+
+        assertThat(dbStock()).isEqualTo(initialStock - 5);
+        assertThat(pending()).isZero();
+        assertThat(counter()).isEqualTo(initialStock - 5);
+        assertThat(inventoryService.flushPendingStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("reconcileCounters - 같은 값에서 두 번 연속 어긋난 카운터를 DB 재고 - 미반영 차감분으로 보정한다")
+    void reconcileCounters_FixesDriftedCounter() {
+        placeOrder(2); // 미반영 차감분 2
+        redisTemplate.opsForValue().set(STOCK_KEY, "999"); // 카운터 유실/오염 상황
+
+        assertThat(inventoryService.reconcileCounters()).isZero(); // 첫 관측은 진행 중인 예약일 수 있어 보류
+        assertThat(inventoryService.reconcileCounters()).isEqualTo(1);
+
+        assertThat(counter()).isEqualTo(initialStock - 2);
+        assertThat(inventoryService.reconcileCounters()).isZero();
+    }
+
+    private void placeOrder(int quantity) {
+        orderService.createOrder(new OrderRequestDTO(
+                2, 1, "서울시 강남구",
+                List.of(new OrderItemRequestDTO(PRODUCT_ID, quantity, UNIT_PRICE))
+        ));
+    }
+
+    private void clearCounters() {
+        Set<String> keys = redisTemplate.keys("{inventory}:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private long counter() {
+        return Long.parseLong(redisTemplate.opsForValue().get(STOCK_KEY));
+    }
+
+    private long pending() {
+        Object value = redisTemplate.opsForHash().get(PENDING_KEY, String.valueOf(PRODUCT_ID));
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private int dbStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, PRODUCT_ID);
+    }
+}
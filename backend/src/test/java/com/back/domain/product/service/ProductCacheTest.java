@@ -0,0 +1,100 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.order.OrderRequestDTO;
+import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
+import com.back.domain.order.service.DailySalesRollupService;
+import com.back.domain.order.service.OrderService;
+import com.back.domain.product.dto.product.ProductRequestDto;
+import com.back.domain.product.dto.product.ProductResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 커밋 이후 무효화를 검증해야 하므로 @Transactional을 붙이지 않고, 테스트 후 직접 데이터를 되돌립니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductCacheTest {
+
+    private static final int PRODUCT_ID = 1; // data-test.sql: 에티오피아 예가체프 (18000원, 재고 50)
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    private ProductResponseDto original;
+    private int lastOrderIdBeforeTest;
+
+    @BeforeEach
+    void setUp() {
+        productCache.evict(PRODUCT_ID);
+        original = productService.getProductById(PRODUCT_ID);
+        lastOrderIdBeforeTest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Integer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM outbox_event"); // 테스트 주문이 남긴 아웃박스 이벤트
+        dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now()); // 테스트 주문이 반영된 일별 집계 복구
+        jdbcTemplate.update("UPDATE product SET name = ?, stock = ? WHERE id = ?",
+                original.name(), original.stock(), PRODUCT_ID);
+        productCache.evict(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회 - 두 번째 조회부터 캐시에서 반환")
+    void getProductById_CachedAfterFirstLoad() {
+        ProductResponseDto cached = productService.getProductById(PRODUCT_ID);
+
+        assertThat(cached).isSameAs(original);
+    }
+
+    @Test
+    @DisplayName("상품 수정 커밋 후 캐시가 무효화되어 변경된 값이 조회됨")
+    void updateProduct_EvictsCacheAfterCommit() {
+        productService.updateProduct(PRODUCT_ID, new ProductRequestDto(
+                "캐시 무효화 테스트 상품", original.imageUrl(), original.price(), original.stock(),
+                original.description(), original.category().id()
+        ));
+
+        ProductResponseDto reloaded = productService.getProductById(PRODUCT_ID);
+
+        assertThat(reloaded).isNotSameAs(original);
+        assertThat(reloaded.name()).isEqualTo("캐시 무효화 테스트 상품");
+    }
+
+    @Test
+    @DisplayName("주문으로 재고가 차감되면 커밋 후 캐시가 무효화됨")
+    void createOrder_EvictsCacheAfterCommit() {
+        orderService.createOrder(new OrderRequestDTO(
+                2, 1, "서울시 강남구",
+                List.of(new OrderItemRequestDTO(PRODUCT_ID, 3, original.price()))
+        ));
+
+        ProductResponseDto reloaded = productService.getProductById(PRODUCT_ID);
+
+        assertThat(reloaded.stock()).isEqualTo(original.stock() - 3);
+    }
+}
@@ -0,0 +1,68 @@
+package com.back.domain.product.service;
+
+import com.back.domain.product.dto.product.CursorPageResponseDto;
+import com.back.domain.product.dto.product.ProductResponseDto;
+import com.back.domain.product.dto.product.ProductSearchDto;
+import com.back.domain.product.dto.product.ProductSortType;
+import com.back.domain.product.dto.product.ProductSummaryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기존 목록 경로(ProductResponseDto, 카테고리 하위 트리 포함)와 요약 프로젝션 경로의 쿼리 수/응답 크기 비교
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductListProjectionBenchmarkTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        categoryService.getRootCategories(); // 카테고리 트리 캐시 적재 (비교 대상에서 제외)
+    }
+
+    @Test
+    @DisplayName("상품 목록 - 요약 프로젝션은 쿼리 1회로 조회되고 응답이 더 작다")
+    void summaryProjection_UsesSingleQueryAndSmallerPayload() throws Exception {
+        statistics.clear();
+        List<ProductResponseDto> fullList = productService.getAllProducts();
+        long fullQueryCount = statistics.getPrepareStatementCount();
+        int fullPayloadBytes = objectMapper.writeValueAsBytes(fullList).length;
+
+        statistics.clear();
+        CursorPageResponseDto<ProductSummaryDto> summaryPage = productService.getProductsByCursor(
+                new ProductSearchDto(null, null, null, null, null, true, false),
+                ProductSortType.LATEST, null, 100);
+        long summaryQueryCount = statistics.getPrepareStatementCount();
+        int summaryPayloadBytes = objectMapper.writeValueAsBytes(summaryPage.content()).length;
+
+        assertThat(summaryPage.content()).hasSize(fullList.size());
+        assertThat(summaryQueryCount).isEqualTo(1);
+        assertThat(fullQueryCount).isGreaterThan(summaryQueryCount);
+        assertThat(summaryPayloadBytes).isLessThan(fullPayloadBytes);
+    }
+}
@@ -0,0 +1,123 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.order.OrderDetailDTO;
+import com.back.domain.order.dto.order.OrderRequestDTO;
+import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
+import com.back.domain.order.exception.PriceMismatchException;
+import com.back.domain.order.service.DailySalesRollupService;
+import com.back.domain.order.service.OrderService;
+import com.back.domain.product.dto.product.ProductPriceDto;
+import com.back.domain.product.dto.product.ProductRequestDto;
+import com.back.domain.product.dto.product.ProductResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 커밋 이후 갱신을 검증해야 하므로 @Transactional을 붙이지 않고, 테스트 후 직접 데이터를 되돌립니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductPriceCacheTest {
+
+    private static final int PRODUCT_ID = 1; // data-test.sql: 에티오피아 예가체프 (18000원, 재고 50)
+    private static final int NEW_PRICE = 20000;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductPriceCache productPriceCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    private ProductResponseDto original;
+    private int lastOrderIdBeforeTest;
+
+    @BeforeEach
+    void setUp() {
+        productCache.evict(PRODUCT_ID);
+        productPriceCache.evict(PRODUCT_ID);
+        original = productService.getProductById(PRODUCT_ID);
+        lastOrderIdBeforeTest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Integer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now());
+        jdbcTemplate.update("UPDATE product SET price = ?, price_version = ?, stock = ? WHERE id = ?",
+                original.price(), original.priceVersion(), original.stock(), PRODUCT_ID);
+        productCache.evict(PRODUCT_ID);
+        productPriceCache.evict(PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("가격 변경 커밋 후 가격 캐시의 해당 상품이 새 가격/버전으로 갱신됨")
+    void updateProduct_AppliesNewPriceAfterCommit() {
+        assertThat(productPriceCache.getAll(List.of(PRODUCT_ID)).get(PRODUCT_ID).priceVersion())
+                .isEqualTo(original.priceVersion());
+
+        changePrice(NEW_PRICE);
+
+        ProductPriceDto current = productPriceCache.getAll(List.of(PRODUCT_ID)).get(PRODUCT_ID);
+        assertThat(current.price()).isEqualTo(NEW_PRICE);
+        assertThat(current.priceVersion()).isEqualTo(original.priceVersion() + 1);
+    }
+
+    @Test
+    @DisplayName("가격이 같으면 가격 버전이 바뀌지 않음")
+    void updateProduct_SamePrice_KeepsVersion() {
+        changePrice(original.price());
+
+        assertThat(productService.getProductById(PRODUCT_ID).priceVersion()).isEqualTo(original.priceVersion());
+    }
+
+    @Test
+    @DisplayName("이전 단가로 주문하면 현재 가격 버전과 함께 거절되고, 현재 단가로는 주문됨")
+    void createOrder_StalePrice_Rejected() {
+        changePrice(NEW_PRICE);
+        int currentVersion = original.priceVersion() + 1;
+
+        assertThatThrownBy(() -> orderService.createOrder(orderRequest(original.price(), original.priceVersion())))
+                .isInstanceOf(PriceMismatchException.class)
+                .hasMessageContaining("버전 " + currentVersion)
+                .extracting("currentPriceVersion").isEqualTo(currentVersion);
+
+        OrderDetailDTO order = orderService.createOrder(orderRequest(NEW_PRICE, currentVersion));
+        assertThat(order.totalPrice()).isEqualTo(NEW_PRICE * 2);
+    }
+
+    private void changePrice(int price) {
+        productService.updateProduct(PRODUCT_ID, new ProductRequestDto(
+                original.name(), original.imageUrl(), price, original.stock(),
+                original.description(), original.category().id()
+        ));
+    }
+
+    private OrderRequestDTO orderRequest(int unitPrice, int priceVersion) {
+        return new OrderRequestDTO(2, 1, "서울시 강남구",
+                List.of(new OrderItemRequestDTO(PRODUCT_ID, 2, unitPrice, priceVersion)));
+    }
+}
@@ -0,0 +1,170 @@
+package com.back.domain.product.service;
+
+import com.back.domain.order.dto.order.OrderRequestDTO;
+import com.back.domain.order.dto.orderitem.OrderItemRequestDTO;
+import com.back.domain.order.service.DailySalesRollupService;
+import com.back.domain.order.service.OrderService;
+import com.back.domain.product.dto.product.ProductRequestDto;
+import com.back.domain.product.exception.ProductVersionMismatchException;
+import com.back.domain.product.service.InventoryService.LockMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 관리자 상품 수정과 주문 재고 차감이 겹쳐도 차감분이 유실되지 않는지 확인합니다.
+// 실제 커밋이 일어나야 하므로 @Transactional을 붙이지 않고, 테스트 후 직접 데이터를 되돌립니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductUpdateConcurrencyTest {
+
+    private static final int PRODUCT_ID = 5;     // data-test.sql: 과테말라 안티구아 (재고 30, 21000원)
+    private static final int UNIT_PRICE = 21000;
+    private static final int ORDER_COUNT = 20;
+    private static final int RESTOCK = 100;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailySalesRollupService dailySalesRollupService;
+
+    private LockMode originalLockMode;
+    private int initialStock;
+    private int lastOrderIdBeforeTest;
+
+    @BeforeEach
+    void setUp() {
+        originalLockMode = inventoryService.getLockMode();
+        initialStock = currentStock();
+        lastOrderIdBeforeTest = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM orders", Integer.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(inventoryService, "lockMode", originalLockMode);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM orders WHERE id > ?", lastOrderIdBeforeTest);
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        dailySalesRollupService.rebuild(LocalDate.now(), LocalDate.now());
+        jdbcTemplate.update("UPDATE product SET stock = ? WHERE id = ?", initialStock, PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("상품 수정 - 조회 이후 주문으로 버전이 바뀌었으면 409로 거절하고 차감분을 덮어쓰지 않는다")
+    void updateProduct_StaleVersion_Rejected() {
+        long readVersion = currentVersion();
+        placeOrder();
+
+        assertThatThrownBy(() -> productService.updateProduct(PRODUCT_ID, restockRequest(readVersion)))
+                .isInstanceOf(ProductVersionMismatchException.class);
+        assertThat(currentStock()).isEqualTo(initialStock - 1);
+    }
+
+    @Test
+    @DisplayName("상품 수정과 주문 동시 실행 (비관적 락) - 주문 차감분이 유실되지 않는다")
+    void updateProduct_ConcurrentOrders_Pessimistic() throws Exception {
+        ReflectionTestUtils.setField(inventoryService, "lockMode", LockMode.PESSIMISTIC);
+        assertNoLostDecrement();
+    }
+
+    @Test
+    @DisplayName("상품 수정과 주문 동시 실행 (낙관적 락) - 주문 차감분이 유실되지 않는다")
+    void updateProduct_ConcurrentOrders_Optimistic() throws Exception {
+        ReflectionTestUtils.setField(inventoryService, "lockMode", LockMode.OPTIMISTIC);
+        assertNoLostDecrement();
+    }
+
+    private void assertNoLostDecrement() throws Exception {
+        long readVersion = currentVersion(); // 관리자가 수정 화면에서 본 버전
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(ORDER_COUNT + 1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicBoolean updated = new AtomicBoolean();
+
+        executor.submit(() -> {
+            try {
+                startLatch.await();
+                productService.updateProduct(PRODUCT_ID, restockRequest(readVersion));
+                updated.set(true);
+            } catch (Exception ignored) {
+                // 주문이 먼저 커밋되면 버전 불일치로 거절됨
+            } finally {
+                doneLatch.countDown();
+            }
+        });
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    placeOrder();
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                    // 재시도 한도 초과 등은 판매 실패로만 집계됩니다.
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertThat(doneLatch.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // 수정이 성공했다면 그 이전에 커밋된 주문이 없었다는 뜻이므로, 모든 주문은 수정된 재고에서 차감되어야 함
+        int expectedBase = updated.get() ? initialStock + RESTOCK : initialStock;
+        Integer soldQuantity = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM order_item WHERE product_id = ? AND order_id > ?",
+                Integer.class, PRODUCT_ID, lastOrderIdBeforeTest);
+        assertThat(soldQuantity).isEqualTo(successCount.get());
+        assertThat(currentStock()).isEqualTo(expectedBase - successCount.get());
+    }
+
+    private void placeOrder() {
+        orderService.createOrder(new OrderRequestDTO(
+                2, 1, "서울시 강남구",
+                List.of(new OrderItemRequestDTO(PRODUCT_ID, 1, UNIT_PRICE))
+        ));
+    }
+
+    private ProductRequestDto restockRequest(long version) {
+        return new ProductRequestDto(
+                "과테말라 안티구아", "https://dummyimg.com/guatemala.jpg", UNIT_PRICE, initialStock + RESTOCK,
+                "스모키하고 풍부한 맛의 과테말라 안티구아 원두", 2, version);
+    }
+
+    private int currentStock() {
+        return jdbcTemplate.queryForObject("SELECT stock FROM product WHERE id = ?", Integer.class, PRODUCT_ID);
+    }
+
+    private long currentVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM product WHERE id = ?", Long.class, PRODUCT_ID);
+    }
+}
@@ -0,0 +1,104 @@
+package com.back.global.metrics;
+
+import com.back.global.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class QueryMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("요청 완료 시 핸들러별 SQL 문 수가 기록된다")
+    @WithMockUser(roles = "ADMIN")
+    void recordsStatementCountPerHandler() throws Exception {
+        String handler = "AdminOrderController.getAllOrders";
+        long countBefore = count("request.sql.statements", handler);
+
+        mockMvc.perform(get("/api/v1/admin/orders"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = summary("request.sql.statements", handler);
+        assertThat(statements.count()).isEqualTo(countBefore + 1);
+        assertThat(statements.max()).isBetween(1.0, 2.0); // 목록 1회 (+ count 1회)
+        assertThat(meterRegistry.find("request.sql.time").tag("handler", handler).timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("엔티티를 로드하는 요청은 엔티티 로드 수가 기록된다")
+    @WithMockUser(roles = "ADMIN")
+    void recordsEntityLoads() throws Exception {
+        String handler = "AdminOrderController.getOrderDetail";
+        double loadsBefore = total("request.entity.loads", handler);
+
+        mockMvc.perform(get("/api/v1/admin/orders/{orderId}", 1))
+                .andExpect(status().isOk());
+
+        assertThat(total("request.entity.loads", handler)).isGreaterThan(loadsBefore);
+    }
+
+    @Test
+    @DisplayName("actuator metrics 엔드포인트로 조회할 수 있다")
+    @WithMockUser(roles = "ADMIN")
+    void exposesMetricsOnActuator() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/orders"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/request.sql.statements")
+                        .param("tag", "handler:AdminOrderController.getAllOrders"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("request.sql.statements"));
+    }
+
+    @Test
+    @DisplayName("SQL 문 예산을 초과하면 다음 문을 실행하기 전에 실패한다")
+    void failsWhenBudgetExceeded() {
+        QueryMetricsContext.start("TestController.handle", 1, true);
+        try {
+            QueryMetricsContext.beforeStatement();
+
+            assertThatThrownBy(QueryMetricsContext::beforeStatement)
+                    .isInstanceOf(QueryBudgetExceededException.class)
+                    .hasMessageContaining("TestController.handle");
+        } finally {
+            QueryMetricsContext.finish();
+        }
+    }
+
+    private DistributionSummary summary(String name, String handler) {
+        return meterRegistry.find(name).tag("handler", handler).summary();
+    }
+
+    private long count(String name, String handler) {
+        DistributionSummary summary = summary(name, handler);
+        return summary != null ? summary.count() : 0;
+    }
+
+    private double total(String name, String handler) {
+        DistributionSummary summary = summary(name, handler);
+        return summary != null ? summary.totalAmount() : 0;
+    }
+}
@@ -0,0 +1,69 @@
+package com.back.global.retry;
+
+import com.back.domain.product.entity.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimisticLockRetryTest {
+
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("버전 충돌이 나면 새 트랜잭션에서 다시 실행하고 재시도 횟수를 집계한다")
+    void execute_RetriesOnConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = optimisticLockRetry.execute("test.retry", () -> {
+            assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Product.class, 1);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(count("test.retry", "retried")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("재시도 한도까지 충돌하면 예외를 그대로 던진다")
+    void execute_ExhaustedAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticLockRetry.execute("test.exhausted", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Product.class, 1);
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(attempts.get()).isEqualTo(5); // optimistic-lock.retry.max-attempts 기본값
+        assertThat(count("test.exhausted", "exhausted")).isEqualTo(1.0);
+    }
+
+    private double count(String operation, String outcome) {
+        Counter counter = meterRegistry.find("optimistic.lock.conflicts")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.back.global.security.jwt;
+
+import com.back.global.exception.InvalidTokenException;
+import com.back.global.exception.TokenExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtAuthenticationCacheTest {
+
+    private final String secretKey = "my-test-secret-key-my-test-secret-key!!";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationCache cache;
+    private AtomicInteger parseCount;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(secretKey, Duration.ofMinutes(10), Duration.ofDays(7));
+        cache = new JwtAuthenticationCache(100, Duration.ofSeconds(30), Clock.systemUTC());
+        parseCount = new AtomicInteger();
+    }
+
+    private AuthenticatedToken countingAuthenticate(JwtTokenProvider provider, String token) {
+        parseCount.incrementAndGet();
+        return provider.authenticate(token);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 Authentication을 반환한다")
+    void sameTokenIsParsedOnce() {
+        String token = jwtTokenProvider.generateAccessToken(1, "user", "user@test.com", "USER");
+
+        Authentication first = cache.get(token, t -> countingAuthenticate(jwtTokenProvider, t)).authentication();
+        Authentication second = cache.get(token, t -> countingAuthenticate(jwtTokenProvider, t)).authentication();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getName()).isEqualTo("user@test.com");
+        assertThat(parseCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시되지 않고 매번 예외가 발생한다")
+    void invalidTokenIsNotCached() {
+        String token = jwtTokenProvider.generateAccessToken(1, "user", "user@test.com", "USER");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(InvalidTokenException.class,
+                () -> cache.get(tampered, t -> countingAuthenticate(jwtTokenProvider, t)));
+        assertThrows(InvalidTokenException.class,
+                () -> cache.get(tampered, t -> countingAuthenticate(jwtTokenProvider, t)));
+        assertThat(parseCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("토큰이 만료되면 ttl이 남아 있어도 캐시에서 제거되어 TokenExpiredException이 발생한다")
+    void expiredTokenIsNotServedFromCache() throws InterruptedException {
+        JwtTokenProvider shortLivedProvider =
+                new JwtTokenProvider(secretKey, Duration.ofMillis(1000), Duration.ofDays(7));
+        String token = shortLivedProvider.generateAccessToken(1, "user", "user@test.com", "USER");
+
+        assertThat(cache.get(token, t -> countingAuthenticate(shortLivedProvider, t))).isNotNull();
+
+        Thread.sleep(1200);
+
+        assertThrows(TokenExpiredException.class,
+                () -> cache.get(token, t -> countingAuthenticate(shortLivedProvider, t)));
+        assertThat(parseCount).hasValue(2);
+    }
+}
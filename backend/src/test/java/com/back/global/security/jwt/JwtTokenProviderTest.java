@@ -162,4 +162,29 @@ class JwtTokenProviderTest {
         assertThrows(InvalidTokenException.class,
                 () -> jwtTokenProvider.validateToken(fakeToken));
     }
+
+    @Test
+    @DisplayName("authenticate는 한 번의 파싱으로 Authentication과 토큰 만료 시각을 반환해야 한다")
+    void authenticateReturnsAuthenticationWithExpiry() {
+        String token = jwtTokenProvider.generateAccessToken(7, "user", "user@test.com", "USER");
+
+        AuthenticatedToken authenticated = jwtTokenProvider.authenticate(token);
+
+        assertThat(authenticated.authentication().getName()).isEqualTo("user@test.com");
+        assertThat(authenticated.authentication().getAuthorities())
+                .extracting("authority")
+                .containsExactly("ROLE_USER");
+        assertThat(authenticated.expiresAt()).isEqualTo(jwtTokenProvider.getAllClaims(token).getExpiration().toInstant());
+        assertThat(authenticated.tokenId()).isEqualTo(jwtTokenProvider.getAllClaims(token).getId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("authenticate는 위변조된 토큰에 InvalidTokenException을 던져야 한다")
+    void authenticateRejectsTamperedToken() {
+        String token = jwtTokenProvider.generateAccessToken(1, "user", "user@test.com", "USER");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(InvalidTokenException.class,
+                () -> jwtTokenProvider.authenticate(tampered));
+    }
 }
@@ -65,4 +65,10 @@ VALUES (1, 1, 1, 1, 18000), -- 주문 1: 에티오피아 예가체프 1개
 INSERT INTO delivery (id, address, tracking_number, status, company)
 VALUES (1, '서울시 강남구', 'TRK987654', '배송중', 'CJ대한통운'),
        (2, '서울시 마포구', 'TRK123456', '배송중', '한진택배'),
-       (3, '서울시 강남구', 'TRK654321', '배송완료', '로젠택배');
\ No newline at end of file
+       (3, '서울시 강남구', 'TRK654321', '배송완료', '로젠택배');
+
+-- 일별 주문 집계(Daily_Sales_Rollup) - 위 주문 데이터 기준으로 재집계
+INSERT INTO daily_sales_rollup (sales_date, status, order_count, revenue)
+SELECT CAST(order_date AS DATE), status, COUNT(*), SUM(total_price)
+FROM orders
+GROUP BY CAST(order_date AS DATE), status;